@@ -0,0 +1,153 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.vaadin.flow.StateNode;
+import com.vaadin.flow.model.BeanModelType;
+import com.vaadin.flow.model.PropertyFilter;
+
+/**
+ * Benchmarks for importing beans into template models and reading them back
+ * through model proxies.
+ *
+ * @author Vaadin Ltd
+ */
+@State(Scope.Thread)
+public class BeanModelTypeBenchmark {
+
+    /**
+     * Bean used in the benchmark.
+     */
+    public static class Person {
+        private String firstName = "John";
+        private String lastName = "Doe";
+        private int age = 42;
+        private boolean active = true;
+        private Address address = new Address();
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public void setFirstName(String firstName) {
+            this.firstName = firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public void setLastName(String lastName) {
+            this.lastName = lastName;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+    }
+
+    /**
+     * Nested bean used in the benchmark.
+     */
+    public static class Address {
+        private String street = "Ruukinkatu 2-4";
+        private String city = "Turku";
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+
+    private BeanModelType<Person> modelType;
+    private Person person;
+    private StateNode importedNode;
+
+    /**
+     * Creates the model type and an imported model node.
+     */
+    @Setup
+    public void setup() {
+        modelType = new BeanModelType<>(Person.class,
+                PropertyFilter.ACCEPT_ALL);
+        person = new Person();
+        importedNode = modelType.applicationToModel(person,
+                PropertyFilter.ACCEPT_ALL);
+    }
+
+    /**
+     * Imports a bean into a new model node.
+     *
+     * @return the model node, returned to avoid dead code elimination
+     */
+    @Benchmark
+    public StateNode importBean() {
+        return modelType.applicationToModel(person, PropertyFilter.ACCEPT_ALL);
+    }
+
+    /**
+     * Reads all properties of an imported bean through a model proxy.
+     *
+     * @param blackhole
+     *            the blackhole consuming the property values
+     */
+    @Benchmark
+    public void readThroughProxy(Blackhole blackhole) {
+        Person proxy = modelType.modelToApplication(importedNode);
+        blackhole.consume(proxy.getFirstName());
+        blackhole.consume(proxy.getLastName());
+        blackhole.consume(proxy.getAge());
+        blackhole.consume(proxy.isActive());
+        blackhole.consume(proxy.getAddress().getCity());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.util.Collections;
+
+import com.vaadin.flow.dom.Element;
+import com.vaadin.server.DependencyFilter;
+import com.vaadin.server.VaadinServlet;
+import com.vaadin.server.VaadinServletService;
+import com.vaadin.server.VaadinSession;
+import com.vaadin.tests.util.AlwaysLockedVaadinSession;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
+import com.vaadin.tests.util.MockUI;
+import com.vaadin.ui.UI;
+
+/**
+ * Helpers for setting up the server-side state needed by the benchmarks.
+ *
+ * @author Vaadin Ltd
+ */
+final class BenchmarkUtil {
+
+    private BenchmarkUtil() {
+        // Only static helpers
+    }
+
+    /**
+     * Creates a UI that belongs to an always locked session of a service that
+     * uses a mock deployment configuration. XSRF protection and sync id checks
+     * are disabled so that RPC messages can be replayed.
+     *
+     * @return a new UI, not <code>null</code>
+     */
+    static UI createUI() {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setXsrfProtectionEnabled(false);
+        configuration.setSyncIdCheckEnabled(false);
+
+        VaadinServletService service = new VaadinServletService(
+                new VaadinServlet(), configuration) {
+            @Override
+            public Iterable<DependencyFilter> getDependencyFilters() {
+                return Collections.emptyList();
+            }
+        };
+
+        VaadinSession session = new AlwaysLockedVaadinSession(service);
+        VaadinSession.setCurrent(session);
+
+        return new MockUI(session);
+    }
+
+    /**
+     * Creates a detached element tree with the given number of children, each
+     * having a couple of attributes, properties and styles.
+     *
+     * @param size
+     *            the number of child elements
+     * @return the root element of the tree
+     */
+    static Element createElementTree(int size) {
+        Element root = new Element("div");
+        for (int i = 0; i < size; i++) {
+            Element child = new Element("span");
+            child.setAttribute("id", "item-" + i);
+            child.setAttribute("class", "item");
+            child.setProperty("value", i);
+            child.setProperty("label", "Item " + i);
+            child.getStyle().set("color", "red");
+            child.setText("Item " + i);
+            root.appendChild(child);
+        }
+        return root;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.vaadin.data.provider.ArrayUpdater;
+import com.vaadin.data.provider.DataCommunicator;
+import com.vaadin.data.provider.DataProvider;
+import com.vaadin.flow.StateTree;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.ui.UI;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
+/**
+ * Benchmarks for flushing data from a {@link DataCommunicator} while
+ * scrolling through an in-memory data set.
+ *
+ * @author Vaadin Ltd
+ */
+@State(Scope.Thread)
+public class DataCommunicatorBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({ "1000", "100000" })
+    private int items;
+
+    private StateTree stateTree;
+    private DataCommunicator<String> dataCommunicator;
+    private int sentItems;
+    private int start;
+
+    private final ArrayUpdater arrayUpdater = sizeChange -> new ArrayUpdater.Update() {
+        @Override
+        public void clear(int start, int length) {
+            // Nothing to clear
+        }
+
+        @Override
+        public void set(int start, List<JsonValue> items) {
+            sentItems += items.size();
+        }
+
+        @Override
+        public void commit(int updateId) {
+            dataCommunicator.confirmUpdate(updateId);
+        }
+    };
+
+    /**
+     * Creates a data communicator attached to a UI using a list data provider.
+     */
+    @Setup
+    public void setup() {
+        UI ui = BenchmarkUtil.createUI();
+        stateTree = ui.getInternals().getStateTree();
+
+        Element element = new Element("div");
+        ui.getElement().appendChild(element);
+
+        dataCommunicator = new DataCommunicator<>(this::generateData,
+                arrayUpdater, data -> {
+                }, element.getNode());
+
+        List<String> data = IntStream.range(0, items)
+                .mapToObj(i -> "Item " + i).collect(Collectors.toList());
+        dataCommunicator.setDataProvider(DataProvider.ofCollection(data),
+                null);
+        dataCommunicator.setRequestedRange(0, PAGE_SIZE);
+        stateTree.runExecutionsBeforeClientResponse();
+    }
+
+    /**
+     * Requests the next page of data and flushes it.
+     *
+     * @return the number of sent items, returned to avoid dead code
+     *         elimination
+     */
+    @Benchmark
+    public int scrollAndFlush() {
+        start = (start + PAGE_SIZE) % (items - PAGE_SIZE);
+        dataCommunicator.setRequestedRange(start, PAGE_SIZE);
+        stateTree.runExecutionsBeforeClientResponse();
+        return sentItems;
+    }
+
+    /**
+     * Resets the data communicator and flushes the current page again.
+     *
+     * @return the number of sent items, returned to avoid dead code
+     *         elimination
+     */
+    @Benchmark
+    public int resetAndFlush() {
+        dataCommunicator.reset();
+        stateTree.runExecutionsBeforeClientResponse();
+        return sentItems;
+    }
+
+    private JsonValue generateData(String key, String item) {
+        JsonObject json = Json.createObject();
+        json.put("key", key);
+        json.put("label", item);
+        return json;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.vaadin.flow.dom.Element;
+
+/**
+ * Benchmarks for building detached element trees.
+ *
+ * @author Vaadin Ltd
+ */
+@State(Scope.Thread)
+public class ElementTreeBenchmark {
+
+    @Param({ "10", "1000" })
+    private int size;
+
+    /**
+     * Builds an element tree with attributes, properties, styles and text.
+     *
+     * @return the root element, returned to avoid dead code elimination
+     */
+    @Benchmark
+    public Element buildElementTree() {
+        return BenchmarkUtil.createElementTree(size);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.vaadin.flow.JsonCodec;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.ui.UI;
+
+import elemental.json.Json;
+import elemental.json.JsonValue;
+
+/**
+ * Benchmarks for encoding and decoding values with {@link JsonCodec}.
+ *
+ * @author Vaadin Ltd
+ */
+@State(Scope.Thread)
+public class JsonCodecBenchmark {
+
+    private Element element;
+
+    private final JsonValue stringJson = Json.create("Hello world");
+    private final JsonValue numberJson = Json.create(42);
+    private final JsonValue booleanJson = Json.create(true);
+
+    /**
+     * Creates an attached element to encode.
+     */
+    @Setup
+    public void setup() {
+        UI ui = BenchmarkUtil.createUI();
+        element = new Element("div");
+        ui.getElement().appendChild(element);
+    }
+
+    /**
+     * Encodes values of different types with type info.
+     *
+     * @param blackhole
+     *            the blackhole consuming the encoded values
+     */
+    @Benchmark
+    public void encodeWithTypeInfo(Blackhole blackhole) {
+        blackhole.consume(JsonCodec.encodeWithTypeInfo("Hello world"));
+        blackhole.consume(JsonCodec.encodeWithTypeInfo(Integer.valueOf(42)));
+        blackhole.consume(JsonCodec.encodeWithTypeInfo(Boolean.TRUE));
+        blackhole.consume(JsonCodec.encodeWithTypeInfo(element));
+    }
+
+    /**
+     * Encodes values of different types without type info.
+     *
+     * @param blackhole
+     *            the blackhole consuming the encoded values
+     */
+    @Benchmark
+    public void encodeWithoutTypeInfo(Blackhole blackhole) {
+        blackhole.consume(JsonCodec.encodeWithoutTypeInfo("Hello world"));
+        blackhole.consume(JsonCodec.encodeWithoutTypeInfo(Integer.valueOf(42)));
+        blackhole.consume(JsonCodec.encodeWithoutTypeInfo(Boolean.TRUE));
+    }
+
+    /**
+     * Decodes values as different types.
+     *
+     * @param blackhole
+     *            the blackhole consuming the decoded values
+     */
+    @Benchmark
+    public void decodeAs(Blackhole blackhole) {
+        blackhole.consume(JsonCodec.decodeAs(stringJson, String.class));
+        blackhole.consume(JsonCodec.decodeAs(numberJson, Integer.class));
+        blackhole.consume(JsonCodec.decodeAs(numberJson, Double.class));
+        blackhole.consume(JsonCodec.decodeAs(booleanJson, Boolean.class));
+    }
+
+    /**
+     * Decodes values without type information.
+     *
+     * @param blackhole
+     *            the blackhole consuming the decoded values
+     */
+    @Benchmark
+    public void decodeWithoutTypeInfo(Blackhole blackhole) {
+        blackhole.consume(JsonCodec.decodeWithoutTypeInfo(stringJson));
+        blackhole.consume(JsonCodec.decodeWithoutTypeInfo(numberJson));
+        blackhole.consume(JsonCodec.decodeWithoutTypeInfo(booleanJson));
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.vaadin.util.JsonSerializer;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
+/**
+ * Benchmarks for converting beans to and from JSON with
+ * {@link JsonSerializer}, e.g. for sending a page of Grid items.
+ * <p>
+ * The <code>introspected</code> benchmarks use the previous implementation,
+ * which looked up the bean properties with {@link Introspector} and called
+ * the accessors with {@link Method#invoke(Object, Object...)} for every bean,
+ * as a baseline for the cached accessors.
+ *
+ * @author Vaadin Ltd
+ */
+@State(Scope.Thread)
+public class JsonSerializerBenchmark {
+
+    private static final int ROWS = 100;
+
+    /**
+     * Bean with 30 properties used in the benchmark.
+     */
+    public static class Row {
+        private int intValue0;
+        private int intValue1;
+        private int intValue2;
+        private int intValue3;
+        private int intValue4;
+        private int intValue5;
+        private int intValue6;
+        private int intValue7;
+        private int intValue8;
+        private int intValue9;
+        private String stringValue0;
+        private String stringValue1;
+        private String stringValue2;
+        private String stringValue3;
+        private String stringValue4;
+        private String stringValue5;
+        private String stringValue6;
+        private String stringValue7;
+        private String stringValue8;
+        private String stringValue9;
+        private double doubleValue0;
+        private double doubleValue1;
+        private double doubleValue2;
+        private double doubleValue3;
+        private double doubleValue4;
+        private boolean booleanValue0;
+        private boolean booleanValue1;
+        private boolean booleanValue2;
+        private boolean booleanValue3;
+        private boolean booleanValue4;
+
+        public int getIntValue0() {
+            return intValue0;
+        }
+
+        public void setIntValue0(int intValue0) {
+            this.intValue0 = intValue0;
+        }
+
+        public int getIntValue1() {
+            return intValue1;
+        }
+
+        public void setIntValue1(int intValue1) {
+            this.intValue1 = intValue1;
+        }
+
+        public int getIntValue2() {
+            return intValue2;
+        }
+
+        public void setIntValue2(int intValue2) {
+            this.intValue2 = intValue2;
+        }
+
+        public int getIntValue3() {
+            return intValue3;
+        }
+
+        public void setIntValue3(int intValue3) {
+            this.intValue3 = intValue3;
+        }
+
+        public int getIntValue4() {
+            return intValue4;
+        }
+
+        public void setIntValue4(int intValue4) {
+            this.intValue4 = intValue4;
+        }
+
+        public int getIntValue5() {
+            return intValue5;
+        }
+
+        public void setIntValue5(int intValue5) {
+            this.intValue5 = intValue5;
+        }
+
+        public int getIntValue6() {
+            return intValue6;
+        }
+
+        public void setIntValue6(int intValue6) {
+            this.intValue6 = intValue6;
+        }
+
+        public int getIntValue7() {
+            return intValue7;
+        }
+
+        public void setIntValue7(int intValue7) {
+            this.intValue7 = intValue7;
+        }
+
+        public int getIntValue8() {
+            return intValue8;
+        }
+
+        public void setIntValue8(int intValue8) {
+            this.intValue8 = intValue8;
+        }
+
+        public int getIntValue9() {
+            return intValue9;
+        }
+
+        public void setIntValue9(int intValue9) {
+            this.intValue9 = intValue9;
+        }
+
+        public String getStringValue0() {
+            return stringValue0;
+        }
+
+        public void setStringValue0(String stringValue0) {
+            this.stringValue0 = stringValue0;
+        }
+
+        public String getStringValue1() {
+            return stringValue1;
+        }
+
+        public void setStringValue1(String stringValue1) {
+            this.stringValue1 = stringValue1;
+        }
+
+        public String getStringValue2() {
+            return stringValue2;
+        }
+
+        public void setStringValue2(String stringValue2) {
+            this.stringValue2 = stringValue2;
+        }
+
+        public String getStringValue3() {
+            return stringValue3;
+        }
+
+        public void setStringValue3(String stringValue3) {
+            this.stringValue3 = stringValue3;
+        }
+
+        public String getStringValue4() {
+            return stringValue4;
+        }
+
+        public void setStringValue4(String stringValue4) {
+            this.stringValue4 = stringValue4;
+        }
+
+        public String getStringValue5() {
+            return stringValue5;
+        }
+
+        public void setStringValue5(String stringValue5) {
+            this.stringValue5 = stringValue5;
+        }
+
+        public String getStringValue6() {
+            return stringValue6;
+        }
+
+        public void setStringValue6(String stringValue6) {
+            this.stringValue6 = stringValue6;
+        }
+
+        public String getStringValue7() {
+            return stringValue7;
+        }
+
+        public void setStringValue7(String stringValue7) {
+            this.stringValue7 = stringValue7;
+        }
+
+        public String getStringValue8() {
+            return stringValue8;
+        }
+
+        public void setStringValue8(String stringValue8) {
+            this.stringValue8 = stringValue8;
+        }
+
+        public String getStringValue9() {
+            return stringValue9;
+        }
+
+        public void setStringValue9(String stringValue9) {
+            this.stringValue9 = stringValue9;
+        }
+
+        public double getDoubleValue0() {
+            return doubleValue0;
+        }
+
+        public void setDoubleValue0(double doubleValue0) {
+            this.doubleValue0 = doubleValue0;
+        }
+
+        public double getDoubleValue1() {
+            return doubleValue1;
+        }
+
+        public void setDoubleValue1(double doubleValue1) {
+            this.doubleValue1 = doubleValue1;
+        }
+
+        public double getDoubleValue2() {
+            return doubleValue2;
+        }
+
+        public void setDoubleValue2(double doubleValue2) {
+            this.doubleValue2 = doubleValue2;
+        }
+
+        public double getDoubleValue3() {
+            return doubleValue3;
+        }
+
+        public void setDoubleValue3(double doubleValue3) {
+            this.doubleValue3 = doubleValue3;
+        }
+
+        public double getDoubleValue4() {
+            return doubleValue4;
+        }
+
+        public void setDoubleValue4(double doubleValue4) {
+            this.doubleValue4 = doubleValue4;
+        }
+
+        public boolean isBooleanValue0() {
+            return booleanValue0;
+        }
+
+        public void setBooleanValue0(boolean booleanValue0) {
+            this.booleanValue0 = booleanValue0;
+        }
+
+        public boolean isBooleanValue1() {
+            return booleanValue1;
+        }
+
+        public void setBooleanValue1(boolean booleanValue1) {
+            this.booleanValue1 = booleanValue1;
+        }
+
+        public boolean isBooleanValue2() {
+            return booleanValue2;
+        }
+
+        public void setBooleanValue2(boolean booleanValue2) {
+            this.booleanValue2 = booleanValue2;
+        }
+
+        public boolean isBooleanValue3() {
+            return booleanValue3;
+        }
+
+        public void setBooleanValue3(boolean booleanValue3) {
+            this.booleanValue3 = booleanValue3;
+        }
+
+        public boolean isBooleanValue4() {
+            return booleanValue4;
+        }
+
+        public void setBooleanValue4(boolean booleanValue4) {
+            this.booleanValue4 = booleanValue4;
+        }
+    }
+
+    private List<Row> rows;
+    private JsonArray rowsJson;
+
+    /**
+     * Creates a page of rows and their JSON representation.
+     */
+    @Setup
+    public void setup() {
+        rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Row row = new Row();
+            row.setIntValue0(i);
+            row.setIntValue1(i);
+            row.setIntValue2(i);
+            row.setIntValue3(i);
+            row.setIntValue4(i);
+            row.setIntValue5(i);
+            row.setIntValue6(i);
+            row.setIntValue7(i);
+            row.setIntValue8(i);
+            row.setIntValue9(i);
+            row.setStringValue0("Row " + i);
+            row.setStringValue1("Row " + i);
+            row.setStringValue2("Row " + i);
+            row.setStringValue3("Row " + i);
+            row.setStringValue4("Row " + i);
+            row.setStringValue5("Row " + i);
+            row.setStringValue6("Row " + i);
+            row.setStringValue7("Row " + i);
+            row.setStringValue8("Row " + i);
+            row.setStringValue9("Row " + i);
+            row.setDoubleValue0(i * 1.5);
+            row.setDoubleValue1(i * 1.5);
+            row.setDoubleValue2(i * 1.5);
+            row.setDoubleValue3(i * 1.5);
+            row.setDoubleValue4(i * 1.5);
+            row.setBooleanValue0(i % 2 == 0);
+            row.setBooleanValue1(i % 2 == 0);
+            row.setBooleanValue2(i % 2 == 0);
+            row.setBooleanValue3(i % 2 == 0);
+            row.setBooleanValue4(i % 2 == 0);
+            rows.add(row);
+        }
+        rowsJson = JsonSerializer.toJson(rows);
+    }
+
+    /**
+     * Converts a page of rows to JSON.
+     *
+     * @return the JSON array, returned to avoid dead code elimination
+     */
+    @Benchmark
+    public JsonValue toJson() {
+        return JsonSerializer.toJson(rows);
+    }
+
+    /**
+     * Converts a page of rows to JSON by introspecting every row.
+     *
+     * @return the JSON array, returned to avoid dead code elimination
+     * @throws Exception
+     *             if the rows can't be introspected
+     */
+    @Benchmark
+    public JsonValue toJsonIntrospected() throws Exception {
+        JsonArray array = Json.createArray();
+        for (Row row : rows) {
+            array.set(array.length(), introspectedToJson(row));
+        }
+        return array;
+    }
+
+    /**
+     * Converts a page of rows from JSON.
+     *
+     * @return the rows, returned to avoid dead code elimination
+     */
+    @Benchmark
+    public List<Row> toObjects() {
+        return JsonSerializer.toObjects(Row.class, rowsJson);
+    }
+
+    /**
+     * Converts a page of rows from JSON by introspecting every row.
+     *
+     * @return the rows, returned to avoid dead code elimination
+     * @throws Exception
+     *             if the rows can't be introspected
+     */
+    @Benchmark
+    public List<Row> toObjectsIntrospected() throws Exception {
+        List<Row> result = new ArrayList<>(rowsJson.length());
+        for (int i = 0; i < rowsJson.length(); i++) {
+            result.add(introspectedToObject(Row.class,
+                    rowsJson.getObject(i)));
+        }
+        return result;
+    }
+
+    private static JsonObject introspectedToJson(Object bean)
+            throws IntrospectionException, IllegalAccessException,
+            InvocationTargetException {
+        JsonObject json = Json.createObject();
+        BeanInfo info = Introspector.getBeanInfo(bean.getClass());
+        for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
+            if ("class".equals(pd.getName())) {
+                continue;
+            }
+            Method reader = pd.getReadMethod();
+            if (reader != null) {
+                json.put(pd.getName(),
+                        JsonSerializer.toJson(reader.invoke(bean)));
+            }
+        }
+        return json;
+    }
+
+    private static <T> T introspectedToObject(Class<T> type, JsonObject json)
+            throws IntrospectionException, ReflectiveOperationException {
+        T instance = type.newInstance();
+        BeanInfo info = Introspector.getBeanInfo(type);
+        for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
+            Method writer = pd.getWriteMethod();
+            if (writer != null && json.hasKey(pd.getName())) {
+                writer.invoke(instance, JsonSerializer.toObject(
+                        writer.getParameterTypes()[0],
+                        json.get(pd.getName())));
+            }
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.StringReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.vaadin.flow.dom.Element;
+import com.vaadin.server.VaadinRequest;
+import com.vaadin.server.communication.ServerRpcHandler;
+import com.vaadin.shared.ApplicationConstants;
+import com.vaadin.shared.JsonConstants;
+import com.vaadin.ui.UI;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+/**
+ * Benchmarks for parsing and dispatching RPC messages from the client.
+ *
+ * @author Vaadin Ltd
+ */
+@State(Scope.Thread)
+public class ServerRpcHandlerBenchmark {
+
+    @Param({ "1", "100" })
+    private int invocations;
+
+    private UI ui;
+    private VaadinRequest request;
+    private JsonArray rpcInvocations;
+    private int eventCount;
+
+    private final ServerRpcHandler rpcHandler = new ServerRpcHandler();
+
+    /**
+     * Creates a UI with elements listening to click events and the RPC
+     * invocations firing those events.
+     */
+    @Setup
+    public void setup() {
+        ui = BenchmarkUtil.createUI();
+
+        request = mock(VaadinRequest.class);
+        when(request.getService()).thenReturn(ui.getSession().getService());
+
+        rpcInvocations = Json.createArray();
+        for (int i = 0; i < invocations; i++) {
+            Element element = new Element("button");
+            element.addEventListener("click", event -> eventCount++);
+            ui.getElement().appendChild(element);
+
+            JsonObject invocation = Json.createObject();
+            invocation.put(JsonConstants.RPC_TYPE,
+                    JsonConstants.RPC_TYPE_EVENT);
+            invocation.put(JsonConstants.RPC_NODE, element.getNode().getId());
+            invocation.put(JsonConstants.RPC_EVENT_TYPE, "click");
+            rpcInvocations.set(i, invocation);
+        }
+    }
+
+    /**
+     * Handles a message containing click event invocations.
+     *
+     * @return the number of handled events, returned to avoid dead code
+     *         elimination
+     * @throws Exception
+     *             if handling the message fails
+     */
+    @Benchmark
+    public int handleRpc() throws Exception {
+        rpcHandler.handleRpc(ui, new StringReader(createMessage()), request);
+        return eventCount;
+    }
+
+    private String createMessage() {
+        JsonObject message = Json.createObject();
+        message.put(ApplicationConstants.CLIENT_TO_SERVER_ID,
+                ui.getInternals().getLastProcessedClientToServerId() + 1);
+        message.put(ApplicationConstants.RPC_INVOCATIONS, rpcInvocations);
+        return message.toJson();
+    }
+}
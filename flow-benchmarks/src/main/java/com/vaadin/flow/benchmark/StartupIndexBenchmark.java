@@ -0,0 +1,189 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.vaadin.router.Route;
+import com.vaadin.server.startup.RouteRegistryInitializer;
+import com.vaadin.server.startup.StartupIndex;
+import com.vaadin.ui.Component;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+
+/**
+ * Compares registering routes on startup from the classes found by the servlet
+ * container scan with registering them from a {@link StartupIndex}.
+ * <p>
+ * <code>scanned</code> validates all the scanned classes using reflection,
+ * <code>indexed</code> gets the same scanned classes but skips validating the
+ * indexed ones, and <code>indexOnly</code> corresponds to a deployment that
+ * has disabled the container scan and only uses the index. The time the
+ * container spends scanning the classpath comes on top of the
+ * <code>scanned</code> and <code>indexed</code> results and isn't measured
+ * here.
+ *
+ * @author Vaadin Ltd
+ */
+@State(Scope.Thread)
+public class StartupIndexBenchmark {
+
+    @Param({ "100", "1000" })
+    private int routes;
+
+    private Path directory;
+    private URLClassLoader classLoader;
+    private URLClassLoader indexClassLoader;
+
+    private Set<Class<?>> scannedClasses;
+    private ServletContext scannedContext;
+    private ServletContext indexedContext;
+
+    private final RouteRegistryInitializer initializer = new RouteRegistryInitializer();
+
+    /**
+     * Generates the route classes and an index listing them.
+     *
+     * @throws Exception
+     *             if generating the classes or the index fails
+     */
+    @Setup
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("startup-index-benchmark");
+        File classesDirectory = Files
+                .createDirectory(directory.resolve("classes")).toFile();
+        Path indexDirectory = Files.createDirectory(directory.resolve("index"));
+
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < routes; i++) {
+            String name = "com.vaadin.flow.benchmark.generated.Route" + i;
+            new ByteBuddy().subclass(Component.class).name(name)
+                    .annotateType(AnnotationDescription.Builder
+                            .ofType(Route.class)
+                            .define("value", "route-" + i).build())
+                    .make().saveIn(classesDirectory);
+            names.add(name);
+        }
+
+        Path index = indexDirectory.resolve(StartupIndex.ROUTES_RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, names, StandardCharsets.UTF_8);
+
+        classLoader = new URLClassLoader(
+                new URL[] { classesDirectory.toURI().toURL() },
+                getClass().getClassLoader());
+        // Only the index resource is added, the classes are the same
+        indexClassLoader = new URLClassLoader(
+                new URL[] { indexDirectory.toUri().toURL() }, classLoader);
+
+        scannedClasses = new LinkedHashSet<>();
+        for (String name : names) {
+            scannedClasses.add(Class.forName(name, false, classLoader));
+        }
+        scannedContext = createContext(classLoader);
+        indexedContext = createContext(indexClassLoader);
+    }
+
+    /**
+     * Removes the generated classes and index.
+     *
+     * @throws IOException
+     *             if removing the files fails
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        indexClassLoader.close();
+        classLoader.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    /**
+     * Registers the routes scanned by the container without an index.
+     *
+     * @throws ServletException
+     *             if registering the routes fails
+     */
+    @Benchmark
+    public void scanned() throws ServletException {
+        initializer.onStartup(scannedClasses, scannedContext);
+    }
+
+    /**
+     * Registers the routes scanned by the container when they are also in the
+     * index.
+     *
+     * @throws ServletException
+     *             if registering the routes fails
+     */
+    @Benchmark
+    public void indexed() throws ServletException {
+        initializer.onStartup(scannedClasses, indexedContext);
+    }
+
+    /**
+     * Registers the routes from the index when the container scan is
+     * disabled.
+     *
+     * @throws ServletException
+     *             if registering the routes fails
+     */
+    @Benchmark
+    public void indexOnly() throws ServletException {
+        initializer.onStartup(Collections.emptySet(), indexedContext);
+    }
+
+    /*
+     * The context has no attributes, so each invocation registers the routes
+     * in a new registry. Invocations aren't recorded to not fill the memory.
+     */
+    private static ServletContext createContext(ClassLoader classLoader) {
+        ServletContext context = mock(ServletContext.class,
+                withSettings().stubOnly());
+        when(context.getClassLoader()).thenReturn(classLoader);
+        return context;
+    }
+}
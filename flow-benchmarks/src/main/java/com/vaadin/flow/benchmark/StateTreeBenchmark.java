@@ -0,0 +1,114 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.vaadin.flow.StateNode;
+import com.vaadin.flow.StateTree;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.ui.UI;
+
+/**
+ * Benchmarks for attaching element trees to a state tree and collecting the
+ * resulting changes.
+ *
+ * @author Vaadin Ltd
+ */
+@State(Scope.Thread)
+public class StateTreeBenchmark {
+
+    @Param({ "10", "1000" })
+    private int size;
+
+    private UI ui;
+    private StateTree stateTree;
+    private Element attachedTree;
+    private int[] nodeIds;
+    private int round;
+
+    /**
+     * Creates a UI with an attached element tree.
+     */
+    @Setup
+    public void setup() {
+        ui = BenchmarkUtil.createUI();
+        stateTree = ui.getInternals().getStateTree();
+
+        attachedTree = BenchmarkUtil.createElementTree(size);
+        ui.getElement().appendChild(attachedTree);
+        stateTree.collectChanges(change -> {
+        });
+
+        nodeIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            nodeIds[i] = attachedTree.getChild(i).getNode().getId();
+        }
+    }
+
+    /**
+     * Attaches a new element tree, collects the changes and detaches the tree
+     * again.
+     *
+     * @param blackhole
+     *            the blackhole consuming the changes
+     */
+    @Benchmark
+    public void attachAndCollectChanges(Blackhole blackhole) {
+        Element tree = BenchmarkUtil.createElementTree(size);
+
+        ui.getElement().appendChild(tree);
+        stateTree.collectChanges(blackhole::consume);
+
+        tree.removeFromParent();
+        stateTree.collectChanges(blackhole::consume);
+    }
+
+    /**
+     * Updates a property of every element in an attached tree and collects the
+     * changes.
+     *
+     * @param blackhole
+     *            the blackhole consuming the changes
+     */
+    @Benchmark
+    public void modifyAndCollectChanges(Blackhole blackhole) {
+        round++;
+        for (int i = 0; i < size; i++) {
+            attachedTree.getChild(i).setProperty("value", round);
+        }
+        stateTree.collectChanges(blackhole::consume);
+    }
+
+    /**
+     * Looks up every node of the attached tree by its id.
+     *
+     * @param blackhole
+     *            the blackhole consuming the nodes
+     */
+    @Benchmark
+    public void getNodeById(Blackhole blackhole) {
+        for (int id : nodeIds) {
+            StateNode node = stateTree.getNodeById(id);
+            blackhole.consume(node);
+        }
+    }
+}
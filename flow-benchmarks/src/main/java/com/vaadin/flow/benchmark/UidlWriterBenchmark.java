@@ -0,0 +1,96 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.vaadin.flow.dom.Element;
+import com.vaadin.server.communication.UidlWriter;
+import com.vaadin.ui.UI;
+
+import elemental.json.JsonObject;
+
+/**
+ * Benchmarks for creating UIDL responses for a UI where every element of a
+ * tree has been modified.
+ *
+ * @author Vaadin Ltd
+ */
+@State(Scope.Thread)
+public class UidlWriterBenchmark {
+
+    @Param({ "10", "1000" })
+    private int size;
+
+    private UI ui;
+    private Element tree;
+    private int round;
+
+    private final UidlWriter uidlWriter = new UidlWriter();
+
+    /**
+     * Creates a UI with an attached element tree and writes the initial
+     * response.
+     */
+    @Setup
+    public void setup() {
+        ui = BenchmarkUtil.createUI();
+        tree = BenchmarkUtil.createElementTree(size);
+        ui.getElement().appendChild(tree);
+
+        uidlWriter.createUidl(ui, false);
+    }
+
+    /**
+     * Creates a response as a JSON object.
+     *
+     * @return the response, returned to avoid dead code elimination
+     */
+    @Benchmark
+    public JsonObject createUidl() {
+        modifyTree();
+        return uidlWriter.createUidl(ui, false);
+    }
+
+    /**
+     * Writes a response as a stream of JSON.
+     *
+     * @return the response, returned to avoid dead code elimination
+     * @throws IOException
+     *             never thrown by a string writer
+     */
+    @Benchmark
+    public String writeUidl() throws IOException {
+        modifyTree();
+        StringWriter writer = new StringWriter();
+        uidlWriter.writeUidl(ui, false, writer);
+        return writer.toString();
+    }
+
+    private void modifyTree() {
+        round++;
+        for (int i = 0; i < size; i++) {
+            tree.getChild(i).setProperty("value", round);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.model;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.vaadin.flow.benchmark.BeanModelTypeBenchmark.Person;
+import com.vaadin.flow.model.BeanPropertyAccessors.Getter;
+import com.vaadin.util.ReflectTools;
+
+/**
+ * Compares reading bean properties through the accessors generated by
+ * {@link BeanPropertyAccessors} with reading them using
+ * {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * In the same package as {@link BeanPropertyAccessors} to be able to use its
+ * package private API.
+ *
+ * @author Vaadin Ltd
+ */
+@State(Scope.Thread)
+public class BeanPropertyAccessorsBenchmark {
+
+    private final Person person = new Person();
+
+    private List<Method> methods;
+    private List<Getter> generatedGetters;
+
+    /**
+     * Finds the getter methods and generates the accessors.
+     */
+    @Setup
+    public void setup() {
+        methods = ReflectTools.getGetterMethods(Person.class)
+                .collect(Collectors.toList());
+        generatedGetters = methods.stream()
+                .map(BeanPropertyAccessors::createGetter)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads all the properties using reflection.
+     *
+     * @param blackhole
+     *            the blackhole consuming the property values
+     * @throws Exception
+     *             if reading a property fails
+     */
+    @Benchmark
+    public void readWithReflection(Blackhole blackhole) throws Exception {
+        for (Method method : methods) {
+            blackhole.consume(method.invoke(person));
+        }
+    }
+
+    /**
+     * Reads all the properties using the generated accessors.
+     *
+     * @param blackhole
+     *            the blackhole consuming the property values
+     * @throws Exception
+     *             if reading a property fails
+     */
+    @Benchmark
+    public void readWithGeneratedAccessors(Blackhole blackhole)
+            throws Exception {
+        for (Getter getter : generatedGetters) {
+            blackhole.consume(getter.get(person));
+        }
+    }
+}
@@ -26,10 +26,15 @@ import com.vaadin.shared.JsonConstants;
 
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 
 /**
  * Updates a state tree based on changes in JSON format.
+ * <p>
+ * Each change is either a JSON object with named keys or a compact JSON array
+ * where the values are identified by their position, as defined by the
+ * <code>COMPACT_CHANGE_TYPE_</code> constants in {@link JsonConstants}.
  *
  * @author Vaadin Ltd
  */
@@ -44,7 +49,8 @@ public class TreeChangeProcessor {
      * @param tree
      *            the tree to update
      * @param changes
-     *            the JSON array of changes
+     *            the JSON array of changes, each either in the object or the
+     *            compact array format
      * @return a set of updated nodes addressed by the {@code changes}
      */
     public static JsSet<StateNode> processChanges(StateTree tree,
@@ -59,10 +65,9 @@ public class TreeChangeProcessor {
 
             // Attach all nodes before doing anything else
             for (int i = 0; i < length; i++) {
-                JsonObject change = changes.getObject(i);
+                JsonValue change = changes.get(i);
                 if (isAttach(change)) {
-                    int nodeId = (int) change
-                            .getNumber(JsonConstants.CHANGE_NODE);
+                    int nodeId = getNodeId(change);
 
                     StateNode node = new StateNode(nodeId, tree);
                     tree.registerNode(node);
@@ -72,9 +77,14 @@ public class TreeChangeProcessor {
 
             // Then process all non-attach changes
             for (int i = 0; i < length; i++) {
-                JsonObject change = changes.getObject(i);
+                JsonValue change = changes.get(i);
                 if (!isAttach(change)) {
-                    nodes.add(processChange(tree, change));
+                    if (isCompact(change)) {
+                        nodes.add(
+                                processCompactChange(tree, (JsonArray) change));
+                    } else {
+                        nodes.add(processChange(tree, (JsonObject) change));
+                    }
                 }
             }
             return nodes;
@@ -84,9 +94,25 @@ public class TreeChangeProcessor {
 
     }
 
-    private static boolean isAttach(JsonObject change) {
-        return JsonConstants.CHANGE_TYPE_ATTACH
-                .equals(change.getString(JsonConstants.CHANGE_TYPE));
+    private static boolean isCompact(JsonValue change) {
+        return change.getType() == JsonType.ARRAY;
+    }
+
+    private static boolean isAttach(JsonValue change) {
+        if (isCompact(change)) {
+            return (int) ((JsonArray) change)
+                    .getNumber(0) == JsonConstants.COMPACT_CHANGE_TYPE_ATTACH;
+        }
+        return JsonConstants.CHANGE_TYPE_ATTACH.equals(
+                ((JsonObject) change).getString(JsonConstants.CHANGE_TYPE));
+    }
+
+    private static int getNodeId(JsonValue change) {
+        if (isCompact(change)) {
+            return (int) ((JsonArray) change).getNumber(1);
+        }
+        return (int) ((JsonObject) change)
+                .getNumber(JsonConstants.CHANGE_NODE);
     }
 
     /**
@@ -128,6 +154,92 @@ public class TreeChangeProcessor {
         return node;
     }
 
+    /**
+     * Update a state tree based on a compact JSON change. This method is public
+     * for testing purposes.
+     *
+     * @param tree
+     *            the tree to update
+     * @param change
+     *            the compact JSON change
+     * @return the updated node addressed by the provided {@code change}
+     */
+    public static StateNode processCompactChange(StateTree tree,
+            JsonArray change) {
+        int type = (int) change.getNumber(0);
+        int nodeId = (int) change.getNumber(1);
+
+        StateNode node = tree.getNode(nodeId);
+        assert node != null;
+
+        switch (type) {
+        case JsonConstants.COMPACT_CHANGE_TYPE_NOOP: {
+            int featureId = (int) change.getNumber(2);
+            if (change.getBoolean(3)) {
+                // list feature
+                node.getList(featureId);
+            } else {
+                node.getMap(featureId);
+            }
+            break;
+        }
+        case JsonConstants.COMPACT_CHANGE_TYPE_PUT: {
+            Object value = ClientJsonCodec
+                    .decodeWithoutTypeInfo(change.get(4));
+            findCompactProperty(change, node).setValue(value);
+            break;
+        }
+        case JsonConstants.COMPACT_CHANGE_TYPE_PUT_NODE: {
+            int childId = (int) change.getNumber(4);
+            StateNode child = tree.getNode(childId);
+            assert child != null;
+
+            findCompactProperty(change, node).setValue(child);
+            break;
+        }
+        case JsonConstants.COMPACT_CHANGE_TYPE_REMOVE:
+            findCompactProperty(change, node).removeValue();
+            break;
+        case JsonConstants.COMPACT_CHANGE_TYPE_SPLICE_REMOVE:
+            node.getList((int) change.getNumber(2)).splice(
+                    (int) change.getNumber(3), (int) change.getNumber(4));
+            break;
+        case JsonConstants.COMPACT_CHANGE_TYPE_SPLICE_ADD:
+            node.getList((int) change.getNumber(2)).splice(
+                    (int) change.getNumber(3), 0,
+                    ClientJsonCodec.jsonArrayAsJsArray(change.getArray(4)));
+            break;
+        case JsonConstants.COMPACT_CHANGE_TYPE_SPLICE_ADD_NODES:
+            node.getList((int) change.getNumber(2)).splice(
+                    (int) change.getNumber(3), 0,
+                    getNodes(tree, change.getArray(4)));
+            break;
+        case JsonConstants.COMPACT_CHANGE_TYPE_DETACH:
+            processDetachChange(node);
+            break;
+        default:
+            assert false : "Unsupported compact change type: " + type;
+        }
+        return node;
+    }
+
+    private static MapProperty findCompactProperty(JsonArray change,
+            StateNode node) {
+        NodeMap map = node.getMap((int) change.getNumber(2));
+        return map.getProperty(getCompactKey(change.get(3), node.getTree()));
+    }
+
+    private static String getCompactKey(JsonValue key, StateTree tree) {
+        if (key.getType() == JsonType.NUMBER) {
+            // Reference to the string dictionary in the constant pool
+            String id = String.valueOf((int) key.asNumber());
+            JsonValue value = tree.getRegistry().getConstantPool().get(id);
+            assert value != null : "No string constant found with id " + id;
+            return value.asString();
+        }
+        return key.asString();
+    }
+
     private static void processDetachChange(StateNode node) {
         node.getTree().unregisterNode(node);
     }
@@ -201,22 +313,26 @@ public class TreeChangeProcessor {
         } else if (change.hasKey(JsonConstants.CHANGE_SPLICE_ADD_NODES)) {
             JsonArray addNodes = change
                     .getArray(JsonConstants.CHANGE_SPLICE_ADD_NODES);
-            int length = addNodes.length();
 
-            JsArray<StateNode> add = JsCollections.array();
+            list.splice(index, remove, getNodes(node.getTree(), addNodes));
+        } else {
+            list.splice(index, remove);
+        }
+    }
 
-            StateTree tree = node.getTree();
-            for (int i = 0; i < length; i++) {
-                int childId = (int) addNodes.getNumber(i);
-                StateNode child = tree.getNode(childId);
-                assert child != null : "No child node found with id " + childId;
+    private static JsArray<StateNode> getNodes(StateTree tree,
+            JsonArray nodeIds) {
+        int length = nodeIds.length();
 
-                add.set(i, child);
-            }
+        JsArray<StateNode> nodes = JsCollections.array();
 
-            list.splice(index, remove, add);
-        } else {
-            list.splice(index, remove);
+        for (int i = 0; i < length; i++) {
+            int childId = (int) nodeIds.getNumber(i);
+            StateNode child = tree.getNode(childId);
+            assert child != null : "No child node found with id " + childId;
+
+            nodes.set(i, child);
         }
+        return nodes;
     }
 }
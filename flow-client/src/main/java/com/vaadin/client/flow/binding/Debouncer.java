@@ -0,0 +1,184 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.flow.binding;
+
+import com.google.gwt.user.client.Timer;
+import com.vaadin.client.Command;
+import com.vaadin.client.flow.collection.JsArray;
+import com.vaadin.client.flow.collection.JsCollections;
+import com.vaadin.client.flow.collection.JsSet;
+import com.vaadin.shared.JsonConstants;
+
+/**
+ * Limits how often commands triggered by a burst of DOM events are executed.
+ * A burst starts with the first triggered command and ends when no command
+ * has been triggered during the timeout. Depending on the configured phases,
+ * the first command of a burst is executed immediately, the latest command is
+ * executed once every timeout period during the burst and the latest command
+ * is executed when the burst ends.
+ *
+ * @author Vaadin Ltd
+ */
+final class Debouncer {
+    // Debouncers that have a command waiting to be executed
+    private static final JsSet<Debouncer> PENDING = JsCollections.set();
+
+    private final String settingsKey;
+    private final int timeout;
+    private final boolean leading;
+    private final boolean intermediate;
+    private final boolean trailing;
+
+    private Command pendingCommand;
+    private boolean inBurst;
+
+    private final Timer idleTimer = new Timer() {
+        @Override
+        public void run() {
+            endBurst();
+        }
+    };
+
+    private final Timer intermediateTimer = new Timer() {
+        @Override
+        public void run() {
+            executePending();
+        }
+    };
+
+    /**
+     * Creates a new debouncer for the given settings.
+     *
+     * @param settingsKey
+     *            a key identifying the settings, used for checking whether
+     *            the settings have changed
+     * @param settings
+     *            an array containing the timeout in milliseconds followed by
+     *            the identifiers of the phases in which commands should be
+     *            executed
+     */
+    Debouncer(String settingsKey, JsArray<Object> settings) {
+        this.settingsKey = settingsKey;
+        timeout = ((Double) settings.get(0)).intValue();
+
+        boolean hasLeading = false;
+        boolean hasIntermediate = false;
+        boolean hasTrailing = false;
+        for (int i = 1; i < settings.length(); i++) {
+            Object phase = settings.get(i);
+            if (JsonConstants.EVENT_DEBOUNCE_LEADING.equals(phase)) {
+                hasLeading = true;
+            } else if (JsonConstants.EVENT_DEBOUNCE_INTERMEDIATE
+                    .equals(phase)) {
+                hasIntermediate = true;
+            } else if (JsonConstants.EVENT_DEBOUNCE_TRAILING.equals(phase)) {
+                hasTrailing = true;
+            }
+        }
+        leading = hasLeading;
+        intermediate = hasIntermediate;
+        trailing = hasTrailing;
+    }
+
+    /**
+     * Gets the key of the settings this debouncer was created for.
+     *
+     * @return the settings key
+     */
+    String getSettingsKey() {
+        return settingsKey;
+    }
+
+    /**
+     * Triggers the given command. The command is executed immediately, later
+     * or not at all depending on the configured phases.
+     *
+     * @param command
+     *            the command to trigger, not <code>null</code>
+     */
+    void trigger(Command command) {
+        if (!inBurst) {
+            inBurst = true;
+            if (leading) {
+                command.execute();
+            } else {
+                setPendingIfNeeded(command);
+            }
+            if (intermediate) {
+                intermediateTimer.scheduleRepeating(timeout);
+            }
+        } else {
+            setPendingIfNeeded(command);
+        }
+        idleTimer.schedule(timeout);
+    }
+
+    /**
+     * Stops this debouncer without executing any pending command.
+     */
+    void cancel() {
+        idleTimer.cancel();
+        intermediateTimer.cancel();
+        inBurst = false;
+        setPending(null);
+    }
+
+    /**
+     * Executes the pending commands of all debouncers. This is used for
+     * preserving the order of events when another event is sent to the
+     * server.
+     */
+    static void flushAll() {
+        if (PENDING.size() == 0) {
+            return;
+        }
+        JsArray<Debouncer> debouncers = JsCollections.array();
+        PENDING.forEach(debouncer -> debouncers.push(debouncer));
+        for (int i = 0; i < debouncers.length(); i++) {
+            debouncers.get(i).executePending();
+        }
+    }
+
+    private void endBurst() {
+        intermediateTimer.cancel();
+        inBurst = false;
+        executePending();
+    }
+
+    private void setPendingIfNeeded(Command command) {
+        // Commands are only delayed if some phase will execute them later
+        if (intermediate || trailing) {
+            setPending(command);
+        }
+    }
+
+    private void executePending() {
+        Command command = pendingCommand;
+        setPending(null);
+        if (command != null) {
+            command.execute();
+        }
+    }
+
+    private void setPending(Command command) {
+        pendingCommand = command;
+        if (command == null) {
+            PENDING.delete(this);
+        } else {
+            PENDING.add(this);
+        }
+    }
+}
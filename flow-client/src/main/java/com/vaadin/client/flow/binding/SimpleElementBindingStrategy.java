@@ -126,6 +126,9 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
         private final JsSet<EventRemover> synchronizedPropertyEventListeners = JsCollections
                 .set();
 
+        private final JsMap<String, Debouncer> debouncers = JsCollections
+                .map();
+
         private BindingContext(StateNode node, Node htmlNode,
                 BinderContext binderContext) {
             this.node = node;
@@ -512,6 +515,9 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
     }
 
     private void handlePropertySyncDomEvent(BindingContext context) {
+        // Send any delayed events first to preserve the order of events
+        Debouncer.flushAll();
+
         NodeList propertiesList = context.node
                 .getList(NodeFeatures.SYNCHRONIZED_PROPERTIES);
         for (int i = 0; i < propertiesList.length(); i++) {
@@ -783,6 +789,8 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
                 listeners.forEach(EventRemover::remove);
                 context.synchronizedPropertyEventListeners
                 .forEach(EventRemover::remove);
+                context.debouncers
+                .forEach((debouncer, name) -> debouncer.cancel());
 
                 BOUND.delete(context.node);
     }
@@ -825,13 +833,19 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
 
         assert remover != null;
         remover.remove();
+
+        Debouncer debouncer = context.debouncers.get(eventType);
+        if (debouncer != null) {
+            debouncer.cancel();
+            context.debouncers.delete(eventType);
+        }
     }
 
     private void addEventHandler(String eventType, BindingContext context) {
         assert !context.listenerRemovers.has(eventType);
 
         EventRemover remover = context.htmlNode.addEventListener(eventType,
-                event -> handleDomEvent(event, context.htmlNode, context.node),
+                event -> handleDomEvent(event, context),
                 false);
 
         context.listenerRemovers.set(eventType, remover);
@@ -841,43 +855,80 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
         return node.getMap(NodeFeatures.ELEMENT_LISTENERS);
     }
 
-    private void handleDomEvent(Event event, Node element, StateNode node) {
+    @SuppressWarnings("unchecked")
+    private void handleDomEvent(Event event, BindingContext context) {
+        Node element = context.htmlNode;
+        StateNode node = context.node;
         assert element instanceof Element : "Cannot handle DOM event for a Node";
-    String type = event.getType();
+        String type = event.getType();
 
-    NodeMap listenerMap = getDomEventListenerMap(node);
+        NodeMap listenerMap = getDomEventListenerMap(node);
 
-    ConstantPool constantPool = node.getTree().getRegistry()
-            .getConstantPool();
-    String expressionConstantKey = (String) listenerMap.getProperty(type)
-            .getValue();
-    assert expressionConstantKey != null;
+        ConstantPool constantPool = node.getTree().getRegistry()
+                .getConstantPool();
+        String expressionConstantKey = (String) listenerMap.getProperty(type)
+                .getValue();
+        assert expressionConstantKey != null;
 
-    assert constantPool.has(expressionConstantKey);
+        assert constantPool.has(expressionConstantKey);
 
-    JsArray<String> dataExpressions = constantPool
-            .get(expressionConstantKey);
+        /*
+         * The constant contains the event data expressions and, for debounced
+         * events, an array with the debounce settings.
+         */
+        JsArray<Object> constant = constantPool.get(expressionConstantKey);
 
-    JsonObject eventData;
-    if (dataExpressions.isEmpty()) {
-        eventData = null;
-    } else {
-        eventData = Json.createObject();
+        JsonObject eventData = null;
+        JsArray<Object> debounceSettings = null;
+        for (int i = 0; i < constant.length(); i++) {
+            Object entry = constant.get(i);
+            if (entry instanceof String) {
+                String expressionString = (String) entry;
 
-        for (int i = 0; i < dataExpressions.length(); i++) {
-            String expressionString = dataExpressions.get(i);
+                EventDataExpression expression = getOrCreateExpression(
+                        expressionString);
 
-            EventDataExpression expression = getOrCreateExpression(
-                    expressionString);
+                JsonValue expressionValue = expression.evaluate(event,
+                        (Element) element);
 
-            JsonValue expressionValue = expression.evaluate(event,
-                    (Element) element);
+                if (eventData == null) {
+                    eventData = Json.createObject();
+                }
+                eventData.put(expressionString, expressionValue);
+            } else {
+                debounceSettings = (JsArray<Object>) entry;
+            }
+        }
+
+        // Data is evaluated now since the event may be sent later
+        JsonObject sentEventData = eventData;
+        Command sendEvent = () -> node.getTree().sendEventToServer(node, type,
+                sentEventData);
 
-            eventData.put(expressionString, expressionValue);
+        if (debounceSettings == null) {
+            // Send any delayed events first to preserve the order of events
+            Debouncer.flushAll();
+            sendEvent.execute();
+        } else {
+            getDebouncer(context, type, expressionConstantKey,
+                    debounceSettings).trigger(sendEvent);
         }
     }
 
-    node.getTree().sendEventToServer(node, type, eventData);
+    private Debouncer getDebouncer(BindingContext context, String eventType,
+            String settingsKey, JsArray<Object> settings) {
+        Debouncer debouncer = context.debouncers.get(eventType);
+        if (debouncer == null
+                || !debouncer.getSettingsKey().equals(settingsKey)) {
+            if (debouncer != null) {
+                // Settings have changed, don't lose the pending event
+                Debouncer.flushAll();
+                debouncer.cancel();
+            }
+            debouncer = new Debouncer(settingsKey, settings);
+            context.debouncers.set(eventType, debouncer);
+        }
+        return debouncer;
     }
 
     private EventRemover bindClassList(Element element, StateNode node) {
@@ -9,6 +9,7 @@ import com.vaadin.client.flow.GwtPolymerModelTest;
 import com.vaadin.client.flow.GwtRouterLinkHandlerTest;
 import com.vaadin.client.flow.GwtStateTreeTest;
 import com.vaadin.client.flow.GwtTreeChangeProcessorTest;
+import com.vaadin.client.flow.binding.GwtDebouncerTest;
 import com.vaadin.client.flow.collection.GwtJsArrayTest;
 import com.vaadin.client.flow.collection.GwtJsMapTest;
 import com.vaadin.client.flow.collection.GwtJsSetTest;
@@ -48,6 +49,7 @@ public class GwtSuite extends GWTTestSuite {
         suite.addTestSuite(GwtExecuteJavaScriptElementUtilsTest.class);
         suite.addTestSuite(GwtDependencyLoaderTest.class);
         suite.addTestSuite(GwtMultipleBindingTest.class);
+        suite.addTestSuite(GwtDebouncerTest.class);
         return suite;
     }
 }
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
+import com.google.gwt.user.client.Timer;
 import com.vaadin.client.ExistingElementMap;
 import com.vaadin.client.Registry;
 import com.vaadin.client.WidgetUtil;
@@ -32,6 +33,7 @@ import com.vaadin.client.flow.template.TemplateRegistry;
 import com.vaadin.client.flow.template.TestElementTemplateNode;
 import com.vaadin.flow.nodefeature.NodeFeatures;
 import com.vaadin.flow.nodefeature.NodeProperties;
+import com.vaadin.shared.JsonConstants;
 
 import elemental.client.Browser;
 import elemental.dom.Element;
@@ -521,6 +523,57 @@ public class GwtBasicElementBinderTest extends GwtPropertyElementBinderTest {
         constantPool.importFromJson(update);
     }
 
+    public void testDebouncedEventSentAfterTimeout() {
+        bindDebouncedClickListener();
+
+        element.click();
+        element.click();
+        assertEquals(0, tree.collectedNodes.length());
+
+        delayTestFinish(1000);
+        new Timer() {
+            @Override
+            public void run() {
+                assertEquals(1, tree.collectedNodes.length());
+                finishTest();
+            }
+        }.schedule(150);
+    }
+
+    public void testDebouncedEventNotSentAfterUnbind() {
+        bindDebouncedClickListener();
+
+        element.click();
+        node.unregister();
+
+        delayTestFinish(1000);
+        new Timer() {
+            @Override
+            public void run() {
+                assertEquals(0, tree.collectedNodes.length());
+                finishTest();
+            }
+        }.schedule(150);
+    }
+
+    private void bindDebouncedClickListener() {
+        Binder.bind(node, element);
+
+        // No event data expressions, only the debounce settings
+        JsonArray debounceSettings = Json.createArray();
+        debounceSettings.set(0, 50);
+        debounceSettings.set(1, JsonConstants.EVENT_DEBOUNCE_TRAILING);
+        JsonArray expressionConstantValue = Json.createArray();
+        expressionConstantValue.set(0, debounceSettings);
+
+        addToConstantPool("debouncedKey", expressionConstantValue);
+
+        node.getMap(NodeFeatures.ELEMENT_LISTENERS).getProperty("click")
+                .setValue("debouncedKey");
+        Reactive.flush();
+        Browser.getDocument().getBody().appendChild(element);
+    }
+
     public void testRemovedEventNotFired() {
         Binder.bind(node, element);
 
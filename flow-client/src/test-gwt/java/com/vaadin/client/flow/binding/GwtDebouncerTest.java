@@ -0,0 +1,176 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.flow.binding;
+
+import com.google.gwt.user.client.Timer;
+import com.vaadin.client.ClientEngineTestBase;
+import com.vaadin.client.Command;
+import com.vaadin.client.flow.collection.JsArray;
+import com.vaadin.client.flow.collection.JsCollections;
+import com.vaadin.shared.JsonConstants;
+
+public class GwtDebouncerTest extends ClientEngineTestBase {
+
+    private static final int TIMEOUT = 50;
+
+    private JsArray<String> executed;
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+        executed = JsCollections.array();
+    }
+
+    public void testLeading_firstCommandExecutedImmediately() {
+        Debouncer debouncer = createDebouncer(
+                JsonConstants.EVENT_DEBOUNCE_LEADING);
+
+        debouncer.trigger(command("first"));
+        debouncer.trigger(command("second"));
+
+        assertExecuted("first");
+
+        runAfter(3 * TIMEOUT, () -> {
+            // The second command is not executed by any phase
+            assertExecuted("first");
+
+            // A new burst has started
+            debouncer.trigger(command("third"));
+            assertExecuted("first", "third");
+        });
+    }
+
+    public void testTrailing_latestCommandExecutedAfterBurst() {
+        Debouncer debouncer = createDebouncer(
+                JsonConstants.EVENT_DEBOUNCE_TRAILING);
+
+        debouncer.trigger(command("first"));
+        debouncer.trigger(command("second"));
+
+        assertExecuted();
+
+        runAfter(3 * TIMEOUT, () -> assertExecuted("second"));
+    }
+
+    public void testLeadingAndTrailing_firstAndLatestCommandExecuted() {
+        Debouncer debouncer = createDebouncer(
+                JsonConstants.EVENT_DEBOUNCE_LEADING,
+                JsonConstants.EVENT_DEBOUNCE_TRAILING);
+
+        debouncer.trigger(command("first"));
+        debouncer.trigger(command("second"));
+        debouncer.trigger(command("third"));
+
+        assertExecuted("first");
+
+        runAfter(3 * TIMEOUT, () -> assertExecuted("first", "third"));
+    }
+
+    public void testIntermediate_latestCommandExecutedDuringBurst() {
+        Debouncer debouncer = createDebouncer(
+                JsonConstants.EVENT_DEBOUNCE_INTERMEDIATE);
+
+        // Keep the burst going for ten timeout periods
+        int[] triggerCount = new int[1];
+        Timer burst = new Timer() {
+            @Override
+            public void run() {
+                triggerCount[0]++;
+                debouncer.trigger(command("command" + triggerCount[0]));
+                if (triggerCount[0] == 50) {
+                    cancel();
+                }
+            }
+        };
+        burst.scheduleRepeating(TIMEOUT / 5);
+
+        runAfter(40 * TIMEOUT, () -> {
+            assertEquals(50, triggerCount[0]);
+            assertTrue("Commands should be executed during the burst",
+                    executed.length() > 1);
+            assertTrue("Only one command should be executed per timeout",
+                    executed.length() < 25);
+            assertEquals("The latest command should be executed when the "
+                    + "burst ends", "command50",
+                    executed.get(executed.length() - 1));
+        });
+    }
+
+    public void testFlushAll_pendingCommandsExecutedInTriggerOrder() {
+        Debouncer first = createDebouncer(
+                JsonConstants.EVENT_DEBOUNCE_TRAILING);
+        Debouncer second = createDebouncer(
+                JsonConstants.EVENT_DEBOUNCE_TRAILING);
+        Debouncer leading = createDebouncer(
+                JsonConstants.EVENT_DEBOUNCE_LEADING);
+
+        first.trigger(command("first"));
+        leading.trigger(command("leading"));
+        second.trigger(command("second"));
+
+        Debouncer.flushAll();
+
+        assertExecuted("leading", "first", "second");
+
+        // Flushed commands are not executed again when the bursts end
+        runAfter(3 * TIMEOUT,
+                () -> assertExecuted("leading", "first", "second"));
+    }
+
+    public void testCancel_pendingCommandNotExecuted() {
+        Debouncer debouncer = createDebouncer(
+                JsonConstants.EVENT_DEBOUNCE_TRAILING);
+
+        debouncer.trigger(command("first"));
+        debouncer.cancel();
+
+        Debouncer.flushAll();
+        assertExecuted();
+
+        runAfter(3 * TIMEOUT, () -> assertExecuted());
+    }
+
+    private Debouncer createDebouncer(String... phases) {
+        JsArray<Object> settings = JsCollections.array();
+        settings.push(Double.valueOf(TIMEOUT));
+        for (String phase : phases) {
+            settings.push(phase);
+        }
+        return new Debouncer(String.valueOf(phases.length), settings);
+    }
+
+    private Command command(String name) {
+        return () -> executed.push(name);
+    }
+
+    private void assertExecuted(String... names) {
+        assertEquals(names.length, executed.length());
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(names[i], executed.get(i));
+        }
+    }
+
+    private void runAfter(int delay, Command assertions) {
+        delayTestFinish(delay + 1000);
+        new Timer() {
+            @Override
+            public void run() {
+                assertions.execute();
+                finishTest();
+            }
+        }.schedule(delay);
+    }
+}
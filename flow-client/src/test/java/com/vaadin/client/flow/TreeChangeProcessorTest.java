@@ -40,6 +40,7 @@ public class TreeChangeProcessorTest {
             set(StateTree.class, new StateTree(this));
             set(InitialPropertiesHandler.class,
                     new InitialPropertiesHandler(this));
+            set(ConstantPool.class, new ConstantPool());
         }
     };
     private StateTree tree = registry.getStateTree();
@@ -241,6 +242,88 @@ public class TreeChangeProcessorTest {
         Assert.assertEquals(node, updatedNode);
     }
 
+    @Test
+    public void testCompactPutChange() {
+        JsonArray change = toArray(
+                Json.create(JsonConstants.COMPACT_CHANGE_TYPE_PUT),
+                Json.create(rootId), Json.create(ns), Json.create(myKey),
+                Json.create(myValue));
+
+        StateNode node = TreeChangeProcessor.processCompactChange(tree,
+                change);
+
+        Object value = tree.getRootNode().getMap(ns).getProperty(myKey)
+                .getValue();
+
+        Assert.assertEquals(myValue, value);
+        Assert.assertEquals(tree.getRootNode(), node);
+    }
+
+    @Test
+    public void testCompactPutChange_dictionaryKey() {
+        JsonObject constants = Json.createObject();
+        constants.put("0", myKey);
+        registry.getConstantPool().importFromJson(constants);
+
+        JsonArray change = toArray(
+                Json.create(JsonConstants.COMPACT_CHANGE_TYPE_PUT),
+                Json.create(rootId), Json.create(ns), Json.create(0),
+                Json.create(myValue));
+
+        TreeChangeProcessor.processCompactChange(tree, change);
+
+        Object value = tree.getRootNode().getMap(ns).getProperty(myKey)
+                .getValue();
+
+        Assert.assertEquals(myValue, value);
+    }
+
+    @Test
+    public void testCompactSpliceChanges() {
+        JsonArray change = toArray(
+                Json.create(JsonConstants.COMPACT_CHANGE_TYPE_SPLICE_ADD),
+                Json.create(rootId), Json.create(ns), Json.create(0),
+                toArray(Json.create("foo"), Json.create("bar")));
+
+        TreeChangeProcessor.processCompactChange(tree, change);
+
+        NodeList list = tree.getRootNode().getList(ns);
+        Assert.assertEquals(2, list.length());
+        Assert.assertEquals("foo", list.get(0));
+        Assert.assertEquals("bar", list.get(1));
+
+        change = toArray(
+                Json.create(JsonConstants.COMPACT_CHANGE_TYPE_SPLICE_REMOVE),
+                Json.create(rootId), Json.create(ns), Json.create(0),
+                Json.create(1));
+
+        TreeChangeProcessor.processCompactChange(tree, change);
+
+        Assert.assertEquals(1, list.length());
+        Assert.assertEquals("bar", list.get(0));
+    }
+
+    @Test
+    public void testCompactAttachNodeBeforePut() {
+        int nodeId = 2;
+        JsonArray changes = toArray(
+                toArray(Json.create(JsonConstants.COMPACT_CHANGE_TYPE_PUT),
+                        Json.create(nodeId), Json.create(ns),
+                        Json.create(myKey), Json.create(myValue)),
+                toArray(Json.create(JsonConstants.COMPACT_CHANGE_TYPE_ATTACH),
+                        Json.create(nodeId)));
+
+        JsSet<StateNode> updatedNodes = TreeChangeProcessor.processChanges(tree,
+                changes);
+
+        Object value = tree.getNode(nodeId).getMap(ns).getProperty(myKey)
+                .getValue();
+        Assert.assertEquals(myValue, value);
+
+        Assert.assertEquals(1, updatedNodes.size());
+        Assert.assertTrue(updatedNodes.has(tree.getNode(nodeId)));
+    }
+
     private static JsonArray toArray(JsonValue... changes) {
         return Arrays.stream(changes).collect(JsonUtils.asArray());
     }
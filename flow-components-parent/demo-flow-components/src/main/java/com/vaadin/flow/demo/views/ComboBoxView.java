@@ -17,7 +17,10 @@ package com.vaadin.flow.demo.views;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import com.vaadin.data.provider.DataProvider;
 import com.vaadin.flow.demo.ComponentDemo;
 import com.vaadin.flow.dom.ElementConstants;
 import com.vaadin.ui.combobox.ComboBox;
@@ -92,6 +95,7 @@ public class ComboBoxView extends DemoView {
         createStringComboBox();
         createObjectComboBox();
         createComboBoxWithObjectStringSimpleValue();
+        createLazyComboBox();
     }
 
     private void createStringComboBox() {
@@ -178,6 +182,40 @@ public class ComboBoxView extends DemoView {
         addCard("Value selection from objects", comboBox, message);
     }
 
+    private void createLazyComboBox() {
+        Div message = createMessageDiv("lazy-selection-message");
+
+        // begin-source-example
+        // source-example-heading: Filtering in the data provider
+        ComboBox<String> comboBox = new ComboBox<>("Items");
+        List<String> items = IntStream.range(0, 1000)
+                .mapToObj(index -> "Item " + index)
+                .collect(Collectors.toList());
+
+        /*
+         * Only the first page of items that contain the text typed by the user
+         * is fetched from the data provider and sent to the client.
+         */
+        comboBox.setDataProvider(
+                DataProvider.ofCollection(items).filteringBySubstring(
+                        item -> item),
+                filter -> filter);
+        comboBox.setPageSize(20);
+
+        comboBox.addValueChangeListener(event -> {
+            if (event.getSource().isEmpty()) {
+                message.setText("No item selected");
+            } else {
+                message.setText("Selected item: " + event.getValue());
+            }
+        });
+        // end-source-example
+
+        comboBox.getStyle().set(ElementConstants.STYLE_WIDTH, WIDTH_STRING);
+        comboBox.setId("lazy-selection-box");
+        addCard("Filtering in the data provider", comboBox, message);
+    }
+
     private List<Song> createListOfSongs() {
         List<Song> listOfSongs = new ArrayList<>();
         listOfSongs.add(new Song("A V Club Disagrees", "Haircuts for Men",
@@ -76,6 +76,33 @@ public class ComboBoxIT extends ComponentDemoTest {
                 "Selected artist: Haircuts for Men\nThe old selection was: Haywyre"));
     }
 
+    @Test
+    public void lazyBoxShowsOnlyOnePageOfFilteredItems() {
+        WebElement comboBox = layout.findElement(By.id("lazy-selection-box"));
+        WebElement message = layout
+                .findElement(By.id("lazy-selection-message"));
+
+        waitUntil(driver -> getFilteredItemCount(comboBox) == 20);
+        Assert.assertNull(executeScript("return arguments[0].items", comboBox));
+
+        // Item 99, Item 199, ..., Item 899 and Item 990 ... Item 999
+        executeScript("arguments[0].filter = '99'", comboBox);
+        waitUntil(driver -> getFilteredItemCount(comboBox) == 19);
+        Assert.assertEquals("Item 99", executeScript(
+                "return arguments[0].filteredItems[0].label", comboBox));
+
+        executeScript(
+                "arguments[0].selectedItem = arguments[0].filteredItems[1]",
+                comboBox);
+        waitUntil(driver -> message.getText()
+                .equals("Selected item: Item 199"));
+    }
+
+    private long getFilteredItemCount(WebElement comboBox) {
+        return (Long) executeScript(
+                "return (arguments[0].filteredItems || []).length", comboBox);
+    }
+
     @Override
     protected String getTestPath() {
         return "/vaadin-combo-box";
@@ -26,15 +26,24 @@ import java.util.stream.Stream;
 
 import com.vaadin.data.HasDataProvider;
 import com.vaadin.data.HasItems;
+import com.vaadin.data.provider.ArrayUpdater;
+import com.vaadin.data.provider.ArrayUpdater.Update;
+import com.vaadin.data.provider.DataCommunicator;
+import com.vaadin.data.provider.DataKeyMapper;
 import com.vaadin.data.provider.DataProvider;
 import com.vaadin.data.provider.KeyMapper;
 import com.vaadin.data.provider.Query;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.util.JsonUtils;
+import com.vaadin.function.SerializableConsumer;
+import com.vaadin.function.SerializableFunction;
 import com.vaadin.shared.Registration;
 import com.vaadin.ui.ItemLabelGenerator;
+import com.vaadin.ui.common.ClientDelegate;
 import com.vaadin.ui.common.HasSize;
 import com.vaadin.ui.common.HasValidation;
 import com.vaadin.ui.common.HasValue;
+import com.vaadin.ui.common.JavaScript;
 
 import elemental.json.Json;
 import elemental.json.JsonArray;
@@ -46,10 +55,16 @@ import elemental.json.JsonValue;
  * contains the same features of the webcomponent, such as item filtering,
  * object selection and item templating.
  *
+ * <p>
+ * By default all items of the data provider are sent to the client and
+ * filtered there. Use {@link #setDataProvider(DataProvider, SerializableFunction)}
+ * to instead filter the items in the data provider using the text typed by the
+ * user, in which case only one page of matching items is sent to the client.
+ *
  * @param <T>
  *            the type of the items to be inserted in the combo box
  */
-
+@JavaScript("context://comboBoxConnector.js")
 public class ComboBox<T> extends GeneratedVaadinComboBox<ComboBox<T>>
         implements HasSize, HasItems<T>, HasValidation,
         HasValue<ComboBox<T>, T>, HasDataProvider<T> {
@@ -57,6 +72,37 @@ public class ComboBox<T> extends GeneratedVaadinComboBox<ComboBox<T>>
     private static final String KEY_PROPERTY = "key";
     private static final String SELECTED_ITEM_PROPERTY_NAME = "selectedItem";
     private static final String TEMPLATE_TAG_NAME = "template";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final class UpdateQueue implements Update {
+        private List<Runnable> queue = new ArrayList<>();
+
+        private UpdateQueue(int size) {
+            enqueue("connectorUpdateSize", size);
+        }
+
+        @Override
+        public void set(int start, List<JsonValue> items) {
+            enqueue("connectorSet", start,
+                    items.stream().collect(JsonUtils.asArray()));
+        }
+
+        @Override
+        public void clear(int start, int length) {
+            enqueue("connectorClear", start, length);
+        }
+
+        @Override
+        public void commit(int updateId) {
+            enqueue("connectorConfirm", updateId);
+            queue.forEach(Runnable::run);
+            queue.clear();
+        }
+
+        private void enqueue(String name, Serializable... arguments) {
+            queue.add(() -> getElement().callFunction(name, arguments));
+        }
+    }
 
     private T oldValue;
     private ItemLabelGenerator<T> itemLabelGenerator = String::valueOf;
@@ -65,6 +111,20 @@ public class ComboBox<T> extends GeneratedVaadinComboBox<ComboBox<T>>
 
     private final KeyMapper<T> keyMapper = new KeyMapper<>();
 
+    // Only used in lazy mode, created when a lazy data provider is set
+    private DataCommunicator<T> dataCommunicator;
+    private SerializableConsumer<String> filterSlot;
+    private String lastFilter = "";
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
+    /*
+     * The selected item and its key in lazy mode. Needed since the key of the
+     * selected item is discarded by the data communicator once the item is
+     * filtered out of the active range.
+     */
+    private String selectedKey;
+    private T selectedItem;
+
     /**
      * Default constructor. Creates an empty combo box.
      *
@@ -178,17 +238,101 @@ public class ComboBox<T> extends GeneratedVaadinComboBox<ComboBox<T>>
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All items of the data provider are sent to the client unless the combo
+     * box is in lazy mode, in which case the first page of items is fetched
+     * without filtering.
+     *
+     * @see #setDataProvider(DataProvider, SerializableFunction)
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public void setDataProvider(DataProvider<T, ?> dataProvider) {
         Objects.requireNonNull(dataProvider);
+        if (isLazy()) {
+            setDataProvider((DataProvider<T, Object>) dataProvider,
+                    filter -> null);
+            return;
+        }
         this.dataProvider = dataProvider;
         refresh();
     }
 
+    /**
+     * Sets a data provider that is queried lazily for the items shown in the
+     * combo box. The text typed by the user is converted with the given filter
+     * converter and passed as the filter of the data provider queries. Only
+     * the first {@link #getPageSize() page} of matching items is fetched from
+     * the data provider and sent to the client, so the user narrows down the
+     * items shown in the drop down by typing.
+     * <p>
+     * Once a lazy data provider has been set, the combo box stays in lazy mode
+     * and all data providers set afterwards are also queried lazily.
+     *
+     * @param <C>
+     *            the filter type of the data provider
+     * @param dataProvider
+     *            the data provider, not <code>null</code>
+     * @param filterConverter
+     *            a function that converts the text typed by the user into a
+     *            filter value for the data provider, not <code>null</code>
+     */
+    public <C> void setDataProvider(DataProvider<T, C> dataProvider,
+            SerializableFunction<String, C> filterConverter) {
+        Objects.requireNonNull(dataProvider,
+                "The data provider can not be null");
+        Objects.requireNonNull(filterConverter,
+                "The filter converter can not be null");
+
+        if (!isLazy()) {
+            initLazy();
+        }
+        this.dataProvider = dataProvider;
+        lastFilter = "";
+
+        SerializableConsumer<C> providerFilterSlot = dataCommunicator
+                .setDataProvider(dataProvider,
+                        filterConverter.apply(lastFilter));
+        filterSlot = filter -> providerFilterSlot
+                .accept(filterConverter.apply(filter));
+    }
+
     public DataProvider<T, ?> getDataProvider() {
         return dataProvider;
     }
 
+    /**
+     * Sets the maximum number of items fetched from the data provider and
+     * shown in the drop down for the current filter in lazy mode. The default
+     * is {@value #DEFAULT_PAGE_SIZE}.
+     *
+     * @param pageSize
+     *            the page size, greater than zero
+     */
+    public void setPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException(
+                    "The pageSize should be greater than zero. Was "
+                            + pageSize);
+        }
+        this.pageSize = pageSize;
+        if (isLazy()) {
+            dataCommunicator.setRequestedRange(0, pageSize);
+        }
+    }
+
+    /**
+     * Gets the maximum number of items fetched from the data provider and
+     * shown in the drop down for the current filter in lazy mode.
+     *
+     * @return the page size
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
     /**
      * Gets the list of items which were filtered by the user input.
      *
@@ -257,8 +401,12 @@ public class ComboBox<T> extends GeneratedVaadinComboBox<ComboBox<T>>
 
     @Override
     public void setValue(T value) {
-        getElement().setPropertyJson(SELECTED_ITEM_PROPERTY_NAME,
-                generateJson(value));
+        JsonValue json = generateJson(value);
+        if (isLazy()) {
+            rememberSelection(((JsonObject) json).getString(KEY_PROPERTY),
+                    value);
+        }
+        getElement().setPropertyJson(SELECTED_ITEM_PROPERTY_NAME, json);
     }
 
     @Override
@@ -268,7 +416,16 @@ public class ComboBox<T> extends GeneratedVaadinComboBox<ComboBox<T>>
         if (property instanceof JsonObject) {
             JsonObject selected = (JsonObject) property;
             assert selected.hasKey(KEY_PROPERTY);
-            return keyMapper.get(selected.getString(KEY_PROPERTY));
+            String key = selected.getString(KEY_PROPERTY);
+            if (!isLazy()) {
+                return keyMapper.get(key);
+            }
+            T item = getKeyMapper().get(key);
+            if (item != null) {
+                rememberSelection(key, item);
+                return item;
+            }
+            return key.equals(selectedKey) ? selectedItem : getEmptyValue();
         }
         return getEmptyValue();
     }
@@ -289,8 +446,12 @@ public class ComboBox<T> extends GeneratedVaadinComboBox<ComboBox<T>>
     }
 
     private JsonValue generateJson(T item) {
+        return generateJson(getKeyMapper().key(item), item);
+    }
+
+    private JsonValue generateJson(String key, T item) {
         JsonObject json = Json.createObject();
-        json.put(KEY_PROPERTY, keyMapper.key(item));
+        json.put(KEY_PROPERTY, key);
 
         json.put(ITEM_LABEL_PROPERTY, itemLabelGenerator.apply(item));
 
@@ -303,10 +464,65 @@ public class ComboBox<T> extends GeneratedVaadinComboBox<ComboBox<T>>
         }
         assert item.hasKey(KEY_PROPERTY);
         JsonValue key = item.get(KEY_PROPERTY);
-        return keyMapper.get(key.asString());
+        return getKeyMapper().get(key.asString());
+    }
+
+    private DataKeyMapper<T> getKeyMapper() {
+        return isLazy() ? dataCommunicator.getKeyMapper() : keyMapper;
+    }
+
+    private boolean isLazy() {
+        return dataCommunicator != null;
+    }
+
+    private void initLazy() {
+        ArrayUpdater arrayUpdater = UpdateQueue::new;
+        dataCommunicator = new DataCommunicator<>(this::generateJson,
+                arrayUpdater,
+                data -> getElement().callFunction("updateData", data),
+                getElement().getNode());
+
+        /*
+         * Items are no longer sent to the client all at once. Without items,
+         * the web component shows the filtered items set by the connector as
+         * is instead of filtering them again.
+         */
+        keyMapper.removeAll();
+        getElement().removeProperty("items");
+
+        setPageSize(pageSize);
+
+        getElement().getNode()
+                .runWhenAttached(ui -> ui.getPage().executeJavaScript(
+                        "window.comboBoxConnector.initLazy($0)",
+                        getElement()));
+    }
+
+    private void rememberSelection(String key, T item) {
+        selectedKey = key;
+        selectedItem = item;
+    }
+
+    @ClientDelegate
+    private void confirmUpdate(int id) {
+        dataCommunicator.confirmUpdate(id);
+    }
+
+    @ClientDelegate
+    private void setFilter(String filter) {
+        String newFilter = filter == null ? "" : filter;
+        if (!newFilter.equals(lastFilter)) {
+            lastFilter = newFilter;
+            filterSlot.accept(newFilter);
+        }
+        dataCommunicator.setRequestedRange(0, pageSize);
     }
 
     private void refresh() {
+        if (isLazy()) {
+            dataCommunicator.reset();
+            return;
+        }
         keyMapper.removeAll();
         JsonArray array = generateJson(getDataProvider().fetch(new Query<>()));
         setItems(array);
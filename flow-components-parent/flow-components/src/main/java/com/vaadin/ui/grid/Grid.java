@@ -17,7 +17,9 @@ package com.vaadin.ui.grid;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -39,6 +41,8 @@ import com.vaadin.data.provider.ArrayUpdater.Update;
 import com.vaadin.data.provider.DataCommunicator;
 import com.vaadin.data.provider.DataProvider;
 import com.vaadin.data.provider.Query;
+import com.vaadin.data.provider.QuerySortOrder;
+import com.vaadin.data.provider.SortDirection;
 import com.vaadin.data.selection.MultiSelect;
 import com.vaadin.data.selection.MultiSelectionEvent;
 import com.vaadin.data.selection.MultiSelectionListener;
@@ -53,6 +57,7 @@ import com.vaadin.flow.dom.DomEvent;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.util.HtmlUtils;
 import com.vaadin.flow.util.JsonUtils;
+import com.vaadin.function.SerializableComparator;
 import com.vaadin.function.SerializableConsumer;
 import com.vaadin.function.ValueProvider;
 import com.vaadin.shared.Registration;
@@ -66,6 +71,7 @@ import com.vaadin.ui.renderers.TemplateRenderer;
 import com.vaadin.util.JsonSerializer;
 
 import elemental.json.Json;
+import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 import elemental.json.JsonValue;
 
@@ -80,6 +86,7 @@ import elemental.json.JsonValue;
  */
 @Tag("vaadin-grid")
 @HtmlImport("frontend://bower_components/vaadin-grid/vaadin-grid.html")
+@HtmlImport("frontend://bower_components/vaadin-grid/vaadin-grid-sorter.html")
 @JavaScript("context://gridConnector.js")
 public class Grid<T> extends AbstractListing<T> implements HasDataProvider<T> {
 
@@ -459,6 +466,10 @@ public class Grid<T> extends AbstractListing<T> implements HasDataProvider<T> {
     private final ArrayUpdater arrayUpdater = UpdateQueue::new;
 
     private final Map<String, Function<T, JsonValue>> columnGenerators = new HashMap<>();
+    // Backend sort properties of sortable columns by column key
+    private final Map<String, List<String>> columnSortProperties = new HashMap<>();
+    // In-memory comparators of sortable columns by column key
+    private final Map<String, SerializableComparator<T>> columnComparators = new HashMap<>();
     private final DataCommunicator<T> dataCommunicator = new DataCommunicator<>(
             this::generateItemJson, arrayUpdater,
             data -> getElement().callFunction("updateData", data),
@@ -506,9 +517,36 @@ public class Grid<T> extends AbstractListing<T> implements HasDataProvider<T> {
      *            the value provider
      */
     public void addColumn(String header, ValueProvider<T, ?> valueProvider) {
+        addColumn(header, valueProvider, new String[0]);
+    }
+
+    /**
+     * Adds a new text column to this {@link Grid} with a value provider. The
+     * column is sortable if any sort properties are given.
+     * <p>
+     * When sorting by the column, in-memory data providers compare the values
+     * produced by the value provider, and {@link QuerySortOrder}s for the
+     * given sort properties are passed to backend data providers.
+     *
+     * @param header
+     *            the column header name
+     * @param valueProvider
+     *            the value provider
+     * @param sortProperties
+     *            the backend properties to sort by when sorting by this
+     *            column, or none to make the column not sortable
+     */
+    public void addColumn(String header, ValueProvider<T, ?> valueProvider,
+            String... sortProperties) {
         String columnKey = getColumnKey(false);
+        if (sortProperties.length > 0) {
+            columnComparators.put(columnKey,
+                    (item1, item2) -> compareMaybeComparables(
+                            valueProvider.apply(item1),
+                            valueProvider.apply(item2)));
+        }
         addColumn(header, TemplateRenderer.<T> of("[[item." + columnKey + "]]")
-                .withProperty(columnKey, valueProvider));
+                .withProperty(columnKey, valueProvider), sortProperties);
     }
 
     /**
@@ -524,8 +562,40 @@ public class Grid<T> extends AbstractListing<T> implements HasDataProvider<T> {
      * @see TemplateRenderer#of(String)
      */
     public void addColumn(String header, TemplateRenderer<T> renderer) {
+        addColumn(header, renderer, new String[0]);
+    }
+
+    /**
+     * Adds a new text column to this {@link Grid} with a template renderer. The
+     * column is sortable if any sort properties are given.
+     * <p>
+     * When sorting by the column, {@link QuerySortOrder}s for the given sort
+     * properties are passed to backend data providers. In-memory data
+     * providers are not sorted by columns using a template renderer.
+     *
+     * @param header
+     *            the column header name
+     * @param renderer
+     *            the renderer used to create the grid cell structure
+     * @param sortProperties
+     *            the backend properties to sort by when sorting by this
+     *            column, or none to make the column not sortable
+     *
+     * @see TemplateRenderer#of(String)
+     */
+    public void addColumn(String header, TemplateRenderer<T> renderer,
+            String... sortProperties) {
         String columnKey = getColumnKey(true);
 
+        String headerHtml = HtmlUtils.escape(header);
+        if (sortProperties.length > 0) {
+            columnSortProperties.put(columnKey,
+                    Collections.unmodifiableList(
+                            new ArrayList<>(Arrays.asList(sortProperties))));
+            headerHtml = "<vaadin-grid-sorter path=\"" + columnKey + "\">"
+                    + headerHtml + "</vaadin-grid-sorter>";
+        }
+
         renderer.getValueProviders().forEach((key, provider) -> {
             columnGenerators.put(key, provider.andThen(JsonSerializer::toJson));
         });
@@ -535,7 +605,7 @@ public class Grid<T> extends AbstractListing<T> implements HasDataProvider<T> {
         // Use innerHTML to set document fragment instead of DOM children
         Element headerTemplate = new Element("template")
                 .setAttribute("class", "header")
-                .setProperty("innerHTML", HtmlUtils.escape(header));
+                .setProperty("innerHTML", headerHtml);
         Element contentTemplate = new Element("template")
                 .setProperty("innerHTML", renderer.getTemplate());
 
@@ -886,4 +956,90 @@ public class Grid<T> extends AbstractListing<T> implements HasDataProvider<T> {
     private void setRequestedRange(int start, int length) {
         getDataCommunicator().setRequestedRange(start, length);
     }
+
+    /**
+     * Sets whether the grid can be sorted by multiple columns at the same
+     * time. By default only one column is sorted at a time.
+     *
+     * @param multiSort
+     *            <code>true</code> to enable sorting by multiple columns,
+     *            <code>false</code> to sort by one column at a time
+     */
+    public void setMultiSort(boolean multiSort) {
+        getElement().setProperty("multiSort", multiSort);
+    }
+
+    /**
+     * Gets whether the grid can be sorted by multiple columns at the same
+     * time.
+     *
+     * @return <code>true</code> if sorting by multiple columns is enabled,
+     *         <code>false</code> otherwise
+     */
+    public boolean isMultiSort() {
+        return getElement().getProperty("multiSort", false);
+    }
+
+    /**
+     * Gets the backend sort orders of the current sorting of the grid.
+     *
+     * @return an unmodifiable list of the current sort orders, not
+     *         <code>null</code>
+     */
+    public List<QuerySortOrder> getSortOrder() {
+        return getDataCommunicator().getBackEndSorting();
+    }
+
+    @ClientDelegate
+    private void sortersChanged(JsonArray sorters) {
+        List<QuerySortOrder> backEndSorting = new ArrayList<>();
+        Comparator<T> inMemorySorting = null;
+
+        for (int i = 0; i < sorters.length(); i++) {
+            JsonObject sorter = sorters.getObject(i);
+            String columnKey = sorter.getString("path");
+            SortDirection direction = "desc"
+                    .equals(sorter.getString("direction"))
+                            ? SortDirection.DESCENDING
+                            : SortDirection.ASCENDING;
+
+            List<String> sortProperties = columnSortProperties.get(columnKey);
+            if (sortProperties == null) {
+                Logger.getLogger(getClass().getName()).log(Level.INFO,
+                        () -> String.format(
+                                "Received a sorter for the column '%s', but the column is not sortable. Ignoring sorter.",
+                                columnKey));
+                continue;
+            }
+            sortProperties.forEach(property -> backEndSorting
+                    .add(new QuerySortOrder(property, direction)));
+
+            SerializableComparator<T> comparator = columnComparators
+                    .get(columnKey);
+            if (comparator != null) {
+                Comparator<T> directed = direction == SortDirection.DESCENDING
+                        ? comparator.reversed()
+                        : comparator;
+                inMemorySorting = inMemorySorting == null ? directed
+                        : inMemorySorting.thenComparing(directed);
+            }
+        }
+
+        getDataCommunicator().setBackEndSorting(backEndSorting);
+        getDataCommunicator().setInMemorySorting(inMemorySorting);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compareMaybeComparables(Object a, Object b) {
+        if (a == b) {
+            return 0;
+        } else if (a == null) {
+            return -1;
+        } else if (b == null) {
+            return 1;
+        } else if (a instanceof Comparable && a.getClass().isInstance(b)) {
+            return ((Comparable) a).compareTo(b);
+        }
+        return String.valueOf(a).compareTo(String.valueOf(b));
+    }
 }
@@ -0,0 +1,63 @@
+window.comboBoxConnector = {
+    initLazy: function(comboBox) {
+        // The combo box has no items of its own in lazy mode. The items
+        // matching the typed filter are fetched from the server and assigned
+        // to filteredItems, which the web component shows as is.
+        var items = [];
+        var size = 0;
+
+        comboBox.addEventListener('filter-changed', function(event) {
+            comboBox.$server.setFilter(event.detail.value || '');
+        });
+
+        comboBox.connectorSet = function(index, newItems) {
+            for (var i = 0; i < newItems.length; i++) {
+                items[index + i] = newItems[i];
+            }
+        };
+
+        comboBox.updateData = function(updatedItems) {
+            for (var i = 0; i < updatedItems.length; i++) {
+                for (var j = 0; j < items.length; j++) {
+                    if (items[j] && items[j].key === updatedItems[i].key) {
+                        items[j] = updatedItems[i];
+                    }
+                }
+                var filteredItems = comboBox.filteredItems || [];
+                for (var k = 0; k < filteredItems.length; k++) {
+                    if (filteredItems[k] && filteredItems[k].key === updatedItems[i].key) {
+                        comboBox.set('filteredItems.' + k, updatedItems[i]);
+                    }
+                }
+            }
+        };
+
+        comboBox.connectorClear = function(index, length) {
+            for (var i = index; i < index + length; i++) {
+                delete items[i];
+            }
+        };
+
+        comboBox.connectorUpdateSize = function(newSize) {
+            size = newSize;
+            if (items.length > size) {
+                items.length = size;
+            }
+        };
+
+        comboBox.connectorConfirm = function(id) {
+            // We're done applying changes from this batch, show the items that
+            // are now in the active range
+            var filteredItems = [];
+            for (var i = 0; i < items.length; i++) {
+                if (items[i]) {
+                    filteredItems.push(items[i]);
+                }
+            }
+            comboBox.filteredItems = filteredItems;
+
+            // Let server know we're done
+            comboBox.$server.confirmUpdate(id);
+        };
+    }
+}
@@ -4,6 +4,7 @@ window.gridConnector = {
         var pageCallbacks = {};
         var cache = {};
         var lastRequestedRange = [0, 0];
+        var lastSortOrders = '[]';
 
         var validSelectionModes = ['SINGLE', 'NONE', 'MULTI'];
         var selectedKeys = {};
@@ -54,6 +55,18 @@ window.gridConnector = {
                 throw "Invalid pageSize"; 
             }
 
+            var sortOrders = (params.sortOrders || [])
+                .filter(sorter => sorter.direction)
+                .map(sorter => ({path: sorter.path, direction: sorter.direction}));
+            if (JSON.stringify(sortOrders) !== lastSortOrders) {
+                // Cached items are in the old order, the server resends the
+                // requested range once it has applied the new sorting
+                lastSortOrders = JSON.stringify(sortOrders);
+                cache = {};
+                // setTimeout to keep the order with setRequestedRange calls
+                setTimeout(() => grid.$server.sortersChanged(sortOrders), 0);
+            }
+
             var page = params.page;
             if (cache[page]) {
                 callback(cache[page]);
@@ -154,7 +167,7 @@ window.gridConnector = {
 
             for (var i = 0; i < updatedPageCount; i++) {
                 var page = firstPage + i;
-                var items = cache[page];
+                var items = cache[page] || [];
                 for (var j = 0; j < items.length; j++) {
                     var item = items[j];
                     if (selectedKeys[item.key]) {
@@ -20,6 +20,9 @@ import java.util.Arrays;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.vaadin.data.provider.DataProvider;
+import com.vaadin.function.SerializableFunction;
+
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 import elemental.json.JsonValue;
@@ -66,6 +69,37 @@ public class ComboBoxTest {
         comboBox.setDataProvider(null);
     }
 
+    @Test
+    public void setLazyDataProvider_itemsNotSentEagerly() {
+        ComboBox<String> comboBox = new ComboBox<>();
+        comboBox.setItems(Arrays.asList("foo", "bar"));
+        Assert.assertTrue(comboBox.getElement().hasProperty("items"));
+
+        comboBox.setDataProvider(DataProvider.ofItems("foo", "bar", "baz")
+                .filteringBySubstring(item -> item),
+                SerializableFunction.identity());
+
+        Assert.assertFalse(comboBox.getElement().hasProperty("items"));
+        Assert.assertEquals(50, comboBox.getPageSize());
+    }
+
+    @Test
+    public void lazyDataProvider_setValue_getValueReturnsItem() {
+        TestComboBox comboBox = new TestComboBox();
+        comboBox.setDataProvider(DataProvider.ofItems("foo", "bar")
+                .filteringBySubstring(item -> item),
+                SerializableFunction.identity());
+
+        comboBox.setValue("bar");
+
+        Assert.assertEquals("bar", comboBox.getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setPageSize_zero_throws() {
+        new ComboBox<String>().setPageSize(0);
+    }
+
     private void assertItem(TestComboBox comboBox, int index, String caption) {
         JsonValue value1 = comboBox.items.get(index);
         Assert.assertEquals(caption,
@@ -15,11 +15,22 @@
  */
 package com.vaadin.ui.grid;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.vaadin.data.provider.QuerySortOrder;
+import com.vaadin.data.provider.SortDirection;
 import com.vaadin.data.selection.SingleSelect;
 
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
 public class GridTest {
     @Test
     public void singleSelection_selectCurrent_noEvent() {
@@ -35,4 +46,79 @@ public class GridTest {
         singleSelect.setValue(singleSelect.getValue());
     }
 
+    @Test
+    public void addColumnWithSortProperties_headerHasSorter() {
+        Grid<String> grid = new Grid<>();
+        grid.addColumn("Sortable", item -> item, "name");
+        grid.addColumn("Not sortable", item -> item);
+
+        List<String> headers = grid.getElement().getChildren()
+                .filter(child -> "vaadin-grid-column".equals(child.getTag()))
+                .map(column -> column.getChild(0).getProperty("innerHTML"))
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(
+                "<vaadin-grid-sorter path=\"col0\">Sortable</vaadin-grid-sorter>",
+                headers.get(0));
+        Assert.assertEquals("Not sortable", headers.get(1));
+    }
+
+    @Test
+    public void sortersChanged_backEndAndInMemorySortingUpdated()
+            throws Exception {
+        Grid<String> grid = new Grid<>();
+        grid.addColumn("Name", item -> item, "name", "id");
+        grid.addColumn("Length", String::length, "length");
+
+        JsonArray sorters = Json.createArray();
+        sorters.set(0, createSorter("col1", "desc"));
+        sorters.set(1, createSorter("col0", "asc"));
+
+        Method sortersChanged = Grid.class.getDeclaredMethod("sortersChanged",
+                JsonArray.class);
+        sortersChanged.setAccessible(true);
+        sortersChanged.invoke(grid, sorters);
+
+        List<QuerySortOrder> sortOrder = grid.getSortOrder();
+        Assert.assertEquals(3, sortOrder.size());
+        assertSortOrder(sortOrder.get(0), "length", SortDirection.DESCENDING);
+        assertSortOrder(sortOrder.get(1), "name", SortDirection.ASCENDING);
+        assertSortOrder(sortOrder.get(2), "id", SortDirection.ASCENDING);
+
+        List<String> items = Arrays.asList("b", "aa", "a", "bb");
+        items.sort(grid.getDataCommunicator().getInMemorySorting());
+        Assert.assertEquals(Arrays.asList("aa", "bb", "a", "b"), items);
+    }
+
+    @Test
+    public void sortersChanged_unknownColumn_sorterIgnored() throws Exception {
+        Grid<String> grid = new Grid<>();
+        grid.addColumn("Name", item -> item, "name");
+
+        JsonArray sorters = Json.createArray();
+        sorters.set(0, createSorter("unknown", "asc"));
+        sorters.set(1, createSorter("col0", "desc"));
+
+        Method sortersChanged = Grid.class.getDeclaredMethod("sortersChanged",
+                JsonArray.class);
+        sortersChanged.setAccessible(true);
+        sortersChanged.invoke(grid, sorters);
+
+        List<QuerySortOrder> sortOrder = grid.getSortOrder();
+        Assert.assertEquals(1, sortOrder.size());
+        assertSortOrder(sortOrder.get(0), "name", SortDirection.DESCENDING);
+    }
+
+    private static JsonObject createSorter(String path, String direction) {
+        JsonObject sorter = Json.createObject();
+        sorter.put("path", path);
+        sorter.put("direction", direction);
+        return sorter;
+    }
+
+    private static void assertSortOrder(QuerySortOrder sortOrder,
+            String property, SortDirection direction) {
+        Assert.assertEquals(property, sortOrder.getSorted());
+        Assert.assertEquals(direction, sortOrder.getDirection());
+    }
 }
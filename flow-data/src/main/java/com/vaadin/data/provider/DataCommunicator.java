@@ -16,6 +16,7 @@
 package com.vaadin.data.provider;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -26,7 +27,6 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.vaadin.data.provider.ArrayUpdater.Update;
@@ -52,6 +52,81 @@ import elemental.json.JsonValue;
  *
  */
 public class DataCommunicator<T> {
+    /**
+     * The keys of the active items in the order they are shown. The keys are
+     * stored in a ring buffer so that scrolling only needs to touch the keys
+     * that are added or removed at the edges of the window.
+     */
+    private static final class ActiveKeyWindow {
+        private String[] keys = new String[0];
+        private int head;
+        private int size;
+
+        private int size() {
+            return size;
+        }
+
+        private String get(int index) {
+            assert index >= 0 && index < size;
+            return keys[(head + index) % keys.length];
+        }
+
+        private void removeFirst(int count, Collection<String> removed) {
+            assert count >= 0 && count <= size;
+            for (int i = 0; i < count; i++) {
+                removed.add(keys[head]);
+                keys[head] = null;
+                head = (head + 1) % keys.length;
+                size--;
+            }
+        }
+
+        private void removeLast(int count, Collection<String> removed) {
+            assert count >= 0 && count <= size;
+            for (int i = 0; i < count; i++) {
+                int index = (head + size - 1) % keys.length;
+                removed.add(keys[index]);
+                keys[index] = null;
+                size--;
+            }
+        }
+
+        private void addFirst(List<String> added) {
+            ensureCapacity(size + added.size());
+            for (int i = added.size() - 1; i >= 0; i--) {
+                head = (head - 1 + keys.length) % keys.length;
+                keys[head] = added.get(i);
+                size++;
+            }
+        }
+
+        private void addLast(List<String> added) {
+            ensureCapacity(size + added.size());
+            for (String key : added) {
+                keys[(head + size) % keys.length] = key;
+                size++;
+            }
+        }
+
+        private void replace(List<String> newKeys, Collection<String> removed) {
+            removeFirst(size, removed);
+            head = 0;
+            addLast(newKeys);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > keys.length) {
+                String[] newKeys = new String[Math.max(capacity,
+                        keys.length * 2)];
+                for (int i = 0; i < size; i++) {
+                    newKeys[i] = get(i);
+                }
+                keys = newKeys;
+                head = 0;
+            }
+        }
+    }
+
     private final BiFunction<String, T, JsonValue> dataGenerator;
     private final ArrayUpdater arrayUpdater;
     private final SerializableConsumer<JsonArray> dataUpdater;
@@ -64,12 +139,14 @@ public class DataCommunicator<T> {
 
     // Items that have been synced to the client and not yet passivated
     private int activeStart = 0;
-    private List<String> activeKeyOrder = Collections.emptyList();
+    private final ActiveKeyWindow activeKeys = new ActiveKeyWindow();
 
     // Last total size value sent to the client
     private int assumedSize;
 
     private boolean resendEntireRange = true;
+    // Sorting changes don't need the size to be queried again
+    private boolean sizeRecheckNeeded = true;
     private boolean assumeEmptyClient = true;
 
     private int nextUpdateId = 0;
@@ -139,6 +216,65 @@ public class DataCommunicator<T> {
      */
     public void reset() {
         resendEntireRange = true;
+        sizeRecheckNeeded = true;
+
+        requestFlush();
+    }
+
+    /**
+     * Sets the {@link Comparator} to use with in-memory sorting.
+     * <p>
+     * Changing the sorting resends the currently requested range of items
+     * without querying the size of the data provider again.
+     *
+     * @param comparator
+     *            comparator used to sort data, or <code>null</code> to not
+     *            use in-memory sorting
+     */
+    public void setInMemorySorting(Comparator<T> comparator) {
+        inMemorySorting = comparator;
+        resendSortedRange();
+    }
+
+    /**
+     * Returns the {@link Comparator} to use with in-memory sorting.
+     *
+     * @return comparator used to sort data, or <code>null</code> if there is
+     *         no in-memory sorting
+     */
+    public Comparator<T> getInMemorySorting() {
+        return inMemorySorting;
+    }
+
+    /**
+     * Sets the {@link QuerySortOrder}s to use with backend sorting.
+     * <p>
+     * Changing the sorting resends the currently requested range of items
+     * without querying the size of the data provider again.
+     *
+     * @param sortOrder
+     *            list of sort order information to pass to a query, not
+     *            <code>null</code>
+     */
+    public void setBackEndSorting(List<QuerySortOrder> sortOrder) {
+        Objects.requireNonNull(sortOrder, "Sort order list cannot be null");
+        backEndSorting.clear();
+        backEndSorting.addAll(sortOrder);
+        resendSortedRange();
+    }
+
+    /**
+     * Returns the {@link QuerySortOrder}s to use with backend sorting.
+     *
+     * @return an unmodifiable list of sort order information to pass to a
+     *         query
+     */
+    public List<QuerySortOrder> getBackEndSorting() {
+        return Collections.unmodifiableList(backEndSorting);
+    }
+
+    private void resendSortedRange() {
+        resendEntireRange = true;
 
         requestFlush();
     }
@@ -305,7 +441,10 @@ public class DataCommunicator<T> {
     private void requestFlushUpdatedData() {
         if (flushUpdatedDataRequest == null) {
             flushUpdatedDataRequest = () -> {
-                flushUpdatedData();
+                // A pending flush sends the updated data along with its update
+                if (flushRequest == null) {
+                    flushUpdatedData();
+                }
                 flushUpdatedDataRequest = null;
             };
             stateNode.runWhenAttached(ui -> ui.getInternals().getStateTree()
@@ -314,24 +453,21 @@ public class DataCommunicator<T> {
     }
 
     private void flush() {
-        Set<String> oldActive = new HashSet<>(activeKeyOrder);
-
-        if (resendEntireRange) {
+        if (sizeRecheckNeeded) {
             assumedSize = getDataProviderSize();
         }
 
         final Range previousActive = Range.withLength(activeStart,
-                activeKeyOrder.size());
+                activeKeys.size());
         final Range effectiveRequested = requestedRange
                 .restrictTo(Range.withLength(0, assumedSize));
 
         resendEntireRange |= !previousActive.intersects(effectiveRequested);
 
         // Phase 1: Find all items that the client should have
-        List<String> newActiveKeyOrder = collectKeysToFlush(previousActive,
+        Set<String> inactiveKeys = updateActiveKeys(previousActive,
                 effectiveRequested);
 
-        activeKeyOrder = newActiveKeyOrder;
         activeStart = effectiveRequested.getStart();
 
         // Phase 2: Collect changes to send
@@ -340,13 +476,17 @@ public class DataCommunicator<T> {
                 effectiveRequested, update);
 
         resendEntireRange = false;
+        sizeRecheckNeeded = false;
         assumeEmptyClient = false;
 
         // Phase 3: passivate anything that isn't longer active
-        passivateInactiveKeys(oldActive, newActiveKeyOrder, update, updated);
+        passivateInactiveKeys(inactiveKeys, update, updated);
 
         // Phase 4: unregister passivated and updated items
         unregisterPassivatedKeys();
+
+        // Phase 5: send refreshed items that were not included in the update
+        flushUpdatedData();
     }
 
     private void flushUpdatedData() {
@@ -376,8 +516,8 @@ public class DataCommunicator<T> {
         }
     }
 
-    private void passivateInactiveKeys(Set<String> oldActive,
-            List<String> newActiveKeyOrder, Update update, boolean updated) {
+    private void passivateInactiveKeys(Set<String> inactiveKeys,
+            Update update, boolean updated) {
         /*
          * We cannot immediately unregister keys that we have asked the client
          * to remove, since the client might send a message using that key
@@ -389,9 +529,9 @@ public class DataCommunicator<T> {
             update.commit(updateId);
 
             // Finally clear any passivated items that have now been confirmed
-            oldActive.removeAll(newActiveKeyOrder);
-            if (!oldActive.isEmpty()) {
-                passivatedByUpdate.put(Integer.valueOf(updateId), oldActive);
+            if (!inactiveKeys.isEmpty()) {
+                passivatedByUpdate.put(Integer.valueOf(updateId),
+                        inactiveKeys);
             }
         }
     }
@@ -434,38 +574,58 @@ public class DataCommunicator<T> {
         return updated;
     }
 
-    private List<String> collectKeysToFlush(final Range previousActive,
+    /**
+     * Updates the active keys to correspond to the requested range.
+     *
+     * @return the keys that are no longer active
+     */
+    private Set<String> updateActiveKeys(final Range previousActive,
             final Range effectiveRequested) {
-        List<String> newActiveKeyOrder;
-        /*
-         * Collecting all items even though only some small sub range would
-         * actually be useful can be optimized away once we have some actual
-         * test coverage for the logic here.
-         */
+        Set<String> inactiveKeys = new HashSet<>();
         if (resendEntireRange) {
-            newActiveKeyOrder = activate(effectiveRequested);
+            List<String> newActiveKeys = activate(effectiveRequested);
+            activeKeys.replace(newActiveKeys, inactiveKeys);
+            newActiveKeys.forEach(inactiveKeys::remove);
         } else {
+            /*
+             * Only the edges of the window change: drop the keys outside the
+             * overlap and fetch the items for the new parts.
+             */
             Range[] partitionWith = effectiveRequested
                     .partitionWith(previousActive);
+            Range overlap = partitionWith[1];
+
+            activeKeys.removeFirst(
+                    overlap.getStart() - previousActive.getStart(),
+                    inactiveKeys);
+            activeKeys.removeLast(previousActive.getEnd() - overlap.getEnd(),
+                    inactiveKeys);
+
+            List<String> keysBefore = activate(partitionWith[0]);
+            List<String> keysAfter = activate(partitionWith[2]);
+            if (!inactiveKeys.isEmpty()) {
+                // An item can move between edges if the data has changed
+                keysBefore.forEach(inactiveKeys::remove);
+                keysAfter.forEach(inactiveKeys::remove);
+            }
 
-            newActiveKeyOrder = new ArrayList<>();
-            newActiveKeyOrder.addAll(activate(partitionWith[0]));
-
-            // Pick existing items from the current list
-            Range overlap = partitionWith[1].offsetBy(-activeStart);
-            newActiveKeyOrder.addAll(activeKeyOrder.subList(overlap.getStart(),
-                    overlap.getEnd()));
-
-            newActiveKeyOrder.addAll(activate(partitionWith[2]));
+            activeKeys.addFirst(keysBefore);
+            activeKeys.addLast(keysAfter);
         }
-        return newActiveKeyOrder;
+        return inactiveKeys;
     }
 
     private List<JsonValue> getJsonItems(Range range) {
-        return range.stream()
-                .mapToObj(index -> activeKeyOrder.get(index - activeStart))
-                .map(keyMapper::get).map(this::generateJson)
-                .collect(Collectors.toList());
+        List<JsonValue> items = new ArrayList<>(range.length());
+        for (int index = range.getStart(); index < range.getEnd(); index++) {
+            T item = keyMapper.get(activeKeys.get(index - activeStart));
+            // The item is sent with its current data, no need to refresh it
+            if (!updatedData.isEmpty()) {
+                updatedData.remove(item);
+            }
+            items.add(generateJson(item));
+        }
+        return items;
     }
 
     private static final void withMissing(Range expected, Range actual,
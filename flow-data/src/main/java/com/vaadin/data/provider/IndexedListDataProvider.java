@@ -0,0 +1,227 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.data.provider;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.vaadin.function.SerializablePredicate;
+
+/**
+ * {@link ListDataProvider} which caches the filtered and sorted views of its
+ * items.
+ * <p>
+ * A view is computed once for each combination of query filter and in-memory
+ * sorting, after which {@link #fetch(Query)} and {@link #size(Query)} are
+ * answered from the cached view without going through the whole collection
+ * again. This makes scrolling through large in-memory collections cheap, at
+ * the cost of keeping a reference array of the items for each cached view.
+ * Only a few of the most recently used views are kept.
+ * <p>
+ * The cached views are discarded by {@link #refreshAll()} and
+ * {@link #refreshItem(Object)}. Since no protective copy is made of the
+ * backing collection, one of them must be called whenever the collection or
+ * any property that affects filtering or sorting of an item is changed.
+ *
+ * @param <T>
+ *            data type
+ *
+ * @author Vaadin Ltd
+ *
+ */
+public class IndexedListDataProvider<T> extends ListDataProvider<T> {
+
+    private static final int MAX_CACHED_VIEWS = 8;
+
+    private int parallelSortThreshold = Integer.MAX_VALUE;
+
+    private transient Map<ViewKey, Object[]> views;
+
+    /**
+     * Identifies a view by the query filter, the query sorting and the sort
+     * order of this data provider. Filters and comparators are typically
+     * compared by identity, so a component reuses a view for as long as it
+     * keeps using the same instances. The comparators are kept separate
+     * instead of combining them, since a combined comparator would be a new
+     * instance for every query.
+     */
+    private static final class ViewKey {
+        private final Object filter;
+        private final Object querySorting;
+        private final Object sortOrder;
+
+        private ViewKey(Object filter, Object querySorting,
+                Object sortOrder) {
+            this.filter = filter;
+            this.querySorting = querySorting;
+            this.sortOrder = sortOrder;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ViewKey)) {
+                return false;
+            }
+            ViewKey other = (ViewKey) obj;
+            return Objects.equals(filter, other.filter)
+                    && Objects.equals(querySorting, other.querySorting)
+                    && Objects.equals(sortOrder, other.sortOrder);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, querySorting, sortOrder);
+        }
+    }
+
+    /**
+     * Constructs a new indexed list data provider.
+     * <p>
+     * No protective copy is made of the list, and changes in the provided
+     * backing Collection will be visible via this data provider after
+     * {@link #refreshAll()} has been called. The caller should copy the list
+     * if necessary.
+     *
+     * @param items
+     *            the initial data, not null
+     */
+    public IndexedListDataProvider(Collection<T> items) {
+        super(items);
+    }
+
+    /**
+     * Sets the minimum number of items in a view for sorting it using
+     * {@link Arrays#parallelSort(Object[], Comparator)} instead of sorting in
+     * the calling thread. Parallel sorting is disabled by default.
+     * <p>
+     * The comparators used for sorting must be thread safe if parallel sorting
+     * is enabled.
+     *
+     * @param parallelSortThreshold
+     *            the minimum view size for parallel sorting, or
+     *            {@link Integer#MAX_VALUE} to disable parallel sorting
+     */
+    public void setParallelSortThreshold(int parallelSortThreshold) {
+        if (parallelSortThreshold < 0) {
+            throw new IllegalArgumentException(
+                    "Parallel sort threshold cannot be negative");
+        }
+        this.parallelSortThreshold = parallelSortThreshold;
+    }
+
+    /**
+     * Gets the minimum number of items in a view for sorting it in parallel.
+     *
+     * @see #setParallelSortThreshold(int)
+     *
+     * @return the minimum view size for parallel sorting
+     */
+    public int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<T> fetch(Query<T, SerializablePredicate<T>> query) {
+        Object[] view = getView(query.getFilter().orElse(null),
+                query.getInMemorySorting(), getSortComparator());
+
+        int from = Math.min(query.getOffset(), view.length);
+        int to = (int) Math.min((long) from + query.getLimit(), view.length);
+        return Arrays.stream(view, from, to).map(item -> (T) item);
+    }
+
+    @Override
+    public int size(Query<T, SerializablePredicate<T>> query) {
+        return getView(query.getFilter().orElse(null), null, null).length;
+    }
+
+    @Override
+    public void refreshAll() {
+        clearViews();
+        super.refreshAll();
+    }
+
+    @Override
+    public void refreshItem(T item) {
+        // The item might now be filtered or sorted differently
+        clearViews();
+        super.refreshItem(item);
+    }
+
+    private synchronized void clearViews() {
+        views = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized Object[] getView(
+            SerializablePredicate<T> queryFilter, Comparator<T> querySorting,
+            Comparator<T> sortOrder) {
+        if (views == null) {
+            views = new LinkedHashMap<ViewKey, Object[]>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<ViewKey, Object[]> eldest) {
+                    return size() > MAX_CACHED_VIEWS;
+                }
+            };
+        }
+
+        ViewKey key = new ViewKey(queryFilter, querySorting, sortOrder);
+        Object[] view = views.get(key);
+        if (view != null) {
+            return view;
+        }
+
+        if (querySorting == null && sortOrder == null) {
+            Stream<T> stream = getItems().stream();
+            // Apply our own filter first like ListDataProvider does
+            if (getFilter() != null) {
+                stream = stream.filter(getFilter());
+            }
+            if (queryFilter != null) {
+                stream = stream.filter(queryFilter);
+            }
+            view = stream.toArray();
+        } else {
+            view = getView(queryFilter, null, null).clone();
+            Comparator<Object> itemComparator = (Comparator<Object>) combine(
+                    querySorting, sortOrder);
+            if (view.length >= parallelSortThreshold) {
+                Arrays.parallelSort(view, itemComparator);
+            } else {
+                Arrays.sort(view, itemComparator);
+            }
+        }
+        views.put(key, view);
+        return view;
+    }
+
+    private static <T> Comparator<T> combine(Comparator<T> querySorting,
+            Comparator<T> sortOrder) {
+        if (querySorting == null) {
+            return sortOrder;
+        } else if (sortOrder == null) {
+            return querySorting;
+        }
+        return querySorting.thenComparing(sortOrder);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.data.provider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.data.provider.ArrayUpdater.Update;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.ui.UI;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonValue;
+
+public class DataCommunicatorTest {
+
+    private static class Item {
+        private final int id;
+        private String value;
+
+        private Item(int id) {
+            this.id = id;
+            value = "item" + id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Item && ((Item) obj).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+
+    private final List<String> updateLog = new ArrayList<>();
+    private final List<JsonArray> refreshedData = new ArrayList<>();
+
+    private UI ui;
+    private List<Item> items;
+    private ListDataProvider<Item> dataProvider;
+    private DataCommunicator<Item> dataCommunicator;
+
+    @Before
+    public void setUp() {
+        ui = new UI();
+        Element element = new Element("div");
+        ui.getElement().appendChild(element);
+
+        items = IntStream.range(0, 1000).mapToObj(Item::new)
+                .collect(Collectors.toList());
+        dataProvider = new ListDataProvider<>(items);
+
+        ArrayUpdater arrayUpdater = size -> new Update() {
+            @Override
+            public void clear(int start, int length) {
+                updateLog.add("clear " + start + " " + length);
+            }
+
+            @Override
+            public void set(int start, List<JsonValue> values) {
+                updateLog.add("set " + start + " " + values.size());
+            }
+
+            @Override
+            public void commit(int updateId) {
+                updateLog.add("commit " + updateId);
+            }
+        };
+        dataCommunicator = new DataCommunicator<>(
+                (key, item) -> Json.create(item.value), arrayUpdater,
+                refreshedData::add, element.getNode());
+        dataCommunicator.setDataProvider(dataProvider, null);
+    }
+
+    @Test
+    public void scroll_onlyEdgesUpdated() {
+        dataCommunicator.setRequestedRange(0, 50);
+        flush();
+        updateLog.clear();
+
+        dataCommunicator.setRequestedRange(10, 50);
+        flush();
+
+        Assert.assertEquals(
+                Arrays.asList("clear 0 10", "set 50 10", "commit 1"),
+                updateLog);
+    }
+
+    @Test
+    public void scroll_confirmedUpdate_keysOutsideWindowUnregistered() {
+        dataCommunicator.setRequestedRange(0, 50);
+        flush();
+        dataCommunicator.setRequestedRange(10, 50);
+        flush();
+
+        Assert.assertTrue(dataCommunicator.getKeyMapper().has(items.get(0)));
+
+        dataCommunicator.confirmUpdate(1);
+        flush();
+
+        Assert.assertFalse(dataCommunicator.getKeyMapper().has(items.get(0)));
+        Assert.assertFalse(dataCommunicator.getKeyMapper().has(items.get(9)));
+        Assert.assertTrue(dataCommunicator.getKeyMapper().has(items.get(10)));
+        Assert.assertTrue(dataCommunicator.getKeyMapper().has(items.get(59)));
+    }
+
+    @Test
+    public void scrollBack_keysReactivated_notUnregistered() {
+        dataCommunicator.setRequestedRange(0, 50);
+        flush();
+        dataCommunicator.setRequestedRange(10, 50);
+        flush();
+        dataCommunicator.setRequestedRange(0, 50);
+        flush();
+
+        dataCommunicator.confirmUpdate(1);
+        dataCommunicator.confirmUpdate(2);
+        flush();
+
+        Assert.assertTrue(dataCommunicator.getKeyMapper().has(items.get(0)));
+        Assert.assertFalse(dataCommunicator.getKeyMapper().has(items.get(50)));
+    }
+
+    @Test
+    public void refreshItem_sentSeparately() {
+        dataCommunicator.setRequestedRange(0, 50);
+        flush();
+
+        items.get(5).value = "changed";
+        dataProvider.refreshItem(items.get(5));
+        flush();
+
+        Assert.assertEquals(1, refreshedData.size());
+        Assert.assertEquals("changed", refreshedData.get(0).getString(0));
+    }
+
+    @Test
+    public void refreshItem_includedInUpdate_notSentSeparately() {
+        dataCommunicator.setRequestedRange(0, 50);
+        flush();
+
+        dataProvider.refreshItem(items.get(55));
+        dataCommunicator.setRequestedRange(10, 50);
+        flush();
+
+        Assert.assertTrue(refreshedData.isEmpty());
+    }
+
+    private void flush() {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.data.provider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.function.SerializablePredicate;
+
+public class IndexedListDataProviderTest {
+
+    private List<Integer> items;
+    private IndexedListDataProvider<Integer> dataProvider;
+
+    private AtomicInteger filterInvocations = new AtomicInteger();
+    private SerializablePredicate<Integer> evenFilter = item -> {
+        filterInvocations.incrementAndGet();
+        return item % 2 == 0;
+    };
+    private Comparator<Integer> descending = Comparator.reverseOrder();
+
+    @Before
+    public void setUp() {
+        items = IntStream.range(0, 100).boxed()
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.shuffle(items);
+        dataProvider = new IndexedListDataProvider<>(items);
+    }
+
+    @Test
+    public void fetch_sameResultAsListDataProvider() {
+        ListDataProvider<Integer> reference = new ListDataProvider<>(items);
+        Query<Integer, SerializablePredicate<Integer>> query = new Query<>(10,
+                20, Collections.emptyList(), descending, evenFilter);
+
+        Assert.assertEquals(
+                reference.fetch(query).collect(Collectors.toList()),
+                dataProvider.fetch(query).collect(Collectors.toList()));
+        Assert.assertEquals(reference.size(query), dataProvider.size(query));
+    }
+
+    @Test
+    public void fetch_pastEnd_returnsRemainingItems() {
+        Query<Integer, SerializablePredicate<Integer>> query = new Query<>(95,
+                50, Collections.emptyList(), null, null);
+
+        Assert.assertEquals(5, dataProvider.fetch(query).count());
+    }
+
+    @Test
+    public void fetchPages_filterAppliedOnlyOnce() {
+        for (int offset = 0; offset < 50; offset += 10) {
+            dataProvider.fetch(new Query<>(offset, 10, Collections.emptyList(),
+                    descending, evenFilter));
+            dataProvider.size(new Query<>(evenFilter));
+        }
+
+        Assert.assertEquals(items.size(), filterInvocations.get());
+    }
+
+    @Test
+    public void refreshAll_viewsRecomputed() {
+        Query<Integer, SerializablePredicate<Integer>> query = new Query<>(
+                evenFilter);
+        Assert.assertEquals(50, dataProvider.size(query));
+
+        items.add(100);
+        Assert.assertEquals("Backing collection changes are not visible "
+                + "before refreshAll()", 50, dataProvider.size(query));
+
+        dataProvider.refreshAll();
+        Assert.assertEquals(51, dataProvider.size(query));
+    }
+
+    @Test
+    public void setSortComparator_viewsRecomputed() {
+        Query<Integer, SerializablePredicate<Integer>> query = new Query<>();
+        Assert.assertEquals(Integer.valueOf(0),
+                dataProvider.fetch(new Query<>(0, 1, Collections.emptyList(),
+                        Comparator.naturalOrder(), null)).findFirst().get());
+
+        dataProvider.setSortComparator(descending::compare);
+
+        Assert.assertEquals(Integer.valueOf(99),
+                dataProvider.fetch(query).findFirst().get());
+    }
+
+    @Test
+    public void fetchPages_querySortingAndSortComparator_sortedOnlyOnce() {
+        AtomicInteger comparisons = new AtomicInteger();
+        Comparator<Integer> evenFirst = (item1, item2) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(item1 % 2, item2 % 2);
+        };
+        dataProvider.setSortComparator(descending::compare);
+
+        List<Integer> firstPage = dataProvider
+                .fetch(new Query<>(0, 10, Collections.emptyList(), evenFirst,
+                        null))
+                .collect(Collectors.toList());
+        int comparisonsAfterFirstPage = comparisons.get();
+
+        List<Integer> secondPage = dataProvider
+                .fetch(new Query<>(50, 10, Collections.emptyList(), evenFirst,
+                        null))
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(Arrays.asList(98, 96, 94, 92, 90, 88, 86, 84, 82,
+                80), firstPage);
+        Assert.assertEquals(Arrays.asList(99, 97, 95, 93, 91, 89, 87, 85, 83,
+                81), secondPage);
+        Assert.assertEquals("The sorted view should be reused",
+                comparisonsAfterFirstPage, comparisons.get());
+    }
+
+    @Test
+    public void parallelSort_sameResult() {
+        dataProvider.setParallelSortThreshold(0);
+        Query<Integer, SerializablePredicate<Integer>> query = new Query<>(0,
+                Integer.MAX_VALUE, Collections.emptyList(), descending, null);
+
+        List<Integer> expected = IntStream.range(0, 100).boxed()
+                .sorted(descending).collect(Collectors.toList());
+        Assert.assertEquals(expected,
+                dataProvider.fetch(query).collect(Collectors.toList()));
+    }
+}
@@ -16,7 +16,11 @@
 package com.vaadin.flow;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import elemental.json.Json;
@@ -25,6 +29,12 @@ import elemental.json.JsonObject;
 /**
  * Keeps track of {@link ConstantPoolKey} values that have already been sent to
  * the client.
+ * <p>
+ * The constant pool also acts as a dictionary of strings that are sent to the
+ * client repeatedly, such as the keys of map features. Each such string is
+ * assigned a small numeric id that is sent to the client together with the
+ * other new constants, so that later messages can refer to the string using
+ * only the id.
  *
  * @author Vaadin Ltd
  */
@@ -34,6 +44,10 @@ public class ConstantPool implements Serializable {
 
     private Set<ConstantPoolKey> newKeys = new HashSet<>();
 
+    private Map<String, Integer> stringIds = new HashMap<>();
+
+    private List<String> newStrings = new ArrayList<>();
+
     /**
      * Gets the id of a given constant, registering the constant with this
      * constant pool if it hasn't already been encountered.
@@ -56,6 +70,29 @@ public class ConstantPool implements Serializable {
         return id;
     }
 
+    /**
+     * Gets the dictionary id of a given string, registering the string with
+     * this constant pool if it hasn't already been encountered. The string is
+     * sent to the client in the next {@link #dumpConstants()} using the id
+     * converted to a string as the constant key.
+     *
+     * @param value
+     *            the string to get an id for, not <code>null</code>
+     * @return the non-negative id of the given string
+     */
+    public int getStringId(String value) {
+        assert value != null;
+
+        Integer id = stringIds.get(value);
+        if (id == null) {
+            id = Integer.valueOf(stringIds.size());
+            stringIds.put(value, id);
+            newStrings.add(value);
+        }
+
+        return id.intValue();
+    }
+
     /**
      * Checks if any new constants have been added to this constant pool since
      * the last time {@link #dumpConstants()} was called.
@@ -64,7 +101,7 @@ public class ConstantPool implements Serializable {
      *         otherwise
      */
     public boolean hasNewConstants() {
-        return !newKeys.isEmpty();
+        return !newKeys.isEmpty() || !newStrings.isEmpty();
     }
 
     /**
@@ -79,6 +116,10 @@ public class ConstantPool implements Serializable {
         newKeys.forEach(key -> key.export(json));
         newKeys.clear();
 
+        newStrings.forEach(value -> json.put(
+                Integer.toString(stringIds.get(value).intValue()), value));
+        newStrings.clear();
+
         return json;
     }
 
@@ -16,15 +16,15 @@
 
 package com.vaadin.flow;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -48,11 +48,17 @@ import com.vaadin.ui.UI;
  * @author Vaadin Ltd
  */
 public class StateNode implements Serializable {
-    private final Map<Class<? extends NodeFeature>, NodeFeature> features = new HashMap<>();
+    /*
+     * Features and change trackers are stored in slots indexed by the feature
+     * id from NodeFeatureRegistry to avoid hashing the feature class for every
+     * lookup. Only the non-empty slots are serialized, see writeObject.
+     */
+    private transient NodeFeature[] features;
 
-    private final Set<Class<? extends NodeFeature>> reportedFeatures = new HashSet<>();
+    // Ids of the reported features, null if there are none
+    private BitSet reportedFeatures;
 
-    private Map<Class<? extends NodeFeature>, Serializable> changes;
+    private Serializable[] changes;
 
     private ArrayList<Command> attachListeners;
 
@@ -64,6 +70,9 @@ public class StateNode implements Serializable {
 
     private int id = -1;
 
+    // Whether this node is in the dirty node list of its owner tree
+    private boolean inDirtyList;
+
     // Only the root node is attached at this point
     private boolean wasAttached = isAttached();
 
@@ -87,8 +96,7 @@ public class StateNode implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public StateNode(StateNode node) {
-        this(new ArrayList<>(node.reportedFeatures),
-                getNonRepeatebleFeatures(node));
+        this(getReportedFeatureTypes(node), getNonRepeatebleFeatures(node));
     }
 
     /**
@@ -104,7 +112,18 @@ public class StateNode implements Serializable {
     @SafeVarargs
     public StateNode(List<Class<? extends NodeFeature>> reportableFeatureTypes,
             Class<? extends NodeFeature>... nonReportableFeatureTypes) {
-        reportedFeatures.addAll(reportableFeatureTypes);
+        if (!reportableFeatureTypes.isEmpty()) {
+            reportedFeatures = new BitSet();
+            reportableFeatureTypes.forEach(type -> reportedFeatures
+                    .set(NodeFeatureRegistry.getId(type)));
+        }
+
+        int maxFeatureId = Stream
+                .concat(reportableFeatureTypes.stream(),
+                        Stream.of(nonReportableFeatureTypes))
+                .mapToInt(NodeFeatureRegistry::getId).max().orElse(-1);
+        features = new NodeFeature[maxFeatureId + 1];
+
         Stream.concat(reportableFeatureTypes.stream(),
                 Stream.of(nonReportableFeatureTypes)).forEach(this::addFeature);
     }
@@ -209,7 +228,7 @@ public class StateNode implements Serializable {
     }
 
     private void forEachChild(Consumer<StateNode> action) {
-        getFeatures().values().forEach(n -> n.forEachChild(action));
+        forEachFeature(feature -> feature.forEachChild(action));
     }
 
     /**
@@ -238,7 +257,7 @@ public class StateNode implements Serializable {
     public <T extends NodeFeature> T getFeature(Class<T> featureType) {
         assert featureType != null;
 
-        NodeFeature feature = getFeatures().get(featureType);
+        NodeFeature feature = findFeature(featureType);
         if (feature == null) {
             throw new IllegalStateException(
                     "Node does not have the feature " + featureType);
@@ -258,7 +277,7 @@ public class StateNode implements Serializable {
     public boolean hasFeature(Class<? extends NodeFeature> featureType) {
         assert featureType != null;
 
-        return getFeatures().containsKey(featureType);
+        return findFeature(featureType) != null;
     }
 
     /**
@@ -310,8 +329,7 @@ public class StateNode implements Serializable {
 
                 // Make all changes show up as if the node was recently attached
                 clearChanges();
-                getFeatures().values()
-                        .forEach(NodeFeature::generateChangesFromEmpty);
+                forEachFeature(NodeFeature::generateChangesFromEmpty);
             } else {
                 collector.accept(new NodeDetachChange(this));
             }
@@ -320,16 +338,17 @@ public class StateNode implements Serializable {
         }
 
         if (isAttached) {
-            getFeatures().values().stream().filter(this::hasChangeTracker)
-                    .forEach(feature -> feature.collectChanges(collector));
+            if (changes != null) {
+                for (int i = 0; i < features.length; i++) {
+                    if (changes[i] != null) {
+                        features[i].collectChanges(collector);
+                    }
+                }
+            }
             clearChanges();
         }
     }
 
-    private boolean hasChangeTracker(NodeFeature nodeFeature) {
-        return changes != null && changes.containsKey(nodeFeature.getClass());
-    }
-
     /**
      * Clears all changes recorded for this node. This method is public only for
      * testing purposes.
@@ -496,7 +515,7 @@ public class StateNode implements Serializable {
             copy.forEach(Command::execute);
         }
 
-        getFeatures().values().forEach(f -> f.onAttach(initialAttach));
+        forEachFeature(feature -> feature.onAttach(initialAttach));
     }
 
     private void fireDetachListeners() {
@@ -506,7 +525,7 @@ public class StateNode implements Serializable {
             copy.forEach(Command::execute);
         }
 
-        getFeatures().values().forEach(NodeFeature::onDetach);
+        forEachFeature(NodeFeature::onDetach);
     }
 
     /**
@@ -524,12 +543,19 @@ public class StateNode implements Serializable {
     @SuppressWarnings("unchecked")
     public <T extends Serializable> T getChangeTracker(NodeFeature feature,
             Supplier<T> factory) {
+        int featureId = NodeFeatureRegistry.getId(feature.getClass());
+        assert features[featureId] == feature;
+
         if (changes == null) {
-            changes = new HashMap<>();
+            changes = new Serializable[features.length];
         }
 
-        return (T) changes.computeIfAbsent(feature.getClass(),
-                k -> factory.get());
+        Serializable tracker = changes[featureId];
+        if (tracker == null) {
+            tracker = factory.get();
+            changes[featureId] = tracker;
+        }
+        return (T) tracker;
     }
 
     /**
@@ -565,7 +591,8 @@ public class StateNode implements Serializable {
      * @return whether the feature required by the client side
      */
     public boolean isReportedFeature(Class<? extends NodeFeature> featureType) {
-        return reportedFeatures.contains(featureType);
+        return reportedFeatures != null
+                && reportedFeatures.get(NodeFeatureRegistry.getId(featureType));
     }
 
     /**
@@ -580,25 +607,108 @@ public class StateNode implements Serializable {
         return ((StateTree) getOwner()).getUI();
     }
 
+    /**
+     * Checks whether this node is in the dirty node list of its owner tree.
+     * Only used by {@link StateTree}.
+     *
+     * @return <code>true</code> if the node is in the dirty node list,
+     *         <code>false</code> otherwise
+     */
+    boolean isInDirtyList() {
+        return inDirtyList;
+    }
+
+    /**
+     * Sets whether this node is in the dirty node list of its owner tree. Only
+     * used by {@link StateTree}.
+     *
+     * @param inDirtyList
+     *            <code>true</code> if the node is in the dirty node list,
+     *            <code>false</code> otherwise
+     */
+    void setInDirtyList(boolean inDirtyList) {
+        this.inDirtyList = inDirtyList;
+    }
+
     private void addFeature(Class<? extends NodeFeature> featureType) {
-        if (!features.containsKey(featureType)) {
-            NodeFeature feature = NodeFeatureRegistry.create(featureType, this);
-            features.put(featureType, feature);
+        int featureId = NodeFeatureRegistry.getId(featureType);
+        if (features[featureId] == null) {
+            features[featureId] = NodeFeatureRegistry.create(featureType, this);
         }
     }
 
-    private Map<Class<? extends NodeFeature>, NodeFeature> getFeatures() {
-        return features;
+    private NodeFeature findFeature(Class<? extends NodeFeature> featureType) {
+        int featureId = NodeFeatureRegistry.getId(featureType);
+        if (featureId < features.length) {
+            return features[featureId];
+        }
+        return null;
+    }
+
+    private void forEachFeature(Consumer<NodeFeature> action) {
+        for (NodeFeature feature : features) {
+            if (feature != null) {
+                action.accept(feature);
+            }
+        }
+    }
+
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+
+        /*
+         * Write each feature prefixed by its registry id instead of writing
+         * the sparse feature array. The ids are assigned in a fixed order, so
+         * they are the same in all servers running the same version.
+         */
+        int featureCount = 0;
+        for (NodeFeature feature : features) {
+            if (feature != null) {
+                featureCount++;
+            }
+        }
+        stream.writeShort(features.length);
+        stream.writeShort(featureCount);
+        for (int i = 0; i < features.length; i++) {
+            if (features[i] != null) {
+                stream.writeShort(i);
+                stream.writeObject(features[i]);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+
+        features = new NodeFeature[stream.readShort()];
+        int featureCount = stream.readShort();
+        for (int i = 0; i < featureCount; i++) {
+            int featureId = stream.readShort();
+            features[featureId] = (NodeFeature) stream.readObject();
+        }
+    }
+
+    private static List<Class<? extends NodeFeature>> getReportedFeatureTypes(
+            StateNode node) {
+        if (node.reportedFeatures == null) {
+            return Collections.emptyList();
+        }
+        List<Class<? extends NodeFeature>> types = new ArrayList<>();
+        node.reportedFeatures.stream()
+                .forEach(id -> types.add(NodeFeatureRegistry.getFeature(id)));
+        return types;
     }
 
     @SuppressWarnings("rawtypes")
     private static Class[] getNonRepeatebleFeatures(StateNode node) {
-        if (node.reportedFeatures.isEmpty()) {
-            Set<Class<? extends NodeFeature>> set = node.features.keySet();
-            return set.toArray(new Class[set.size()]);
+        List<Class<? extends NodeFeature>> types = new ArrayList<>();
+        for (int i = 0; i < node.features.length; i++) {
+            if (node.features[i] != null && (node.reportedFeatures == null
+                    || !node.reportedFeatures.get(i))) {
+                types.add(node.features[i].getClass());
+            }
         }
-        return node.features.keySet().stream()
-                .filter(clazz -> !node.reportedFeatures.contains(clazz))
-                .toArray(Class[]::new);
+        return types.toArray(new Class[types.size()]);
     }
 }
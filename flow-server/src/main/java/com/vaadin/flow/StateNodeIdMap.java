@@ -0,0 +1,189 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow;
+
+import java.io.Serializable;
+
+/**
+ * Maps node ids to state nodes. Uses open addressing with linear probing over
+ * primitive arrays so that no boxed keys or entry objects are needed for the
+ * potentially large number of nodes in a state tree.
+ * <p>
+ * Only positive ids are supported since <code>0</code> is used for marking
+ * empty slots.
+ *
+ * @author Vaadin Ltd
+ */
+final class StateNodeIdMap implements Serializable {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private StateNode[] values = new StateNode[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Gets the node with the given id.
+     *
+     * @param id
+     *            the node id
+     * @return the node with the given id, or <code>null</code> if there is no
+     *         such node
+     */
+    StateNode get(int id) {
+        if (id <= 0) {
+            return null;
+        }
+        int slot = findSlot(id);
+        return keys[slot] == id ? values[slot] : null;
+    }
+
+    /**
+     * Checks whether there is a node with the given id.
+     *
+     * @param id
+     *            the node id
+     * @return <code>true</code> if there is a node with the given id,
+     *         <code>false</code> otherwise
+     */
+    boolean containsKey(int id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Associates the given node with the given id, replacing any previous
+     * node with the same id.
+     *
+     * @param id
+     *            the positive node id
+     * @param node
+     *            the node, not <code>null</code>
+     */
+    void put(int id, StateNode node) {
+        assert id > 0;
+        assert node != null;
+
+        // Keep the load factor below 0.75
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+
+        int slot = findSlot(id);
+        if (keys[slot] != id) {
+            keys[slot] = id;
+            size++;
+        }
+        values[slot] = node;
+    }
+
+    /**
+     * Removes the node with the given id.
+     *
+     * @param id
+     *            the node id
+     * @return the removed node, or <code>null</code> if there was no node with
+     *         the given id
+     */
+    StateNode remove(int id) {
+        if (id <= 0) {
+            return null;
+        }
+        int hole = findSlot(id);
+        if (keys[hole] != id) {
+            return null;
+        }
+        StateNode removed = values[hole];
+
+        /*
+         * Shift subsequent entries of the same probe sequence backwards so
+         * that lookups don't need tombstones.
+         */
+        int mask = keys.length - 1;
+        int current = hole;
+        while (true) {
+            current = (current + 1) & mask;
+            int key = keys[current];
+            if (key == 0) {
+                break;
+            }
+            int home = hash(key) & mask;
+            if (!isCyclicallyBetween(home, hole, current)) {
+                keys[hole] = key;
+                values[hole] = values[current];
+                hole = current;
+            }
+        }
+        keys[hole] = 0;
+        values[hole] = null;
+        size--;
+
+        return removed;
+    }
+
+    /**
+     * Gets the number of nodes in this map.
+     *
+     * @return the number of nodes
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds the slot containing the given id, or the empty slot where the id
+     * should be inserted.
+     */
+    private int findSlot(int id) {
+        int mask = keys.length - 1;
+        int slot = hash(id) & mask;
+        while (keys[slot] != id && keys[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        StateNode[] oldValues = values;
+
+        keys = new int[capacity];
+        values = new StateNode[capacity];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Checks whether <code>index</code> is in the cyclic range
+     * <code>(from, to]</code>.
+     */
+    private static boolean isCyclicallyBetween(int index, int from, int to) {
+        if (from < to) {
+            return index > from && index <= to;
+        }
+        return index > from || index <= to;
+    }
+
+    private static int hash(int id) {
+        // Spread sequential ids over the table
+        int hash = id * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -17,12 +17,11 @@
 package com.vaadin.flow;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 
 import com.vaadin.flow.change.NodeChange;
@@ -108,9 +107,13 @@ public class StateTree implements NodeOwner {
         void remove();
     }
 
-    private LinkedHashSet<StateNode> dirtyNodes = new LinkedHashSet<>();
+    /*
+     * Dirty nodes in the order they were marked dirty. Duplicates are avoided
+     * using a flag in each node instead of a hash set lookup.
+     */
+    private ArrayList<StateNode> dirtyNodes = new ArrayList<>();
 
-    private final Map<Integer, StateNode> idToNode = new HashMap<>();
+    private final StateNodeIdMap idToNode = new StateNodeIdMap();
 
     private LinkedList<StateNodeOnBeforeClientResponse> executionsToProcessBeforeResponse = new LinkedList<>();
 
@@ -152,7 +155,7 @@ public class StateTree implements NodeOwner {
         int id = node.getId();
 
         int nodeId;
-        if (id > 0 && !idToNode.containsKey(Integer.valueOf(id))) {
+        if (id > 0 && !idToNode.containsKey(id)) {
             // Node already had an id, continue using it
 
             // Don't accept an id that we haven't yet handed out
@@ -163,7 +166,7 @@ public class StateTree implements NodeOwner {
             nodeId = nextId++;
         }
 
-        idToNode.put(Integer.valueOf(nodeId), node);
+        idToNode.put(nodeId, node);
         return nodeId;
     }
 
@@ -171,7 +174,7 @@ public class StateTree implements NodeOwner {
     public void unregister(StateNode node) {
         assert node.getOwner() == this;
 
-        Integer id = Integer.valueOf(node.getId());
+        int id = node.getId();
 
         StateNode removedNode = idToNode.remove(id);
 
@@ -179,7 +182,7 @@ public class StateTree implements NodeOwner {
             // Remove by id didn't remove the expected node
             if (removedNode != null) {
                 // Put the old node back
-                idToNode.put(Integer.valueOf(removedNode.getId()), removedNode);
+                idToNode.put(removedNode.getId(), removedNode);
             }
             throw new IllegalStateException(
                     "Unregistered node was not found based on its id. The tree is most likely corrupted.");
@@ -196,7 +199,7 @@ public class StateTree implements NodeOwner {
      *         registered with this tree
      */
     public StateNode getNodeById(int id) {
-        return idToNode.get(Integer.valueOf(id));
+        return idToNode.get(id);
     }
 
     /**
@@ -209,14 +212,17 @@ public class StateTree implements NodeOwner {
     public void collectChanges(Consumer<NodeChange> collector) {
         // TODO fire preCollect events
 
-        collectDirtyNodes().forEach(n -> n.collectChanges(collector));
+        takeDirtyNodes().forEach(n -> n.collectChanges(collector));
     }
 
     @Override
     public void markAsDirty(StateNode node) {
         assert node.getOwner() == this;
 
-        dirtyNodes.add(node);
+        if (!node.isInDirtyList()) {
+            node.setInDirtyList(true);
+            dirtyNodes.add(node);
+        }
     }
 
     /**
@@ -226,8 +232,16 @@ public class StateTree implements NodeOwner {
      * @return a set of dirty nodes, in the order they were marked dirty
      */
     public LinkedHashSet<StateNode> collectDirtyNodes() {
-        LinkedHashSet<StateNode> collectedNodes = dirtyNodes;
-        dirtyNodes = new LinkedHashSet<>();
+        return new LinkedHashSet<>(takeDirtyNodes());
+    }
+
+    private List<StateNode> takeDirtyNodes() {
+        if (dirtyNodes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ArrayList<StateNode> collectedNodes = dirtyNodes;
+        dirtyNodes = new ArrayList<>();
+        collectedNodes.forEach(node -> node.setInDirtyList(false));
         return collectedNodes;
     }
 
@@ -110,20 +110,43 @@ public class ListAddChange<T extends Serializable>
 
         json.put(JsonConstants.CHANGE_SPLICE_INDEX, getIndex());
 
-        Function<Object, JsonValue> mapper;
         String addKey;
         if (nodeValues) {
             addKey = JsonConstants.CHANGE_SPLICE_ADD_NODES;
-            mapper = item -> Json.create(((StateNode) item).getId());
         } else {
             addKey = JsonConstants.CHANGE_SPLICE_ADD;
+        }
+
+        json.put(addKey, encodeNewItems(constantPool));
+    }
+
+    @Override
+    protected int getCompactType() {
+        if (nodeValues) {
+            return JsonConstants.COMPACT_CHANGE_TYPE_SPLICE_ADD_NODES;
+        }
+        return JsonConstants.COMPACT_CHANGE_TYPE_SPLICE_ADD;
+    }
+
+    @Override
+    protected void populateCompactJson(JsonArray json,
+            ConstantPool constantPool) {
+        super.populateCompactJson(json, constantPool);
+
+        json.set(json.length(), getIndex());
+        json.set(json.length(), encodeNewItems(constantPool));
+    }
+
+    private JsonArray encodeNewItems(ConstantPool constantPool) {
+        Function<Object, JsonValue> mapper;
+        if (nodeValues) {
+            mapper = item -> Json.create(((StateNode) item).getId());
+        } else {
             mapper = item -> JsonCodec.encodeWithConstantPool(item,
                     constantPool);
         }
 
-        JsonArray newItemsJson = newItems.stream().map(mapper)
-                .collect(JsonUtils.asArray());
-        json.put(addKey, newItemsJson);
+        return newItems.stream().map(mapper).collect(JsonUtils.asArray());
     }
 
 }
@@ -23,6 +23,7 @@ import com.vaadin.flow.nodefeature.NodeFeature;
 import com.vaadin.shared.JsonConstants;
 
 import elemental.json.Json;
+import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 
 /**
@@ -90,4 +91,26 @@ public class MapPutChange extends NodeFeatureChange {
                     JsonCodec.encodeWithConstantPool(value, constantPool));
         }
     }
+
+    @Override
+    protected int getCompactType() {
+        if (value instanceof StateNode) {
+            return JsonConstants.COMPACT_CHANGE_TYPE_PUT_NODE;
+        }
+        return JsonConstants.COMPACT_CHANGE_TYPE_PUT;
+    }
+
+    @Override
+    protected void populateCompactJson(JsonArray json,
+            ConstantPool constantPool) {
+        super.populateCompactJson(json, constantPool);
+
+        json.set(json.length(), encodeCompactKey(key, constantPool));
+        if (value instanceof StateNode) {
+            json.set(json.length(), ((StateNode) value).getId());
+        } else {
+            json.set(json.length(),
+                    JsonCodec.encodeWithConstantPool(value, constantPool));
+        }
+    }
 }
@@ -23,7 +23,9 @@ import com.vaadin.flow.StateNode;
 import com.vaadin.shared.JsonConstants;
 
 import elemental.json.Json;
+import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonValue;
 
 /**
  * Base class describing a change to a state node.
@@ -31,6 +33,13 @@ import elemental.json.JsonObject;
  * @author Vaadin Ltd
  */
 public abstract class NodeChange implements Serializable {
+    /**
+     * Compact change type of changes that have no compact representation.
+     *
+     * @see #getCompactType()
+     */
+    protected static final int NO_COMPACT_TYPE = -1;
+
     private final StateNode node;
 
     /**
@@ -71,6 +80,67 @@ public abstract class NodeChange implements Serializable {
         return json;
     }
 
+    /**
+     * Serializes this change to a compact JSON array where the values are
+     * identified by their position instead of by a key. The first item is the
+     * compact change type and the second item is the node id.
+     * <p>
+     * A change without a compact type is serialized using {@link #toJson}
+     * instead.
+     *
+     * @see JsonConstants#COMPACT_CHANGE_TYPE_ATTACH
+     *
+     * @param constantPool
+     *            the constant pool to use for serializing constant pool
+     *            references
+     *
+     * @return a compact json representation of this change
+     */
+    public JsonValue toCompactJson(ConstantPool constantPool) {
+        int compactType = getCompactType();
+        if (compactType == NO_COMPACT_TYPE) {
+            return toJson(constantPool);
+        }
+
+        JsonArray json = Json.createArray();
+
+        json.set(0, compactType);
+        json.set(1, node.getId());
+
+        populateCompactJson(json, constantPool);
+
+        return json;
+    }
+
+    /**
+     * Gets the type identifier used for this change in the compact JSON
+     * representation. The default implementation returns
+     * {@link #NO_COMPACT_TYPE}, which makes {@link #toCompactJson} use the
+     * regular JSON representation.
+     *
+     * @return the compact change type, or {@link #NO_COMPACT_TYPE} if the
+     *         change has no compact representation
+     */
+    protected int getCompactType() {
+        return NO_COMPACT_TYPE;
+    }
+
+    /**
+     * Overridden by subclasses to append change specific values to a compact
+     * JSON array when serializing. The array already contains the change type
+     * and the node id. The default implementation does nothing.
+     *
+     * @param json
+     *            the json array to append values to
+     * @param constantPool
+     *            the constant pool to use for serializing constant pool
+     *            references
+     */
+    protected void populateCompactJson(JsonArray json,
+            ConstantPool constantPool) {
+        // Nothing to add by default
+    }
+
     /**
      * Overridden by subclasses to populate a JSON object when serializing.
      *
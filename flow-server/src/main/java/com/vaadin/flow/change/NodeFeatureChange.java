@@ -22,7 +22,9 @@ import com.vaadin.flow.nodefeature.NodeFeatureRegistry;
 import com.vaadin.shared.JsonConstants;
 
 import elemental.json.Json;
+import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonValue;
 
 /**
  * Base class for all node changes related to a feature.
@@ -59,4 +61,31 @@ public abstract class NodeFeatureChange extends NodeChange {
         json.put(JsonConstants.CHANGE_FEATURE,
                 Json.create(NodeFeatureRegistry.getId(feature)));
     }
+
+    @Override
+    protected void populateCompactJson(JsonArray json,
+            ConstantPool constantPool) {
+        json.set(json.length(), NodeFeatureRegistry.getId(feature));
+    }
+
+    /**
+     * Encodes a map key for the compact JSON representation. If a constant pool
+     * is available, the key is encoded as the numeric id of the key in the
+     * string dictionary of the constant pool. Otherwise, the key is encoded as
+     * a string.
+     *
+     * @param key
+     *            the key to encode, not <code>null</code>
+     * @param constantPool
+     *            the constant pool to use for the string dictionary, or
+     *            <code>null</code> to encode the key as is
+     * @return the encoded key
+     */
+    protected static JsonValue encodeCompactKey(String key,
+            ConstantPool constantPool) {
+        if (constantPool == null) {
+            return Json.create(key);
+        }
+        return Json.create(constantPool.getStringId(key));
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.dom;
+
+import com.vaadin.shared.JsonConstants;
+
+/**
+ * Phases in which a debounced DOM event is sent to the server. An event burst
+ * starts with the first event and ends when no new event has been fired during
+ * the debounce timeout.
+ *
+ * @see DomListenerRegistration#debounce(int, DebouncePhase, DebouncePhase...)
+ * @author Vaadin Ltd
+ */
+public enum DebouncePhase {
+    /**
+     * Sends the first event of a burst immediately.
+     */
+    LEADING(JsonConstants.EVENT_DEBOUNCE_LEADING),
+
+    /**
+     * Sends the latest event once every timeout period while the burst is
+     * ongoing, and the last event of the burst when it ends.
+     */
+    INTERMEDIATE(JsonConstants.EVENT_DEBOUNCE_INTERMEDIATE),
+
+    /**
+     * Sends the last event of a burst when the burst has ended.
+     */
+    TRAILING(JsonConstants.EVENT_DEBOUNCE_TRAILING);
+
+    private final String identifier;
+
+    DebouncePhase(String identifier) {
+        this.identifier = identifier;
+    }
+
+    /**
+     * Gets the identifier used for this phase in the messages sent to the
+     * client.
+     *
+     * @return the identifier, not <code>null</code>
+     */
+    public String getIdentifier() {
+        return identifier;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.dom;
+
+import com.vaadin.shared.Registration;
+
+/**
+ * A registration for a DOM event listener, which can also be used for
+ * configuring how often the client sends the event to the server.
+ * <p>
+ * The client-side uses a single DOM listener for each event type of an
+ * element, so the debounce settings are shared by all the server-side
+ * listeners of the same event type on the same element. The settings are
+ * removed when all the listeners of the event type have been removed.
+ *
+ * @see Element#addEventListener(String, DomEventListener, String...)
+ * @author Vaadin Ltd
+ */
+public interface DomListenerRegistration extends Registration {
+
+    /**
+     * Configures the client to send the event to the server only in the given
+     * phases of an event burst. A burst ends when no new event has been fired
+     * during <code>timeout</code> milliseconds. The event data is captured
+     * when the event is fired in the browser, so a delayed event is sent with
+     * the data of the latest event.
+     *
+     * @param timeout
+     *            the debounce timeout in milliseconds, or 0 to send every
+     *            event immediately
+     * @param firstPhase
+     *            a phase in which the event should be sent, not
+     *            <code>null</code>
+     * @param additionalPhases
+     *            additional phases in which the event should be sent
+     * @return this registration, for chaining
+     */
+    DomListenerRegistration debounce(int timeout, DebouncePhase firstPhase,
+            DebouncePhase... additionalPhases);
+
+    /**
+     * Configures the client to send the event to the server only after no new
+     * event has been fired during <code>timeout</code> milliseconds. This is
+     * typically used for text input events.
+     *
+     * @param timeout
+     *            the debounce timeout in milliseconds
+     * @return this registration, for chaining
+     */
+    default DomListenerRegistration debounce(int timeout) {
+        return debounce(timeout, DebouncePhase.TRAILING);
+    }
+
+    /**
+     * Configures the client to send the event to the server at most once
+     * every <code>period</code> milliseconds. The first event is sent
+     * immediately. This is typically used for events fired continuously while
+     * the user is dragging or scrolling.
+     *
+     * @param period
+     *            the minimum time between events in milliseconds
+     * @return this registration, for chaining
+     */
+    default DomListenerRegistration throttle(int period) {
+        return debounce(period, DebouncePhase.LEADING,
+                DebouncePhase.INTERMEDIATE);
+    }
+}
@@ -504,9 +504,10 @@ public class Element extends Node<Element> {
      *            the type of event to listen to, not <code>null</code>
      * @param listener
      *            the listener to add, not <code>null</code>
-     * @return a handle that can be used for removing the listener
+     * @return a handle that can be used for removing the listener and
+     *         configuring debouncing
      */
-    public Registration addEventListener(String eventType,
+    public DomListenerRegistration addEventListener(String eventType,
             DomEventListener listener) {
         return addEventListener(eventType, listener, new String[0]);
     }
@@ -531,6 +532,14 @@ public class Element extends Node<Element> {
      * </ul>
      * <p>
      * Event listeners are triggered in the order they are registered.
+     * <p>
+     * By default, the event is sent to the server every time it is fired in
+     * the browser. The returned registration can be used for debouncing or
+     * throttling the event, e.g. to avoid a server round trip for every key
+     * stroke.
+     *
+     * @see DomListenerRegistration#debounce(int, DebouncePhase,
+     *      DebouncePhase...)
      *
      * @param eventType
      *            the type of event to listen to, not <code>null</code>
@@ -539,9 +548,10 @@ public class Element extends Node<Element> {
      * @param eventDataExpressions
      *            definitions for data that should be passed back to the server
      *            together with the event
-     * @return a handle that can be used for removing the listener
+     * @return a handle that can be used for removing the listener and
+     *         configuring debouncing
      */
-    public Registration addEventListener(String eventType,
+    public DomListenerRegistration addEventListener(String eventType,
             DomEventListener listener, String... eventDataExpressions) {
         if (eventType == null) {
             throw new IllegalArgumentException(EVENT_TYPE_MUST_NOT_BE_NULL);
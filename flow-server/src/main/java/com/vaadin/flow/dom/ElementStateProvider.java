@@ -202,9 +202,9 @@ public interface ElementStateProvider extends Serializable {
      * @param eventDataExpressions
      *            the event data expressions
      *
-     * @return a handle for removing the listener
+     * @return a handle for removing the listener and configuring debouncing
      */
-    Registration addEventListener(StateNode node, String eventType,
+    DomListenerRegistration addEventListener(StateNode node, String eventType,
             DomEventListener listener, String[] eventDataExpressions);
 
     /**
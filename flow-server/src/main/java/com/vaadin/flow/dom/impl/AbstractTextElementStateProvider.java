@@ -24,6 +24,7 @@ import com.vaadin.flow.StateNode;
 import com.vaadin.flow.dom.ChildElementConsumer;
 import com.vaadin.flow.dom.ClassList;
 import com.vaadin.flow.dom.DomEventListener;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementStateProvider;
 import com.vaadin.flow.dom.Style;
@@ -106,7 +107,7 @@ public abstract class AbstractTextElementStateProvider
     }
 
     @Override
-    public Registration addEventListener(StateNode node,
+    public DomListenerRegistration addEventListener(StateNode node,
             String eventType, DomEventListener listener,
             String[] eventDataExpressions) {
         throw new UnsupportedOperationException();
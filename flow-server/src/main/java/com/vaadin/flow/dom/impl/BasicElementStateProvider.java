@@ -27,6 +27,7 @@ import java.util.stream.Stream;
 import com.vaadin.flow.StateNode;
 import com.vaadin.flow.dom.ClassList;
 import com.vaadin.flow.dom.DomEventListener;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementUtil;
 import com.vaadin.flow.dom.Node;
@@ -218,7 +219,7 @@ public class BasicElementStateProvider extends AbstractNodeStateProvider {
     }
 
     @Override
-    public Registration addEventListener(StateNode node, String eventType,
+    public DomListenerRegistration addEventListener(StateNode node, String eventType,
             DomEventListener listener, String[] eventDataExpressions) {
         ElementListenerMap listeners = node
                 .getFeature(ElementListenerMap.class);
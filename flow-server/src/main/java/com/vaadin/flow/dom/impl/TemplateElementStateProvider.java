@@ -27,6 +27,7 @@ import com.vaadin.flow.StateNode;
 import com.vaadin.flow.dom.ChildElementConsumer;
 import com.vaadin.flow.dom.ClassList;
 import com.vaadin.flow.dom.DomEventListener;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementStateProvider;
 import com.vaadin.flow.dom.Node;
@@ -310,7 +311,7 @@ public class TemplateElementStateProvider implements ElementStateProvider {
     }
 
     @Override
-    public Registration addEventListener(StateNode node,
+    public DomListenerRegistration addEventListener(StateNode node,
             String eventType, DomEventListener listener,
             String[] eventDataExpressions) {
         ElementListenerMap listeners = getOrCreateOverrideNode(node)
@@ -21,13 +21,16 @@ import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.StateNode;
+import com.vaadin.flow.model.BeanPropertyAccessors.Getter;
 import com.vaadin.flow.nodefeature.ElementPropertyMap;
 import com.vaadin.flow.util.ReflectionCache;
 import com.vaadin.util.ReflectTools;
@@ -44,10 +47,48 @@ import elemental.json.JsonValue;
  *            the proxy type used by this bean type
  */
 public class BeanModelType<T> implements ComplexModelType<T> {
+    /**
+     * The getters, property types and sub filters to use when importing beans
+     * of a given class with a given filter. Importing a list of beans uses
+     * the same filter for all the items, so this is typically reused for all
+     * the items in the list.
+     */
+    private static final class ImportPlan {
+        private final Class<?> beanClass;
+        private final PropertyFilter filter;
+        private final String[] names;
+        private final Getter[] getters;
+        private final ModelType[] types;
+        private final PropertyFilter[] subFilters;
+
+        private ImportPlan(Class<?> beanClass, PropertyFilter filter,
+                List<String> names, Map<String, Getter> getters,
+                Map<String, ModelType> types) {
+            this.beanClass = beanClass;
+            this.filter = filter;
+            int size = names.size();
+            this.names = names.toArray(new String[size]);
+            this.getters = new Getter[size];
+            this.types = new ModelType[size];
+            subFilters = new PropertyFilter[size];
+            for (int i = 0; i < size; i++) {
+                String name = this.names[i];
+                this.getters[i] = getters.get(name);
+                this.types[i] = types.get(name);
+                subFilters[i] = new PropertyFilter(filter, name);
+            }
+        }
+
+        private boolean isFor(Class<?> beanClass, PropertyFilter filter) {
+            return this.beanClass == beanClass && this.filter == filter;
+        }
+    }
+
     private final Map<String, ModelType> properties;
     private final Class<T> proxyType;
 
-    private transient ReflectionCache<Object, Map<String, Method>> beanPropertyCache;
+    private transient ReflectionCache<Object, Map<String, Getter>> beanPropertyCache;
+    private transient volatile ImportPlan importPlan;
 
     /**
      * Creates a new bean model type from the given class and properties.
@@ -375,34 +416,42 @@ public class BeanModelType<T> implements ComplexModelType<T> {
         Class<?> beanClass = bean.getClass();
         assert isBean(beanClass);
 
+        ImportPlan plan = getImportPlan(beanClass, propertyFilter);
+
         /*
          * Collect all values and let getters throw before starting to populate
          * the model.
-         *
-         * Can't use Collectors.toMap() since it disallows null values.
          */
-        Map<String, Object> values = new HashMap<>();
-
-        beanPropertyCache.get(beanClass).forEach((propertyName, getter) -> {
-            if (!propertyFilter.test(propertyName)) {
-                return;
-            }
-
+        Object[] values = new Object[plan.names.length];
+        for (int i = 0; i < values.length; i++) {
             try {
-                Object value = getter.invoke(bean);
-                values.put(propertyName, value);
+                values[i] = plan.getters[i].get(bean);
             } catch (Exception e) {
                 throw new IllegalArgumentException(
-                        "Cannot access bean property " + propertyName, e);
+                        "Cannot access bean property " + plan.names[i], e);
             }
-        });
+        }
 
         // Populate the model with the extracted values
-        values.forEach((name, value) -> {
-            ModelType type = getPropertyType(name);
-            model.setProperty(name, type.applicationToModel(value,
-                    new PropertyFilter(propertyFilter, name)));
-        });
+        for (int i = 0; i < values.length; i++) {
+            model.setProperty(plan.names[i], plan.types[i]
+                    .applicationToModel(values[i], plan.subFilters[i]));
+        }
+    }
+
+    private ImportPlan getImportPlan(Class<?> beanClass,
+            PropertyFilter propertyFilter) {
+        ImportPlan plan = importPlan;
+        if (plan == null || !plan.isFor(beanClass, propertyFilter)) {
+            Map<String, Getter> getters = beanPropertyCache.get(beanClass);
+            List<String> names = new ArrayList<>(getters.size());
+            getters.keySet().stream().filter(propertyFilter)
+                    .forEach(names::add);
+            plan = new ImportPlan(beanClass, propertyFilter, names, getters,
+                    properties);
+            importPlan = plan;
+        }
+        return plan;
     }
 
     /**
@@ -506,8 +555,10 @@ public class BeanModelType<T> implements ComplexModelType<T> {
         beanPropertyCache = new ReflectionCache<>(this::findBeanGetters);
     }
 
-    private Map<String, Method> findBeanGetters(Class<?> beanType) {
-        Map<String, Method> getters = new HashMap<>();
+    private Map<String, Getter> findBeanGetters(Class<?> beanType) {
+        Map<Method, Getter> accessors = BeanPropertyAccessors
+                .getGetters(beanType);
+        Map<String, Getter> getters = new HashMap<>();
         ReflectTools.getGetterMethods(beanType).forEach(getter -> {
             String propertyName = ReflectTools.getPropertyName(getter);
             if (!properties.containsKey(propertyName)) {
@@ -523,7 +574,7 @@ public class BeanModelType<T> implements ComplexModelType<T> {
                         getterType.getTypeName()));
             }
 
-            getters.put(propertyName, getter);
+            getters.put(propertyName, accessors.get(getter));
         });
 
         return getters;
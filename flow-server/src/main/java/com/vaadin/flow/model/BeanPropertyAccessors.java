@@ -0,0 +1,134 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.model;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.vaadin.flow.util.ReflectionCache;
+import com.vaadin.util.ReflectTools;
+
+/**
+ * Generated accessors for reading bean properties without going through
+ * {@link Method#invoke(Object, Object...)} for every value.
+ * <p>
+ * A getter is turned into a class implementing {@link Getter} using
+ * {@link LambdaMetafactory}, which the JIT compiler can inline like any regular
+ * method call. If that's not possible, e.g. because the bean class isn't
+ * public or isn't visible to the class loader of this class, the getter is
+ * invoked using reflection instead.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ */
+final class BeanPropertyAccessors {
+
+    /**
+     * Reads the value of a bean property.
+     */
+    @FunctionalInterface
+    interface Getter {
+        /**
+         * Reads the value of the property from the given bean.
+         *
+         * @param bean
+         *            the bean to read from, not <code>null</code>
+         * @return the property value
+         * @throws Exception
+         *             if the value cannot be read
+         */
+        Object get(Object bean) throws Exception;
+    }
+
+    private static final ReflectionCache<Object, Map<Method, Getter>> GETTERS = new ReflectionCache<>(
+            BeanPropertyAccessors::createGetters);
+
+    private BeanPropertyAccessors() {
+        // Only static methods
+    }
+
+    /**
+     * Gets accessors for all the bean properties of the given class. The
+     * accessors are generated once for each class.
+     *
+     * @param beanType
+     *            the bean class, not <code>null</code>
+     * @return an unmodifiable map from getter method to accessor, not
+     *         <code>null</code>
+     */
+    static Map<Method, Getter> getGetters(Class<?> beanType) {
+        return GETTERS.get(beanType);
+    }
+
+    private static Map<Method, Getter> createGetters(Class<?> beanType) {
+        Map<Method, Getter> getters = new HashMap<>();
+        ReflectTools.getGetterMethods(beanType)
+                .forEach(getter -> getters.put(getter, createGetter(getter)));
+        return Collections.unmodifiableMap(getters);
+    }
+
+    // Non-private for testing purposes
+    static Getter createGetter(Method getter) {
+        if (isVisible(getter.getDeclaringClass())) {
+            try {
+                return generateGetter(getter);
+            } catch (Throwable e) {
+                getLogger().log(Level.FINE, e,
+                        () -> "Cannot generate an accessor for " + getter
+                                + ", using reflection instead");
+            }
+        }
+        return getter::invoke;
+    }
+
+    private static Getter generateGetter(Method getter) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle handle = lookup.unreflect(getter);
+
+        CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                MethodType.methodType(Getter.class),
+                MethodType.methodType(Object.class, Object.class), handle,
+                handle.type().wrap());
+        return (Getter) site.getTarget().invokeExact();
+    }
+
+    /*
+     * The generated class refers to the bean class by name, so it must be
+     * resolvable through the class loader of this class.
+     */
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false,
+                    BeanPropertyAccessors.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Logger getLogger() {
+        return Logger.getLogger(BeanPropertyAccessors.class.getName());
+    }
+}
@@ -17,7 +17,9 @@ package com.vaadin.flow.model;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -114,6 +116,26 @@ public class TemplateModelProxyHandler implements Serializable {
         }
     }
 
+    /**
+     * The property accessed by a proxied method, resolved once per method
+     * instead of parsing the method name on every invocation.
+     */
+    private static final class PropertyAccessor {
+        // null if the method is neither a getter nor a setter
+        private final String propertyName;
+        private final boolean getter;
+
+        private PropertyAccessor(Method method) {
+            getter = ReflectTools.isGetter(method);
+            propertyName = getter || ReflectTools.isSetter(method)
+                    ? ReflectTools.getPropertyName(method)
+                    : null;
+        }
+    }
+
+    private static final ReflectionCache<Object, Map<Method, PropertyAccessor>> propertyAccessors = new ReflectionCache<>(
+            type -> new ConcurrentHashMap<>());
+
     private static final ReflectionCache<Object, BiFunction<StateNode, BeanModelType<?>, Object>> proxyConstructors = new ReflectionCache<>(
             TemplateModelProxyHandler::createProxyConstructor);
 
@@ -144,7 +166,14 @@ public class TemplateModelProxyHandler implements Serializable {
     @SuppressWarnings("static-method")
     public Object intercept(@This Object target, @Origin Method method,
             @AllArguments Object[] args) {
-        String propertyName = ReflectTools.getPropertyName(method);
+        PropertyAccessor accessor = propertyAccessors
+                .get(method.getDeclaringClass())
+                .computeIfAbsent(method, PropertyAccessor::new);
+        if (accessor.propertyName == null) {
+            throw new InvalidTemplateModelException(
+                    getUnsupportedMethodMessage(method, args));
+        }
+        String propertyName = accessor.propertyName;
 
         BeanModelType<?> modelType = getModelTypeForProxy(target);
 
@@ -159,16 +188,13 @@ public class TemplateModelProxyHandler implements Serializable {
         ElementPropertyMap modelMap = ElementPropertyMap
                 .getModel(getStateNodeForProxy(target));
 
-        if (ReflectTools.isGetter(method)) {
+        if (accessor.getter) {
             return handleGetter(modelMap, propertyName, propertyType);
-        } else if (ReflectTools.isSetter(method)) {
+        } else {
             Object value = args[0];
             handleSetter(modelMap, propertyName, propertyType, value);
             return null;
         }
-
-        throw new InvalidTemplateModelException(
-                getUnsupportedMethodMessage(method, args));
     }
 
     /**
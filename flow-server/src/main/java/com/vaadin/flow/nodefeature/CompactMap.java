@@ -0,0 +1,301 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.nodefeature;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A string keyed map optimized for the small number of entries that a typical
+ * {@link NodeMap} contains. Entries are stored in insertion order in linear
+ * arrays until the map grows beyond {@value #MAX_ARRAY_SIZE} entries, after
+ * which it is promoted to a hash map. Keys are interned so that the same key
+ * used in many maps is only stored once.
+ * <p>
+ * Only the entries are serialized, regardless of whether the map has been
+ * promoted. Since the keys are interned, a key used in many maps is written
+ * once and then referenced by its stream handle.
+ *
+ * @author Vaadin Ltd
+ * @param <V>
+ *            the value type
+ */
+final class CompactMap<V extends Serializable> implements Serializable {
+    /**
+     * The maximum number of entries stored in the linear arrays.
+     */
+    static final int MAX_ARRAY_SIZE = 8;
+
+    private static final int INITIAL_ARRAY_SIZE = 2;
+
+    private transient String[] keys;
+    private transient Serializable[] values;
+    private transient int size;
+
+    // Only used when the map has been promoted
+    private transient HashMap<String, V> map;
+
+    /**
+     * Gets the value corresponding to the given key.
+     *
+     * @param key
+     *            the key
+     * @return the value, or <code>null</code> if there is no value for the
+     *         key, or if <code>null</code> is stored as a value
+     */
+    @SuppressWarnings("unchecked")
+    V get(String key) {
+        if (map != null) {
+            return map.get(key);
+        }
+        int index = indexOf(key);
+        return index == -1 ? null : (V) values[index];
+    }
+
+    /**
+     * Checks whether a value is stored for the given key.
+     *
+     * @param key
+     *            the key
+     * @return <code>true</code> if there is a value stored,
+     *         <code>false</code> otherwise
+     */
+    boolean containsKey(String key) {
+        if (map != null) {
+            return map.containsKey(key);
+        }
+        return indexOf(key) != -1;
+    }
+
+    /**
+     * Stores a value with the given key.
+     *
+     * @param key
+     *            the key, not <code>null</code>
+     * @param value
+     *            the value to store
+     * @return the previous value for the key, or <code>null</code> if there
+     *         was no previous value
+     */
+    @SuppressWarnings("unchecked")
+    V put(String key, V value) {
+        assert key != null;
+
+        if (map != null) {
+            return map.put(key.intern(), value);
+        }
+
+        int index = indexOf(key);
+        if (index != -1) {
+            V oldValue = (V) values[index];
+            values[index] = value;
+            return oldValue;
+        }
+
+        if (size == MAX_ARRAY_SIZE) {
+            promote();
+            map.put(key.intern(), value);
+            return null;
+        }
+
+        if (keys == null) {
+            keys = new String[INITIAL_ARRAY_SIZE];
+            values = new Serializable[INITIAL_ARRAY_SIZE];
+        } else if (size == keys.length) {
+            int newLength = Math.min(keys.length * 2, MAX_ARRAY_SIZE);
+            keys = Arrays.copyOf(keys, newLength);
+            values = Arrays.copyOf(values, newLength);
+        }
+
+        keys[size] = key.intern();
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the value stored for the given key.
+     *
+     * @param key
+     *            the key
+     * @return the removed value, or <code>null</code> if there was no value
+     */
+    @SuppressWarnings("unchecked")
+    V remove(String key) {
+        if (map != null) {
+            return map.remove(key);
+        }
+
+        int index = indexOf(key);
+        if (index == -1) {
+            return null;
+        }
+
+        V oldValue = (V) values[index];
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        return oldValue;
+    }
+
+    /**
+     * Gets the number of entries in this map.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return map != null ? map.size() : size;
+    }
+
+    /**
+     * Checks whether this map is empty.
+     *
+     * @return <code>true</code> if there are no entries, <code>false</code>
+     *         otherwise
+     */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets an unmodifiable view of the keys in this map.
+     *
+     * @return a set of keys
+     */
+    Set<String> keySet() {
+        return new KeySet();
+    }
+
+    /**
+     * Performs the given action for each entry in this map.
+     *
+     * @param action
+     *            the action to perform
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(BiConsumer<String, V> action) {
+        if (map != null) {
+            map.forEach(action);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            action.accept(keys[i], (V) values[i]);
+        }
+    }
+
+    private int indexOf(String key) {
+        for (int i = 0; i < size; i++) {
+            if (key.equals(keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void promote() {
+        map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], (V) values[i]);
+        }
+        keys = null;
+        values = null;
+        size = 0;
+    }
+
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+
+        stream.writeInt(size());
+        if (map != null) {
+            for (Map.Entry<String, V> entry : map.entrySet()) {
+                stream.writeObject(entry.getKey());
+                stream.writeObject(entry.getValue());
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                stream.writeObject(keys[i]);
+                stream.writeObject(values[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+
+        int entryCount = stream.readInt();
+        if (entryCount > MAX_ARRAY_SIZE) {
+            map = new HashMap<>(entryCount * 2);
+        }
+        for (int i = 0; i < entryCount; i++) {
+            // put interns the key, deserialized strings are not interned
+            put((String) stream.readObject(), (V) stream.readObject());
+        }
+    }
+
+    private class KeySet extends AbstractSet<String> {
+        @Override
+        public Iterator<String> iterator() {
+            if (map != null) {
+                return Collections.unmodifiableSet(map.keySet()).iterator();
+            }
+            return new Iterator<String>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return keys[index++];
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String && containsKey((String) o);
+        }
+
+        @Override
+        public int size() {
+            return CompactMap.this.size();
+        }
+    }
+}
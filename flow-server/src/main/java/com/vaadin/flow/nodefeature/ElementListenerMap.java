@@ -15,26 +15,33 @@
  */
 package com.vaadin.flow.nodefeature;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
 
 import com.vaadin.flow.ConstantPoolKey;
 import com.vaadin.flow.StateNode;
+import com.vaadin.flow.dom.DebouncePhase;
 import com.vaadin.flow.dom.DomEvent;
 import com.vaadin.flow.dom.DomEventListener;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.util.JsonUtils;
-import com.vaadin.shared.Registration;
 
 import elemental.json.Json;
+import elemental.json.JsonArray;
 
 /**
  * Map of DOM events with server-side listeners. The key set of this map
- * describes the event types for which listeners are present. The values
- * associated with the keys are currently not used.
+ * describes the event types for which listeners are present. The value
+ * associated with a key is a constant pool reference to an array of the event
+ * data expressions for the event type. If the event is debounced, the array
+ * also contains an array with the debounce timeout followed by the identifiers
+ * of the phases in which the event should be sent.
  *
  * @author Vaadin Ltd
  */
@@ -51,6 +58,49 @@ public class ElementListenerMap extends NodeMap {
     // Server-side only data
     private HashMap<String, ArrayList<DomEventListener>> listeners;
     private HashMap<String, Set<String>> typeToExpressions;
+    private HashMap<String, DebounceSettings> typeToDebounce;
+
+    private static class DebounceSettings implements Serializable {
+        private final int timeout;
+        private final EnumSet<DebouncePhase> phases;
+
+        private DebounceSettings(int timeout, EnumSet<DebouncePhase> phases) {
+            this.timeout = timeout;
+            this.phases = phases;
+        }
+
+        private JsonArray toJson() {
+            JsonArray json = Json.createArray();
+            json.set(0, timeout);
+            phases.forEach(
+                    phase -> json.set(json.length(), phase.getIdentifier()));
+            return json;
+        }
+    }
+
+    private class ListenerRegistration implements DomListenerRegistration {
+        private final String eventType;
+        private final DomEventListener listener;
+
+        private ListenerRegistration(String eventType,
+                DomEventListener listener) {
+            this.eventType = eventType;
+            this.listener = listener;
+        }
+
+        @Override
+        public void remove() {
+            removeListener(eventType, listener);
+        }
+
+        @Override
+        public DomListenerRegistration debounce(int timeout,
+                DebouncePhase firstPhase, DebouncePhase... additionalPhases) {
+            setDebounce(eventType, timeout,
+                    EnumSet.of(firstPhase, additionalPhases));
+            return this;
+        }
+    }
 
     /**
      * Creates a new element listener map for the given node.
@@ -72,9 +122,9 @@ public class ElementListenerMap extends NodeMap {
      *            the listener to add
      * @param eventDataExpressions
      *            the event data expressions
-     * @return a handle for removing the listener
+     * @return a handle for removing the listener and configuring debouncing
      */
-    public Registration add(String eventType,
+    public DomListenerRegistration add(String eventType,
             DomEventListener listener, String[] eventDataExpressions) {
         assert eventType != null;
         assert listener != null;
@@ -96,7 +146,7 @@ public class ElementListenerMap extends NodeMap {
             // mutated
             assert emptyHashSet.isEmpty();
             typeToExpressions.put(eventType, emptyHashSet);
-            put(eventType, createConstantPoolKey(emptyHashSet));
+            put(eventType, createConstantPoolKey(emptyHashSet, null));
         }
 
         listeners.get(eventType).add(listener);
@@ -106,21 +156,74 @@ public class ElementListenerMap extends NodeMap {
                     typeToExpressions.get(eventType));
 
             if (eventData.addAll(Arrays.asList(eventDataExpressions))) {
-                // Update the constant pool reference if the value has changed
-                put(eventType, createConstantPoolKey(eventData));
-
                 // Remember value for server-side use
                 typeToExpressions.put(eventType, eventData);
+
+                // Update the constant pool reference if the value has changed
+                updateConstantPoolKey(eventType);
+            }
+        }
+
+        return new ListenerRegistration(eventType, listener);
+    }
+
+    /**
+     * Sets how the client should debounce events of the given type before
+     * sending them to the server.
+     *
+     * @param eventType
+     *            the event type, not <code>null</code>
+     * @param timeout
+     *            the debounce timeout in milliseconds, or 0 to send all events
+     *            immediately
+     * @param phases
+     *            the phases in which the event should be sent, not
+     *            <code>null</code>
+     */
+    public void setDebounce(String eventType, int timeout,
+            EnumSet<DebouncePhase> phases) {
+        assert eventType != null;
+        assert phases != null;
+
+        if (timeout < 0) {
+            throw new IllegalArgumentException(
+                    "The debounce timeout cannot be negative");
+        }
+        if (listeners == null || !listeners.containsKey(eventType)) {
+            // All listeners of the type have already been removed
+            return;
+        }
+
+        if (timeout == 0) {
+            if (typeToDebounce == null
+                    || typeToDebounce.remove(eventType) == null) {
+                return;
             }
+        } else {
+            if (typeToDebounce == null) {
+                typeToDebounce = new HashMap<>();
+            }
+            typeToDebounce.put(eventType,
+                    new DebounceSettings(timeout, EnumSet.copyOf(phases)));
         }
+        updateConstantPoolKey(eventType);
+    }
 
-        return () -> removeListener(eventType, listener);
+    private void updateConstantPoolKey(String eventType) {
+        DebounceSettings debounce = typeToDebounce == null ? null
+                : typeToDebounce.get(eventType);
+        put(eventType, createConstantPoolKey(typeToExpressions.get(eventType),
+                debounce));
     }
 
-    private static ConstantPoolKey createConstantPoolKey(
-            HashSet<String> eventData) {
-        return new ConstantPoolKey(eventData.stream().map(Json::create)
-                .collect(JsonUtils.asArray()));
+    private static ConstantPoolKey createConstantPoolKey(Set<String> eventData,
+            DebounceSettings debounce) {
+        JsonArray json = eventData.stream().map(Json::create)
+                .collect(JsonUtils.asArray());
+        if (debounce != null) {
+            json.set(json.length(), debounce.toJson());
+        }
+        return new ConstantPoolKey(json);
     }
 
     private void removeListener(String eventType, DomEventListener listener) {
@@ -135,10 +238,14 @@ public class ElementListenerMap extends NodeMap {
             if (listenerList.isEmpty()) {
                 listeners.remove(eventType);
                 typeToExpressions.remove(eventType);
+                if (typeToDebounce != null) {
+                    typeToDebounce.remove(eventType);
+                }
 
                 if (listeners.isEmpty()) {
                     listeners = null;
                     typeToExpressions = null;
+                    typeToDebounce = null;
                 }
 
                 // Remove from the set that is synchronized with the client
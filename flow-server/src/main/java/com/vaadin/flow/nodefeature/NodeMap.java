@@ -19,9 +19,6 @@ package com.vaadin.flow.nodefeature;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -42,7 +39,7 @@ public abstract class NodeMap extends NodeFeature {
     private static final Serializable REMOVED_MARKER = new UniqueSerializable() {
     };
 
-    private HashMap<String, Serializable> values;
+    private CompactMap<Serializable> values;
 
     private boolean isPopulated;
 
@@ -72,7 +69,7 @@ public abstract class NodeMap extends NodeFeature {
 
     private void ensureValues() {
         if (values == null) {
-            values = new HashMap<>();
+            values = new CompactMap<>();
         }
     }
 
@@ -259,7 +256,7 @@ public abstract class NodeMap extends NodeFeature {
 
         getNode().markAsDirty();
 
-        Map<String, Serializable> changes = getChangeTracker();
+        CompactMap<Serializable> changes = getChangeTracker();
 
         if (!changes.containsKey(key)) {
             // Record this as changed for the collection logic
@@ -274,8 +271,8 @@ public abstract class NodeMap extends NodeFeature {
         // TODO notify listeners
     }
 
-    private HashMap<String, Serializable> getChangeTracker() {
-        return getNode().getChangeTracker(this, HashMap::new);
+    private CompactMap<Serializable> getChangeTracker() {
+        return getNode().getChangeTracker(this, CompactMap::new);
     }
 
     private void setAccessed(String key) {
@@ -286,11 +283,10 @@ public abstract class NodeMap extends NodeFeature {
 
     @Override
     public void collectChanges(Consumer<NodeChange> collector) {
+        CompactMap<Serializable> changes = getChangeTracker();
         boolean hasChanges = false;
-        for (Entry<String, Serializable> entry : getChangeTracker()
-                .entrySet()) {
-            String key = entry.getKey();
-            Serializable value = entry.getValue();
+        for (String key : changes.keySet()) {
+            Serializable value = changes.get(key);
             boolean containsNow = values != null && values.containsKey(key);
             boolean containedEarlier = value != REMOVED_MARKER;
             if (containedEarlier && !containsNow) {
@@ -325,8 +321,8 @@ public abstract class NodeMap extends NodeFeature {
         }
         assert !values.isEmpty();
 
-        Map<String, Serializable> changes = getChangeTracker();
-        values.keySet().forEach(k -> changes.put(k, REMOVED_MARKER));
+        CompactMap<Serializable> changes = getChangeTracker();
+        values.forEach((key, value) -> changes.put(key, REMOVED_MARKER));
     }
 
     @Override
@@ -336,8 +332,11 @@ public abstract class NodeMap extends NodeFeature {
         }
         assert !values.isEmpty();
 
-        values.values().stream().filter(v -> v instanceof StateNode)
-                .forEach(v -> action.accept((StateNode) v));
+        values.forEach((key, value) -> {
+            if (value instanceof StateNode) {
+                action.accept((StateNode) value);
+            }
+        });
     }
 
     /**
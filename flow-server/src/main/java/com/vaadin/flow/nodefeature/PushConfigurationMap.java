@@ -55,6 +55,7 @@ public class PushConfigurationMap extends NodeMap implements PushConfiguration {
     public static final String ALWAYS_USE_XHR_TO_SERVER = "alwaysXhrToServer";
     public static final String PUSH_URL_KEY = "pushUrl";
     public static final String PARAMETERS_KEY = "parameters";
+    public static final String MIN_PUSH_INTERVAL_KEY = "minPushInterval";
 
     /**
      * Creates a new map for the given node.
@@ -162,4 +163,19 @@ public class PushConfigurationMap extends NodeMap implements PushConfiguration {
     public Collection<String> getParameterNames() {
         return getParameters().keySet();
     }
+
+    @Override
+    public void setMinPushInterval(int minPushInterval) {
+        if (minPushInterval < 0) {
+            throw new IllegalArgumentException(
+                    "Minimum push interval cannot be negative");
+        }
+        // Only used on the server side, no need to send to the client
+        put(MIN_PUSH_INTERVAL_KEY, minPushInterval, false);
+    }
+
+    @Override
+    public int getMinPushInterval() {
+        return getOrDefault(MIN_PUSH_INTERVAL_KEY, 0);
+    }
 }
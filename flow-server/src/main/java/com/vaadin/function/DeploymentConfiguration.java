@@ -293,4 +293,33 @@ public interface DeploymentConfiguration extends Serializable {
         return !getBooleanProperty(Constants.DISABLE_WEBJARS,
                 isProductionMode());
     }
+
+    /**
+     * Determines if UIDL responses should be streamed to the client while the
+     * state tree changes are being collected. It is enabled if the user has set
+     * the {@link Constants#STREAM_UIDL_RESPONSES} property to {@code true}.
+     * <p>
+     * Streaming keeps the memory used per request bounded, but since the
+     * response has already been partially sent when the changes are
+     * serialized, a failure during serialization cannot be turned into a
+     * refresh notification for the client.
+     *
+     * @return {@code true} if UIDL responses are streamed, {@code false} if
+     *         they are buffered before sending
+     */
+    default boolean isUidlStreamingEnabled() {
+        return getBooleanProperty(Constants.STREAM_UIDL_RESPONSES, false);
+    }
+
+    /**
+     * Determines if state tree changes are sent to the client using the compact
+     * positional encoding. It is enabled if the user has set the
+     * {@link Constants#COMPACT_CHANGE_ENCODING} property to {@code true}.
+     *
+     * @return {@code true} if the compact change encoding is used,
+     *         {@code false} if changes are encoded as JSON objects
+     */
+    default boolean isCompactChangeEncodingEnabled() {
+        return getBooleanProperty(Constants.COMPACT_CHANGE_ENCODING, false);
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.router;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps instances of a navigation target or a router layout alive after
+ * navigating away from them, so that the same instance with its current state
+ * is shown again when navigating back instead of creating a new instance.
+ * <p>
+ * The instances are kept separately for each UI. When there are more kept
+ * instances of the annotated type than {@link #maxInstances()}, the least
+ * recently shown instance is discarded. Kept instances may also be discarded
+ * if the JVM is running low on memory, and they are not preserved when the
+ * session is serialized.
+ * <p>
+ * Instances of a navigation target are preferably reused for the same location
+ * that they were last shown for, so that e.g. a target with a URL parameter
+ * can keep one instance for each of the most recently used parameter values.
+ *
+ * @see RouteTargetCache
+ *
+ * @author Vaadin Ltd
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@Inherited
+public @interface KeepAlive {
+
+    /**
+     * Gets the maximum number of detached instances of the annotated type to
+     * keep alive in each UI.
+     *
+     * @return the maximum number of kept instances
+     */
+    int maxInstances() default 1;
+}
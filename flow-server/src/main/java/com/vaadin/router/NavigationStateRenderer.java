@@ -71,7 +71,9 @@ public class NavigationStateRenderer implements NavigationHandler {
      * <p>
      * Override this method to control the creation of view instances.
      * <p>
-     * By default always creates new instances.
+     * By default reuses the instance of the type that is currently shown, or an
+     * instance kept by the {@link RouteTargetCache} of the UI if the type is
+     * annotated with {@link KeepAlive}. Otherwise a new instance is created.
      *
      * @param <T>
      *            the route target type
@@ -90,8 +92,11 @@ public class NavigationStateRenderer implements NavigationHandler {
                 .filter(component -> component.getClass()
                         .equals(routeTargetType))
                 .findAny();
-        return (T) currentInstance.orElseGet(() -> Instantiator.get(ui)
-                .createRouteTarget(routeTargetType, event));
+        return (T) currentInstance.orElseGet(() -> ui.getInternals()
+                .getRouteTargetCache()
+                .get(routeTargetType, event.getLocation().getPath())
+                .orElseGet(() -> Instantiator.get(ui)
+                        .createRouteTarget(routeTargetType, event)));
     }
 
     @Override
@@ -163,9 +168,16 @@ public class NavigationStateRenderer implements NavigationHandler {
         List<RouterLayout> routerLayouts = (List<RouterLayout>) (List<?>) chain
                 .subList(1, chain.size());
 
+        List<HasElement> previousChain = new ArrayList<>(
+                ui.getInternals().getActiveRouterTargetsChain());
+        String previousPath = ui.getInternals().getActiveViewLocation()
+                .getPath();
+
         ui.getInternals().showRouteTarget(event.getLocation(),
                 componentInstance, routerLayouts);
 
+        updateRouteTargetCache(ui, previousChain, previousPath, chain);
+
         RouterUtil.updatePageTitle(event, componentInstance);
 
         LocationChangeEvent locationChangeEvent = RouterUtil.createEvent(event,
@@ -197,6 +209,27 @@ public class NavigationStateRenderer implements NavigationHandler {
         });
     }
 
+    private static void updateRouteTargetCache(UI ui,
+            List<HasElement> previousChain, String previousPath,
+            List<HasElement> chain) {
+        RouteTargetCache cache = ui.getInternals().getRouteTargetCache();
+        chain.forEach(cache::remove);
+
+        for (int i = 0; i < previousChain.size(); i++) {
+            HasElement part = previousChain.get(i);
+            if (chain.contains(part)) {
+                continue;
+            }
+            if (i > 0 && !chain.contains(previousChain.get(i - 1))) {
+                // Don't keep the old content inside a layout, it will get new
+                // content when it's shown again
+                previousChain.get(i - 1).getElement().removeFromParent();
+            }
+            // Only the navigation target itself depends on the path
+            cache.put(part, i == 0 ? previousPath : null);
+        }
+    }
+
     private void fireAfterNavigationListeners(List<HasElement> chain,
             AfterNavigationEvent event) {
         EventUtil.collectAfterNavigationListeners(chain)
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.router;
+
+import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.vaadin.ui.common.HasElement;
+
+/**
+ * Navigation target and router layout instances of a UI that are annotated
+ * with {@link KeepAlive} and have been detached by navigating away from them.
+ * <p>
+ * The cache only holds soft references to the instances, so they may be
+ * discarded by the garbage collector when memory is running low. The cache is
+ * empty after deserialization.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ */
+public final class RouteTargetCache implements Serializable {
+
+    private static final class Entry {
+        private final SoftReference<HasElement> instance;
+        private final String path;
+
+        private Entry(HasElement instance, String path) {
+            this.instance = new SoftReference<>(instance);
+            this.path = path;
+        }
+    }
+
+    // Most recently used first
+    private transient LinkedList<Entry> entries;
+
+    /**
+     * Finds a kept instance of the given type. An instance that was last shown
+     * for the given path is preferred, otherwise the most recently shown
+     * instance is returned.
+     *
+     * @param <T>
+     *            the instance type
+     * @param type
+     *            the exact type of the instance to find, not <code>null</code>
+     * @param path
+     *            the path to prefer an instance for, or <code>null</code> to
+     *            not prefer any path
+     * @return an optional kept instance, or an empty optional if there is no
+     *         kept instance of the type
+     */
+    public <T extends HasElement> Optional<T> get(Class<T> type, String path) {
+        if (entries == null) {
+            return Optional.empty();
+        }
+
+        HasElement mostRecent = null;
+        Iterator<Entry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            HasElement instance = entry.instance.get();
+            if (instance == null) {
+                iterator.remove();
+            } else if (instance.getClass() == type) {
+                if (path != null && path.equals(entry.path)) {
+                    return Optional.of(type.cast(instance));
+                } else if (mostRecent == null) {
+                    mostRecent = instance;
+                }
+            }
+        }
+        return Optional.ofNullable(type.cast(mostRecent));
+    }
+
+    /**
+     * Keeps the given detached instance if its type is annotated with
+     * {@link KeepAlive}. If there are then more kept instances of the type
+     * than allowed, the least recently kept instance is discarded.
+     *
+     * @param instance
+     *            the detached instance, not <code>null</code>
+     * @param path
+     *            the path that the instance was shown for, or
+     *            <code>null</code> if the instance isn't specific to a path
+     */
+    public void put(HasElement instance, String path) {
+        Objects.requireNonNull(instance, "Instance cannot be null");
+
+        KeepAlive keepAlive = instance.getClass()
+                .getAnnotation(KeepAlive.class);
+        if (keepAlive == null) {
+            return;
+        }
+
+        remove(instance);
+        if (entries == null) {
+            entries = new LinkedList<>();
+        }
+        entries.addFirst(new Entry(instance, path));
+
+        int count = 0;
+        Iterator<Entry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            HasElement kept = iterator.next().instance.get();
+            if (kept == null || (kept.getClass() == instance.getClass()
+                    && ++count > keepAlive.maxInstances())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Stops keeping the given instance, e.g. because it's shown again.
+     *
+     * @param instance
+     *            the instance to remove, not <code>null</code>
+     */
+    public void remove(HasElement instance) {
+        if (entries != null) {
+            entries.removeIf(entry -> {
+                HasElement kept = entry.instance.get();
+                return kept == null || kept == instance;
+            });
+        }
+    }
+}
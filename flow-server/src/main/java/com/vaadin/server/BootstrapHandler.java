@@ -22,14 +22,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -91,6 +95,27 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
             + readResource("es6-collections.js") + "//]]>";
     private static final String CSS_TYPE_ATTRIBUTE_VALUE = "text/css";
 
+    /*
+     * Placeholders for the per-request parts of a cached bootstrap page. The
+     * last three are also used as such in BootstrapHandler.js.
+     */
+    private static final String HEAD_PLACEHOLDER = "{{VAADIN_HEAD}}";
+    private static final String DEPENDENCIES_PLACEHOLDER = "{{VAADIN_DEPENDENCIES}}";
+    private static final String BODY_DEPENDENCIES_PLACEHOLDER = "{{VAADIN_BODY_DEPENDENCIES}}";
+    private static final String APP_ID_PLACEHOLDER = "{{APP_ID}}";
+    private static final String CONFIG_JSON_PLACEHOLDER = "{{CONFIG_JSON}}";
+    private static final String INITIAL_UIDL_PLACEHOLDER = "{{INITIAL_UIDL}}";
+    private static final List<String> PAGE_PLACEHOLDERS = Arrays.asList(
+            HEAD_PLACEHOLDER, DEPENDENCIES_PLACEHOLDER,
+            BODY_DEPENDENCIES_PLACEHOLDER, APP_ID_PLACEHOLDER,
+            CONFIG_JSON_PLACEHOLDER, INITIAL_UIDL_PLACEHOLDER);
+
+    /**
+     * Upper limit for the number of cached bootstrap pages, to protect against
+     * unexpected variation in the cache keys.
+     */
+    private static final int MAX_CACHED_PAGES = 64;
+
     static String clientEngineFile = readClientEngine();
 
     private static Logger getLogger() {
@@ -193,6 +218,51 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
 
     }
 
+    /**
+     * The serialized form of a bootstrap page, split at the placeholders for
+     * the parts that are different for each request.
+     */
+    private static final class BootstrapPageTemplate implements Serializable {
+        private final List<String> fragments = new ArrayList<>();
+        private final List<String> placeholders = new ArrayList<>();
+        private final int length;
+
+        private BootstrapPageTemplate(String html) {
+            int position = 0;
+            while (true) {
+                int next = -1;
+                String placeholder = null;
+                for (String candidate : PAGE_PLACEHOLDERS) {
+                    int index = html.indexOf(candidate, position);
+                    if (index != -1 && (next == -1 || index < next)) {
+                        next = index;
+                        placeholder = candidate;
+                    }
+                }
+                if (placeholder == null) {
+                    break;
+                }
+                fragments.add(html.substring(position, next));
+                placeholders.add(placeholder);
+                position = next + placeholder.length();
+            }
+            fragments.add(html.substring(position));
+            length = html.length();
+        }
+
+        private String render(Map<String, String> values) {
+            StringBuilder builder = new StringBuilder(length + 4096);
+            for (int i = 0; i < placeholders.size(); i++) {
+                builder.append(fragments.get(i));
+                builder.append(values.get(placeholders.get(i)));
+            }
+            builder.append(fragments.get(fragments.size() - 1));
+            return builder.toString();
+        }
+    }
+
+    private final Map<List<Object>, BootstrapPageTemplate> pageTemplates = new ConcurrentHashMap<>();
+
     private static class BootstrapUriResolver extends VaadinUriResolver {
         private final VaadinSession session;
         private final VaadinRequest request;
@@ -251,36 +321,140 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
         ServletHelper.setResponseNoCacheHeaders(response::setHeader,
                 response::setDateHeader);
 
-        Document document = getBootstrapPage(context);
-        writeBootstrapPage(response, document.outerHtml());
+        if (session.getService().isBootstrapPageCacheable()) {
+            writeBootstrapPage(response, getCachedBootstrapPage(context));
+        } else {
+            Document document = getBootstrapPage(context);
+            writeBootstrapPage(response, document.outerHtml());
+        }
 
         return true;
     }
 
     static Document getBootstrapPage(BootstrapContext context) {
+        Document document = createDocument();
+        Element head = document.head();
+
+        setupMetaAndTitle(head, context);
+        setupCss(head);
+
+        JsonObject initialUIDL = getInitialUidl(context.getUI());
+        List<Element> headDependencies = new ArrayList<>();
+        List<Element> bodyDependencies = new ArrayList<>();
+        createDependencyElements(context,
+                popDependenciesToProcessOnServer(initialUIDL),
+                headDependencies, bodyDependencies);
+
+        setupFrameworkLibraries(head,
+                createBootstrapScript(getBootstrapJS(initialUIDL, context)),
+                context);
+        headDependencies.forEach(head::appendChild);
+        bodyDependencies.forEach(document.body()::appendChild);
+        setupDocumentBody(document);
+
+        modifyBootstrapPage(document, context);
+
+        return document;
+    }
+
+    /**
+     * Generates the bootstrap page using a cached template for the static
+     * parts of the page. Only the parts that differ between requests are
+     * generated for each request: the base URL, viewport and title of the
+     * page, the dependencies of the UI, the application id and configuration
+     * and the initial UIDL.
+     * <p>
+     * The template is created, and the bootstrap listeners are run, only once
+     * for each combination of UI class, browser ES6 support, context root path
+     * and push mode.
+     *
+     * @param context
+     *            the bootstrap context
+     * @return the bootstrap page HTML
+     */
+    String getCachedBootstrapPage(BootstrapContext context) {
+        String headHtml = toHtml(createPerRequestHeadElements(context));
+
+        JsonObject initialUIDL = getInitialUidl(context.getUI());
+        List<Element> headDependencies = new ArrayList<>();
+        List<Element> bodyDependencies = new ArrayList<>();
+        createDependencyElements(context,
+                popDependenciesToProcessOnServer(initialUIDL),
+                headDependencies, bodyDependencies);
+
+        List<Object> key = Arrays.asList(context.getUI().getClass(),
+                context.getSession().getBrowser().isEs6Supported(),
+                ServletHelper.getContextRootRelativePath(context.getRequest()),
+                context.getPushMode().isEnabled());
+        BootstrapPageTemplate template = pageTemplates.get(key);
+        if (template == null) {
+            template = createBootstrapPageTemplate(context);
+            if (pageTemplates.size() < MAX_CACHED_PAGES) {
+                pageTemplates.putIfAbsent(key, template);
+            }
+        }
+
+        Map<String, String> values = new HashMap<>();
+        values.put(HEAD_PLACEHOLDER, headHtml);
+        values.put(DEPENDENCIES_PLACEHOLDER, toHtml(headDependencies));
+        values.put(BODY_DEPENDENCIES_PLACEHOLDER, toHtml(bodyDependencies));
+        values.put(APP_ID_PLACEHOLDER, context.getAppId());
+        values.put(CONFIG_JSON_PLACEHOLDER, getAppConfigString(context));
+        values.put(INITIAL_UIDL_PLACEHOLDER,
+                getInitialUidlString(initialUIDL, context));
+        return template.render(values);
+    }
+
+    private static BootstrapPageTemplate createBootstrapPageTemplate(
+            BootstrapContext context) {
+        Document document = createDocument();
+        Element head = document.head();
+
+        setupContentType(head);
+        appendPlaceholder(head, HEAD_PLACEHOLDER);
+        setupCss(head);
+        setupFrameworkLibraries(head,
+                createBootstrapScript(getBootstrapJSTemplate(context)),
+                context);
+        appendPlaceholder(head, DEPENDENCIES_PLACEHOLDER);
+        appendPlaceholder(document.body(), BODY_DEPENDENCIES_PLACEHOLDER);
+        setupDocumentBody(document);
+
+        modifyBootstrapPage(document, context);
+
+        return new BootstrapPageTemplate(document.outerHtml());
+    }
+
+    private static Document createDocument() {
         Document document = new Document("");
         DocumentType doctype = new DocumentType("html", "", "",
                 document.baseUri());
         document.appendChild(doctype);
         Element html = document.appendElement("html");
-        Element head = html.appendElement("head");
+        html.appendElement("head");
         html.appendElement("body");
-
-        List<Element> dependenciesToInlineInBody = setupDocumentHead(head,
-                context);
-        dependenciesToInlineInBody
-                .forEach(dependency -> document.body().appendChild(dependency));
-        setupDocumentBody(document);
-
         document.outputSettings().prettyPrint(false);
+        return document;
+    }
 
+    private static void modifyBootstrapPage(Document document,
+            BootstrapContext context) {
         BootstrapPageResponse response = new BootstrapPageResponse(
                 context.getRequest(), context.getSession(),
                 context.getResponse(), document, context.getUI(),
                 context.getUriResolver());
         context.getSession().getService().modifyBootstrapPage(response);
+    }
 
-        return document;
+    private static void appendPlaceholder(Element parent, String placeholder) {
+        parent.appendChild(new DataNode(placeholder, parent.baseUri()));
+    }
+
+    private static String toHtml(List<Element> elements) {
+        Document document = new Document("");
+        document.outputSettings().prettyPrint(false);
+        elements.forEach(document::appendChild);
+        return document.html();
     }
 
     private static void writeBootstrapPage(VaadinResponse response, String html)
@@ -292,37 +466,20 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
         }
     }
 
-    private static List<Element> setupDocumentHead(Element head,
-            BootstrapContext context) {
-        setupMetaAndTitle(head, context);
-        setupCss(head);
-
-        JsonObject initialUIDL = getInitialUidl(context.getUI());
-        Map<LoadMode, JsonArray> dependenciesToProcessOnServer = popDependenciesToProcessOnServer(
-                initialUIDL);
-        setupFrameworkLibraries(head, initialUIDL, context);
-        return applyUserDependencies(head, context,
-                dependenciesToProcessOnServer);
-    }
-
-    private static List<Element> applyUserDependencies(Element head,
-            BootstrapContext context,
-            Map<LoadMode, JsonArray> dependenciesToProcessOnServer) {
-        List<Element> dependenciesToInlineInBody = new ArrayList<>();
+    private static void createDependencyElements(BootstrapContext context,
+            Map<LoadMode, JsonArray> dependenciesToProcessOnServer,
+            List<Element> headElements, List<Element> bodyElements) {
         for (Map.Entry<LoadMode, JsonArray> entry : dependenciesToProcessOnServer
                 .entrySet()) {
-            dependenciesToInlineInBody.addAll(
-                    inlineDependenciesInHead(head, context.getUriResolver(),
-                            entry.getKey(), entry.getValue()));
+            createDependencyElements(context.getUriResolver(), entry.getKey(),
+                    entry.getValue(), headElements, bodyElements);
         }
-        return dependenciesToInlineInBody;
     }
 
-    private static List<Element> inlineDependenciesInHead(Element head,
+    private static void createDependencyElements(
             VaadinUriResolver uriResolver, LoadMode loadMode,
-            JsonArray dependencies) {
-        List<Element> dependenciesToInlineInBody = new ArrayList<>();
-
+            JsonArray dependencies, List<Element> headElements,
+            List<Element> bodyElements) {
         for (int i = 0; i < dependencies.length(); i++) {
             JsonObject dependencyJson = dependencies.getObject(i);
             Dependency.Type dependencyType = Dependency.Type
@@ -332,12 +489,11 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
 
             if (loadMode == LoadMode.INLINE
                     && dependencyType == Dependency.Type.HTML_IMPORT) {
-                dependenciesToInlineInBody.add(dependencyElement);
+                bodyElements.add(dependencyElement);
             } else {
-                head.appendChild(dependencyElement);
+                headElements.add(dependencyElement);
             }
         }
-        return dependenciesToInlineInBody;
     }
 
     private static Map<LoadMode, JsonArray> popDependenciesToProcessOnServer(
@@ -353,7 +509,7 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
     }
 
     private static void setupFrameworkLibraries(Element head,
-            JsonObject initialUIDL, BootstrapContext context) {
+            Element bootstrapScript, BootstrapContext context) {
         inlineEs6Collections(head, context);
         appendWebComponentsElements(head, context);
 
@@ -361,7 +517,7 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
             head.appendChild(getPushScript(context));
         }
 
-        head.appendChild(getBootstrapScript(initialUIDL, context));
+        head.appendChild(bootstrapScript);
         head.appendChild(createJavaScriptElement(getClientEngineUrl(context)));
     }
 
@@ -405,21 +561,34 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
 
     private static void setupMetaAndTitle(Element head,
             BootstrapContext context) {
+        setupContentType(head);
+        createPerRequestHeadElements(context).forEach(head::appendChild);
+    }
+
+    private static void setupContentType(Element head) {
         head.appendElement(META_TAG).attr("http-equiv", "Content-Type")
                 .attr(CONTENT_ATTRIBUTE, "text/html; charset=utf-8");
+    }
 
-        head.appendElement("base").attr("href", getServiceUrl(context));
+    private static List<Element> createPerRequestHeadElements(
+            BootstrapContext context) {
+        List<Element> elements = new ArrayList<>();
+        elements.add(new Element(Tag.valueOf("base"), "").attr("href",
+                getServiceUrl(context)));
 
         getViewportContent(context.getUI().getClass(), context.getRequest())
-                .ifPresent(content -> head.appendElement(META_TAG)
-                        .attr("name", "viewport").attr(CONTENT_ATTRIBUTE,
-                                content));
+                .ifPresent(content -> elements
+                        .add(new Element(Tag.valueOf(META_TAG), "")
+                                .attr("name", "viewport")
+                                .attr(CONTENT_ATTRIBUTE, content)));
 
         resolvePageTitle(context).ifPresent(title -> {
             if (!title.isEmpty()) {
-                head.appendElement("title").appendText(title);
+                elements.add(new Element(Tag.valueOf("title"), "")
+                        .appendText(title));
             }
         });
+        return elements;
     }
 
     private static void appendWebComponentsElements(Element head,
@@ -558,10 +727,8 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
         return createJavaScriptElement(pushJSPath);
     }
 
-    private static Element getBootstrapScript(JsonValue initialUIDL,
-            BootstrapContext context) {
-        String scriptData = "//<![CDATA[\n"
-                + getBootstrapJS(initialUIDL, context) + "//]]>";
+    private static Element createBootstrapScript(String bootstrapJS) {
+        String scriptData = "//<![CDATA[\n" + bootstrapJS + "//]]>";
         // defer makes no sense without src:
         // https://developer.mozilla.org/en/docs/Web/HTML/Element/script
         Element mainScript = createJavaScriptElement(null, false);
@@ -571,36 +738,49 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
 
     private static String getBootstrapJS(JsonValue initialUIDL,
             BootstrapContext context) {
-        boolean productionMode = context.getSession().getConfiguration()
-                .isProductionMode();
-        String result = getBootstrapJS();
-        JsonObject appConfig = context.getApplicationParameters();
+        String result = getBootstrapJSTemplate(context);
 
-        int indent = 0;
-        if (!productionMode) {
-            indent = 4;
+        result = result.replace(APP_ID_PLACEHOLDER, context.getAppId());
+        result = result.replace(CONFIG_JSON_PLACEHOLDER,
+                getAppConfigString(context));
+        // {{INITIAL_UIDL}} should be the last replaced so that it may have
+        // other patterns inside it (like {{CONFIG_JSON}})
+        result = result.replace(INITIAL_UIDL_PLACEHOLDER,
+                getInitialUidlString(initialUIDL, context));
+        return result;
+    }
+
+    private static String getBootstrapJSTemplate(BootstrapContext context) {
+        String result = getBootstrapJS();
+        if (!isProductionMode(context)) {
+            // only used in debug mode by profiler
+            return result.replace("{{GWT_STAT_EVENTS}}", GWT_STAT_EVENTS_JS);
+        } else {
+            return result.replace("{{GWT_STAT_EVENTS}}", "");
         }
-        String appConfigString = JsonUtil.stringify(appConfig, indent);
+    }
+
+    private static String getAppConfigString(BootstrapContext context) {
+        return JsonUtil.stringify(context.getApplicationParameters(),
+                getJsonIndent(context));
+    }
 
-        String initialUIDLString = JsonUtil.stringify(initialUIDL, indent);
+    private static String getInitialUidlString(JsonValue initialUIDL,
+            BootstrapContext context) {
+        String initialUIDLString = JsonUtil.stringify(initialUIDL,
+                getJsonIndent(context));
         // Browser interpret </script> as end of script no matter if it is
         // inside a string or not so we must escape it
-        initialUIDLString = SCRIPT_END_TAG_PATTERN.matcher(initialUIDLString)
+        return SCRIPT_END_TAG_PATTERN.matcher(initialUIDLString)
                 .replaceAll("<\\\\x2F$1");
+    }
 
-        if (!productionMode) {
-            // only used in debug mode by profiler
-            result = result.replace("{{GWT_STAT_EVENTS}}", GWT_STAT_EVENTS_JS);
-        } else {
-            result = result.replace("{{GWT_STAT_EVENTS}}", "");
-        }
+    private static int getJsonIndent(BootstrapContext context) {
+        return isProductionMode(context) ? 0 : 4;
+    }
 
-        result = result.replace("{{APP_ID}}", context.getAppId());
-        result = result.replace("{{CONFIG_JSON}}", appConfigString);
-        // {{INITIAL_UIDL}} should be the last replaced so that it may have
-        // other patterns inside it (like {{CONFIG_JSON}})
-        result = result.replace("{{INITIAL_UIDL}}", initialUIDLString);
-        return result;
+    private static boolean isProductionMode(BootstrapContext context) {
+        return context.getSession().getConfiguration().isProductionMode();
     }
 
     protected static JsonObject getApplicationParameters(
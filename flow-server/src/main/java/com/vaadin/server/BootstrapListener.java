@@ -46,4 +46,27 @@ public interface BootstrapListener extends EventListener, Serializable {
      */
     void modifyBootstrapPage(BootstrapPageResponse response);
 
+    /**
+     * Checks whether this listener can be used with a cached bootstrap page.
+     * <p>
+     * If all registered listeners are cache compatible, the static parts of
+     * the bootstrap page are generated and passed to the listeners only once
+     * for each UI class (and browser and push configuration), and the result
+     * is reused for subsequent requests. A cache compatible listener must
+     * therefore only make modifications to the document that are the same for
+     * all such requests. It must not modify the response headers, and it must
+     * not rely on the page title, the base URL, the viewport or the
+     * dependencies of the UI being present in the document, since those are
+     * added separately for each request.
+     * <p>
+     * By default listeners are not cache compatible, which disables the
+     * caching of the bootstrap page.
+     *
+     * @return <code>true</code> if this listener is cache compatible,
+     *         <code>false</code> otherwise
+     */
+    default boolean isCacheCompatible() {
+        return false;
+    }
+
 }
@@ -94,6 +94,20 @@ public final class Constants implements Serializable {
      */
     public static final String DISABLE_WEBJARS = "disable.webjars";
 
+    /**
+     * Configuration name for the parameter that determines if UIDL responses
+     * should be streamed directly to the response instead of being fully
+     * buffered in memory before sending.
+     */
+    public static final String STREAM_UIDL_RESPONSES = "stream.uidl.responses";
+
+    /**
+     * Configuration name for the parameter that determines if state tree
+     * changes should be sent to the client in the compact positional format
+     * instead of as JSON objects with named keys.
+     */
+    public static final String COMPACT_CHANGE_ENCODING = "compact.change.encoding";
+
     private Constants() {
         // prevent instantiation constants class only
     }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link StreamResourceWriter} which knows the length of its data up front
+ * and is able to write any byte range of it.
+ * <p>
+ * Resources using such a writer are served with {@code Content-Length},
+ * {@code ETag} and {@code Accept-Ranges} headers, and {@code Range} requests
+ * are answered with partial content. This allows browsers to resume
+ * interrupted downloads and media players to seek without transferring the
+ * whole resource.
+ *
+ * @see StreamResource#StreamResource(String, java.io.File)
+ *
+ * @author Vaadin Ltd
+ *
+ */
+public interface RangeStreamResourceWriter extends StreamResourceWriter {
+
+    /**
+     * Gets the total length of the data in bytes.
+     *
+     * @return the data length in bytes
+     */
+    long getContentLength();
+
+    /**
+     * Gets the entity tag which identifies the current version of the data.
+     * The value should be a quoted string as defined by the HTTP
+     * specification, e.g. <code>"abc123"</code>.
+     *
+     * @return the entity tag, or <code>null</code> if the data has no version
+     *         identifier
+     */
+    String getETag();
+
+    /**
+     * Writes the given byte range of the data to the {@code stream} using
+     * {@code session} as a context.
+     * <p>
+     * Note that the method is not called under the session lock, and it
+     * should not acquire the lock for the duration of the transfer.
+     *
+     * @param stream
+     *            data output stream
+     * @param session
+     *            vaadin session
+     * @param start
+     *            the index of the first byte to write
+     * @param length
+     *            the number of bytes to write
+     * @throws IOException
+     *             if an IO error occurred
+     */
+    void accept(OutputStream stream, VaadinSession session, long start,
+            long length) throws IOException;
+
+    @Override
+    default void accept(OutputStream stream, VaadinSession session)
+            throws IOException {
+        accept(stream, session, 0, getContentLength());
+    }
+}
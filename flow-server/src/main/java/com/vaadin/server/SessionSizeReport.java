@@ -0,0 +1,268 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.vaadin.flow.StateNode;
+import com.vaadin.flow.StateTree;
+import com.vaadin.flow.nodefeature.ComponentMapping;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.UI;
+
+/**
+ * Reports how many bytes a session occupies when it's serialized, e.g. for
+ * replicating it to other servers or storing it in a persistent session
+ * store.
+ * <p>
+ * In addition to the size of the whole session, the size of the state of each
+ * node in the state trees of the session's UIs is measured separately and
+ * reported by the type of the component that the node belongs to. The state
+ * of a node without a component of its own, e.g. an element created by a
+ * component for its internal structure, is counted for the closest ancestor
+ * node with a component. Nodes that don't belong to any component are reported
+ * as {@link StateNode}. References to other nodes, components, UIs and
+ * sessions are not included in the size of a node. Neither are the class
+ * descriptors, which are written only once for each class when the whole
+ * session is serialized. Objects that are referenced from several nodes are
+ * counted for each of them, so the sizes by type are an estimate of how the
+ * session size is distributed rather than an exact breakdown.
+ * <p>
+ * Creating a report serializes the session, so it should not be done for
+ * every request.
+ *
+ * @author Vaadin Ltd
+ */
+public final class SessionSizeReport implements Serializable {
+
+    private final long sessionSize;
+    private final Map<Class<?>, Long> sizeByType;
+    private final Map<Class<?>, Integer> nodeCountByType;
+
+    private SessionSizeReport(long sessionSize, Map<Class<?>, Long> sizeByType,
+            Map<Class<?>, Integer> nodeCountByType) {
+        this.sessionSize = sessionSize;
+        this.sizeByType = sizeByType;
+        this.nodeCountByType = nodeCountByType;
+    }
+
+    /**
+     * Measures the serialized size of the given session. The session must be
+     * locked by the current thread.
+     *
+     * @param session
+     *            the session to measure, not <code>null</code>
+     * @return a size report for the session, not <code>null</code>
+     * @throws IOException
+     *             if the session cannot be serialized, e.g. because it refers
+     *             to an object that is not serializable
+     */
+    public static SessionSizeReport create(VaadinSession session)
+            throws IOException {
+        assert session.hasLock();
+
+        long sessionSize = measure(session, null, null);
+
+        Map<Class<?>, Long> sizeByType = new HashMap<>();
+        Map<Class<?>, Integer> nodeCountByType = new HashMap<>();
+        for (UI ui : session.getUIs()) {
+            StateNode rootNode = ui.getInternals().getStateTree()
+                    .getRootNode();
+            IOException[] failure = new IOException[1];
+            rootNode.visitNodeTree(node -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                Component component = getComponent(node);
+                Class<?> type = getReportedType(node);
+                try {
+                    sizeByType.merge(type, measure(node, node, component),
+                            Long::sum);
+                    nodeCountByType.merge(type, 1, Integer::sum);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        }
+
+        return new SessionSizeReport(sessionSize, sortBySize(sizeByType),
+                Collections.unmodifiableMap(nodeCountByType));
+    }
+
+    /**
+     * Gets the serialized size of the whole session.
+     *
+     * @return the size of the session in bytes
+     */
+    public long getSessionSize() {
+        return sessionSize;
+    }
+
+    /**
+     * Gets the serialized size of the state nodes by component type, largest
+     * first.
+     *
+     * @return an unmodifiable map from component type to size in bytes, not
+     *         <code>null</code>
+     */
+    public Map<Class<?>, Long> getSizeByType() {
+        return sizeByType;
+    }
+
+    /**
+     * Gets the number of state nodes counted for each component type.
+     *
+     * @return an unmodifiable map from component type to node count, not
+     *         <code>null</code>
+     */
+    public Map<Class<?>, Integer> getNodeCountByType() {
+        return nodeCountByType;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Session size: ")
+                .append(sessionSize).append(" bytes");
+        sizeByType.forEach((type, size) -> builder.append('\n')
+                .append(type.getName()).append(": ").append(size)
+                .append(" bytes in ").append(nodeCountByType.get(type))
+                .append(" nodes"));
+        return builder.toString();
+    }
+
+    private static Component getComponent(StateNode node) {
+        if (!node.hasFeature(ComponentMapping.class)) {
+            return null;
+        }
+        return node.getFeature(ComponentMapping.class).getComponent()
+                .orElse(null);
+    }
+
+    private static Class<?> getReportedType(StateNode node) {
+        StateNode current = node;
+        while (current != null) {
+            Component component = getComponent(current);
+            if (component != null) {
+                return component.getClass();
+            }
+            current = current.getParent();
+        }
+        return StateNode.class;
+    }
+
+    private static Map<Class<?>, Long> sortBySize(Map<Class<?>, Long> sizes) {
+        Map<Class<?>, Long> sorted = new LinkedHashMap<>();
+        sizes.entrySet().stream()
+                .sorted(Entry.<Class<?>, Long> comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(),
+                        entry.getValue()));
+        return Collections.unmodifiableMap(sorted);
+    }
+
+    private static long measure(Object object, StateNode ownNode,
+            Component ownComponent) throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        try (NodeStateOutputStream stream = new NodeStateOutputStream(counter,
+                ownNode, ownComponent)) {
+            stream.writeObject(object);
+            stream.flush();
+            if (ownNode == null) {
+                return counter.count;
+            }
+            return counter.count - stream.streamOverhead;
+        }
+    }
+
+    /*
+     * Leaves out references to anything that doesn't belong to the measured
+     * node. If no node is given, everything is written.
+     */
+    private static class NodeStateOutputStream extends ObjectOutputStream {
+        // TC_CLASSDESC before and TC_ENDBLOCKDATA after each descriptor
+        private static final int CLASS_DESCRIPTOR_MARKERS = 2;
+
+        private final CountingOutputStream counter;
+        private final StateNode ownNode;
+        private final Component ownComponent;
+
+        /*
+         * Bytes of the stream header and class descriptors, which are only
+         * written once when the whole session is serialized.
+         */
+        private long streamOverhead;
+
+        private NodeStateOutputStream(CountingOutputStream out,
+                StateNode ownNode, Component ownComponent) throws IOException {
+            super(out);
+            counter = out;
+            this.ownNode = ownNode;
+            this.ownComponent = ownComponent;
+            enableReplaceObject(ownNode != null);
+            flush();
+            streamOverhead = counter.count;
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc)
+                throws IOException {
+            // Data is not written in blocks here, so flushing is safe
+            flush();
+            long start = counter.count;
+            super.writeClassDescriptor(desc);
+            flush();
+            streamOverhead += counter.count - start + CLASS_DESCRIPTOR_MARKERS;
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            if (obj instanceof StateNode) {
+                return obj == ownNode ? obj : null;
+            } else if (obj instanceof Component) {
+                return obj == ownComponent ? obj : null;
+            } else if (obj instanceof StateTree
+                    || obj instanceof VaadinSession) {
+                return null;
+            }
+            return obj;
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -21,6 +21,8 @@ import java.io.Serializable;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -43,9 +45,15 @@ import com.vaadin.util.ResponseWriter;
  * @author Vaadin Ltd
  */
 public class StaticFileServer implements Serializable {
-    private final ResponseWriter responseWriter = new ResponseWriter();
+    private final ResponseWriter responseWriter;
     private final VaadinService service;
 
+    /*
+     * Resources found in production mode. Missing resources are not cached,
+     * since the number of different paths requested is not bounded.
+     */
+    private final Map<String, URL> resourceUrls = new ConcurrentHashMap<>();
+
     /**
      * Constructs a file server.
      *
@@ -54,6 +62,8 @@ public class StaticFileServer implements Serializable {
      */
     public StaticFileServer(VaadinService service) {
         this.service = service;
+        responseWriter = new ResponseWriter(
+                service.getDeploymentConfiguration());
     }
 
     /**
@@ -80,7 +90,7 @@ public class StaticFileServer implements Serializable {
                 // We rather serve 404 than let it fall through
                 return true;
             }
-            resource = request.getServletContext().getResource(requestFilename);
+            resource = getResourceUrl(request, requestFilename);
         } catch (MalformedURLException e) {
             return false;
         }
@@ -104,8 +114,7 @@ public class StaticFileServer implements Serializable {
     public boolean serveStaticResource(HttpServletRequest request,
             HttpServletResponse response) throws IOException {
         String filenameWithPath = getRequestFilename(request);
-        URL resourceUrl = request.getServletContext()
-                .getResource(filenameWithPath);
+        URL resourceUrl = getResourceUrl(request, filenameWithPath);
 
         if (resourceUrl == null) {
             // Not found in webcontent or in META-INF/resources in some JAR
@@ -131,6 +140,20 @@ public class StaticFileServer implements Serializable {
         return true;
     }
 
+    private URL getResourceUrl(HttpServletRequest request,
+            String filenameWithPath) throws MalformedURLException {
+        URL resourceUrl = resourceUrls.get(filenameWithPath);
+        if (resourceUrl == null) {
+            resourceUrl = request.getServletContext()
+                    .getResource(filenameWithPath);
+            if (resourceUrl != null
+                    && service.getDeploymentConfiguration().isProductionMode()) {
+                resourceUrls.put(filenameWithPath, resourceUrl);
+            }
+        }
+        return resourceUrl;
+    }
+
     /**
      * Writes the modification timestamp info for the file into the response.
      *
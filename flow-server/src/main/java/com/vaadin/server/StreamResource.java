@@ -15,10 +15,16 @@
  */
 package com.vaadin.server;
 
+import java.io.EOFException;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -65,7 +71,7 @@ public class StreamResource implements Serializable {
 
     private static class Pipe implements StreamResourceWriter {
 
-        private static final int BUFFER_SIZE = 1024;
+        private static final int BUFFER_SIZE = 32 * 1024;
 
         private InputStreamFactory factory;
 
@@ -114,6 +120,49 @@ public class StreamResource implements Serializable {
         }
     }
 
+    private static class FileChannelWriter
+            implements RangeStreamResourceWriter {
+
+        private final File file;
+
+        private FileChannelWriter(File file) {
+            this.file = file;
+        }
+
+        @Override
+        public long getContentLength() {
+            return file.length();
+        }
+
+        @Override
+        public String getETag() {
+            return '"' + Long.toHexString(file.length()) + '-'
+                    + Long.toHexString(file.lastModified()) + '"';
+        }
+
+        @Override
+        public void accept(OutputStream stream, VaadinSession session,
+                long start, long length) throws IOException {
+            try (FileChannel channel = FileChannel.open(file.toPath(),
+                    StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(stream);
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    long transferred = channel.transferTo(position, remaining,
+                            target);
+                    if (transferred <= 0) {
+                        throw new EOFException(String.format(
+                                "File '%s' was truncated while being read",
+                                file));
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+            }
+        }
+    }
+
     /**
      * Creates {@link StreamResource} instance using mandatory parameters
      * {@code name} as a resource file name and output stream {@code writer} as
@@ -161,6 +210,31 @@ public class StreamResource implements Serializable {
         assert name != null;
     }
 
+    /**
+     * Creates {@link StreamResource} instance using mandatory parameters
+     * {@code name} as a resource file name and {@code file} as the data.
+     * <p>
+     * The file is transferred directly from the file system without holding
+     * the session lock. The resource is served with {@code Content-Length} and
+     * {@code ETag} headers and supports HTTP byte range requests, so that
+     * downloads can be resumed and media can be seeked.
+     * <p>
+     * {@code name} parameter value will be used in URI (generated when resource
+     * is registered) in a way that the {@code name} is the last segment of the
+     * path. So this is synthetic file name (not real one).
+     *
+     * @see RangeStreamResourceWriter
+     *
+     * @param name
+     *            resource file name. May not be null.
+     * @param file
+     *            the file containing the data. May not be null.
+     */
+    public StreamResource(String name, File file) {
+        this(name, new FileChannelWriter(file));
+        assert file != null;
+    }
+
     /**
      * Gets the length of cache expiration time. This gives the possibility to
      * cache the resource. "Cache-Control" HTTP header will be set based on this
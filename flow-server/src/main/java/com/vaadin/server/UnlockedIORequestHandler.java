@@ -0,0 +1,131 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * Synchronized request handler which reads the request body before the
+ * {@link VaadinSession} is locked and writes the response after the session
+ * has been unlocked, so that the session lock is not held while doing I/O with
+ * a potentially slow client. This lets other requests for the same session,
+ * e.g. from other browser tabs, proceed while the data is transferred.
+ * <p>
+ * Requests are handled by
+ * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse, String)}
+ * with the session locked.
+ *
+ * @author Vaadin Ltd
+ */
+public abstract class UnlockedIORequestHandler
+        extends SynchronizedRequestHandler {
+
+    @Override
+    public boolean handleRequest(VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        if (!canHandleRequest(request)) {
+            return false;
+        }
+
+        BufferedReader reader = request.getReader();
+        String requestBody = reader == null ? null : getRequestBody(reader);
+
+        Optional<ResponseWriter> responseWriter;
+        session.lock();
+        try {
+            responseWriter = synchronizedHandleRequest(session, request,
+                    response, requestBody);
+        } finally {
+            session.unlock();
+        }
+
+        if (responseWriter.isPresent()) {
+            responseWriter.get().writeResponse();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Identical to
+     * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)}
+     * except that the request body has already been read before the session
+     * was locked and that the response should not be written directly.
+     * Instead, a {@link ResponseWriter} that writes the response is returned
+     * and invoked after the session has been unlocked.
+     *
+     * @param session
+     *            The session for the request
+     * @param request
+     *            The request to handle
+     * @param response
+     *            The response object to which a response can be written
+     * @param requestBody
+     *            the body of the request, or <code>null</code> if the request
+     *            has no body
+     * @return a response writer if the request has been handled and no
+     *         further request handlers should be called, otherwise an empty
+     *         optional
+     * @throws IOException
+     *             If an IO error occurred
+     */
+    public abstract Optional<ResponseWriter> synchronizedHandleRequest(
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response, String requestBody) throws IOException;
+
+    /**
+     * Reads the whole content of the given reader into a string.
+     *
+     * @param reader
+     *            the reader to read from, not <code>null</code>
+     * @return the content of the reader
+     * @throws IOException
+     *             if reading fails
+     */
+    public static String getRequestBody(Reader reader) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[1024];
+
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            sb.append(buffer, 0, read);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Writes a response after the session lock has been released.
+     *
+     * @see UnlockedIORequestHandler#synchronizedHandleRequest(VaadinSession,
+     *      VaadinRequest, VaadinResponse, String)
+     */
+    @FunctionalInterface
+    public interface ResponseWriter extends Serializable {
+        /**
+         * Writes the response.
+         *
+         * @throws IOException
+         *             if writing the response fails
+         */
+        void writeResponse() throws IOException;
+    }
+
+}
@@ -36,8 +36,11 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
@@ -160,6 +163,8 @@ public abstract class VaadinService implements Serializable {
 
     private Iterable<BootstrapListener> bootstrapListeners;
 
+    private volatile ScheduledExecutorService pushScheduler;
+
     private Iterable<DependencyFilter> dependencyFilters;
 
     private boolean atmosphereAvailable = checkAtmosphereSupport();
@@ -559,6 +564,23 @@ public abstract class VaadinService implements Serializable {
                 .forEach(listener -> listener.modifyBootstrapPage(response));
     }
 
+    /**
+     * Checks whether the static parts of the bootstrap page can be cached,
+     * i.e. whether all registered {@link BootstrapListener}s are
+     * {@link BootstrapListener#isCacheCompatible() cache compatible}.
+     *
+     * @return <code>true</code> if the bootstrap page can be cached,
+     *         <code>false</code> otherwise
+     */
+    boolean isBootstrapPageCacheable() {
+        for (BootstrapListener listener : bootstrapListeners) {
+            if (!listener.isCacheCompatible()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Handles destruction of the given session. Internally ensures proper
      * locking is done.
@@ -1963,6 +1985,51 @@ public abstract class VaadinService implements Serializable {
         ServiceDestroyEvent event = new ServiceDestroyEvent(this);
         serviceDestroyListeners
                 .forEach(listener -> listener.serviceDestroy(event));
+
+        if (pushScheduler != null) {
+            pushScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the executor used for running delayed push related tasks, such as
+     * the trailing push of a UI which limits the push frequency using
+     * {@link com.vaadin.ui.PushConfiguration#setMinPushInterval(int)}.
+     * <p>
+     * The executor is created using {@link #createPushScheduler()} when it's
+     * first needed, and it is shut down when this service is destroyed.
+     *
+     * @return the push scheduler, not <code>null</code>
+     */
+    public ScheduledExecutorService getPushScheduler() {
+        if (pushScheduler == null) {
+            synchronized (this) {
+                if (pushScheduler == null) {
+                    pushScheduler = createPushScheduler();
+                }
+            }
+        }
+        return pushScheduler;
+    }
+
+    /**
+     * Creates the executor used for running delayed push related tasks. The
+     * default implementation creates a pool of daemon threads, one for each
+     * available processor.
+     *
+     * @see #getPushScheduler()
+     *
+     * @return a new scheduled executor service, not <code>null</code>
+     */
+    protected ScheduledExecutorService createPushScheduler() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newScheduledThreadPool(
+                Runtime.getRuntime().availableProcessors(), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "vaadin-push-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 
     /**
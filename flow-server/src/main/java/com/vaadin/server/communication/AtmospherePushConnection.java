@@ -34,7 +34,9 @@ import org.atmosphere.cpr.AtmosphereResource.TRANSPORT;
 import org.atmosphere.util.Version;
 
 import com.vaadin.shared.communication.PushConstants;
+import com.vaadin.shared.communication.PushMode;
 import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
 
 import elemental.json.JsonObject;
 
@@ -52,6 +54,8 @@ public class AtmospherePushConnection implements PushConnection {
     private transient AtmosphereResource resource;
     private transient FragmentedMessage incomingMessage;
     private transient Future<Object> outgoingMessage;
+    private transient long lastMessageTime;
+    private transient boolean trailingPushScheduled;
 
     /**
      * Represents a message that can arrive as multiple fragments.
@@ -187,6 +191,9 @@ public class AtmospherePushConnection implements PushConnection {
             } else {
                 state = State.RESPONSE_PENDING;
             }
+        } else if (async && postponePush()) {
+            // The changes will be sent by the scheduled trailing push
+            return;
         } else {
             try {
                 JsonObject response = new UidlWriter().createUidl(getUI(),
@@ -207,11 +214,60 @@ public class AtmospherePushConnection implements PushConnection {
      */
     void sendMessage(String message) {
         assert (isConnected());
+        lastMessageTime = System.currentTimeMillis();
         // "Broadcast" the changes to the single client only
         outgoingMessage = getResource().getBroadcaster().broadcast(message,
                 getResource());
     }
 
+    /**
+     * Checks whether an asynchronous push should be postponed because of the
+     * minimum push interval of the UI, and schedules a trailing push if
+     * needed.
+     *
+     * @return <code>true</code> if the push should be postponed,
+     *         <code>false</code> if it should be sent right away
+     */
+    private boolean postponePush() {
+        UI ui = getUI();
+        int minPushInterval = ui.getPushConfiguration().getMinPushInterval();
+        if (minPushInterval <= 0) {
+            return false;
+        }
+        long delay = lastMessageTime + minPushInterval
+                - System.currentTimeMillis();
+        if (delay <= 0) {
+            return false;
+        }
+        if (!trailingPushScheduled) {
+            trailingPushScheduled = true;
+            ui.getSession().getService().getPushScheduler()
+                    .schedule(() -> pushPostponedChanges(ui), delay,
+                            TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
+    private void pushPostponedChanges(UI ui) {
+        try {
+            ui.access(() -> {
+                trailingPushScheduled = false;
+                /*
+                 * In automatic mode, the changes are pushed when the session
+                 * is unlocked after this command
+                 */
+                if (ui.getPushConfiguration()
+                        .getPushMode() == PushMode.MANUAL) {
+                    ui.push();
+                }
+            });
+        } catch (UIDetachedException e) {
+            getLogger().log(Level.FINE,
+                    "UI was detached before postponed changes were pushed",
+                    e);
+        }
+    }
+
     /**
      * Reads and buffers a (possibly partial) message. If a complete message was
      * received, or if the call resulted in the completion of a partially
@@ -29,6 +29,7 @@ import java.util.logging.Logger;
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletResponse;
 
+import com.vaadin.server.RangeStreamResourceWriter;
 import com.vaadin.server.RequestHandler;
 import com.vaadin.server.StreamResource;
 import com.vaadin.server.StreamResourceWriter;
@@ -52,6 +53,10 @@ public class StreamResourceRequestHandler implements RequestHandler {
      */
     static final String DYN_RES_PREFIX = "VAADIN/dynamic/generated-resources/";
 
+    private static final String BYTES_UNIT = "bytes";
+
+    static final long[] UNSATISFIABLE_RANGE = new long[0];
+
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException {
@@ -92,12 +97,123 @@ public class StreamResourceRequestHandler implements RequestHandler {
         } finally {
             session.unlock();
         }
-        try (OutputStream outputStream = response.getOutputStream()) {
-            writer.accept(outputStream, session);
+        if (writer instanceof RangeStreamResourceWriter) {
+            writeRange((RangeStreamResourceWriter) writer, session, request,
+                    response);
+        } else {
+            try (OutputStream outputStream = response.getOutputStream()) {
+                writer.accept(outputStream, session);
+            }
         }
         return true;
     }
 
+    private static void writeRange(RangeStreamResourceWriter writer,
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        long length = writer.getContentLength();
+        String eTag = writer.getETag();
+
+        response.setHeader("Accept-Ranges", BYTES_UNIT);
+        if (eTag != null) {
+            response.setHeader("ETag", eTag);
+            if (matchesETag(request.getHeader("If-None-Match"), eTag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+
+        long start = 0;
+        long count = length;
+        String range = request.getHeader("Range");
+        String ifRange = request.getHeader("If-Range");
+        if (range != null && (ifRange == null || ifRange.equals(eTag))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == UNSATISFIABLE_RANGE) {
+                response.setHeader("Content-Range",
+                        BYTES_UNIT + " */" + length);
+                response.sendError(
+                        HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE,
+                        "Requested range is not satisfiable: " + range);
+                return;
+            } else if (bounds != null) {
+                start = bounds[0];
+                count = bounds[1] - bounds[0] + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range", BYTES_UNIT + " " + start
+                        + "-" + bounds[1] + "/" + length);
+            }
+        }
+
+        // Set as a header since the length may not fit into an int
+        response.setHeader("Content-Length", Long.toString(count));
+        try (OutputStream outputStream = response.getOutputStream()) {
+            writer.accept(outputStream, session, start, count);
+        }
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || eTag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses a single byte range from the value of a {@code Range} header.
+     *
+     * @param range
+     *            the header value
+     * @param length
+     *            the length of the data
+     * @return an array with the first and the last byte position of the range,
+     *         {@link #UNSATISFIABLE_RANGE} if the range doesn't overlap the
+     *         data or <code>null</code> if the header should be ignored
+     */
+    static long[] parseRange(String range, long length) {
+        String prefix = BYTES_UNIT + "=";
+        if (!range.startsWith(prefix) || range.indexOf(',') != -1) {
+            // Other units and multiple ranges are not supported
+            return null;
+        }
+        String spec = range.substring(prefix.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash == -1) {
+            return null;
+        }
+        try {
+            if (dash == 0) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE_RANGE;
+                }
+                return new long[] { Math.max(0, length - suffix), length - 1 };
+            }
+            long first = Long.parseLong(spec.substring(0, dash));
+            long last = dash == spec.length() - 1 ? length - 1
+                    : Long.parseLong(spec.substring(dash + 1));
+            if (first < 0 || last < first) {
+                return null;
+            }
+            if (first >= length) {
+                return UNSATISFIABLE_RANGE;
+            }
+            return new long[] { first, Math.min(last, length - 1) };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * Generates URI string for a dynamic resource using its {@code id} and
      * {@code name}.
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server.communication;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.vaadin.flow.JsonCodec;
+import com.vaadin.flow.dom.Node;
+import com.vaadin.function.SerializableConsumer;
+import com.vaadin.server.Command;
+import com.vaadin.server.VaadinService;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+import com.vaadin.ui.UIInternals.JavaScriptInvocation;
+
+/**
+ * Sends the same update to a large number of UIs.
+ * <p>
+ * The UIs are split into batches which are processed in parallel using a
+ * bounded executor. Each UI is updated using {@link UI#access(Command)}, so the
+ * session locks are acquired by the executor threads instead of the thread
+ * starting the broadcast, and UIs with automatic push enabled push their
+ * changes when the lock is released.
+ * <p>
+ * JavaScript invocations broadcast using
+ * {@link #executeJavaScript(Collection, String, Serializable...)} are shared
+ * by all the UIs so that the invocation is encoded to JSON only once.
+ *
+ * @author Vaadin Ltd
+ */
+public class UIBroadcaster {
+
+    /**
+     * The default number of UIs updated by one executor task.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final Executor executor;
+    private final int batchSize;
+
+    /**
+     * Creates a new broadcaster using the push scheduler of the given service
+     * and the default batch size.
+     *
+     * @see VaadinService#getPushScheduler()
+     *
+     * @param service
+     *            the service to use, not <code>null</code>
+     */
+    public UIBroadcaster(VaadinService service) {
+        this(service.getPushScheduler(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new broadcaster using the given executor and batch size. The
+     * executor should be bounded, since each batch occupies a thread while the
+     * UIs in it are updated.
+     *
+     * @param executor
+     *            the executor to run the batches with, not <code>null</code>
+     * @param batchSize
+     *            the maximum number of UIs to update in one executor task, must
+     *            be positive
+     */
+    public UIBroadcaster(Executor executor, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.executor = Objects.requireNonNull(executor,
+                "Executor cannot be null");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Applies the given update to all the given UIs. The update is run while
+     * the session of each UI is locked, in one of the executor threads or,
+     * if the session is currently locked by another thread, when that thread
+     * releases the lock. UIs which have been detached are ignored.
+     *
+     * @param uis
+     *            the UIs to update, not <code>null</code>
+     * @param update
+     *            the update to run for each UI, not <code>null</code>
+     * @return a future which is completed when the update has been submitted
+     *         to all the UIs
+     */
+    public CompletableFuture<Void> broadcast(Collection<UI> uis,
+            SerializableConsumer<UI> update) {
+        Objects.requireNonNull(uis, "UIs cannot be null");
+        Objects.requireNonNull(update, "Update cannot be null");
+
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        List<UI> batch = new ArrayList<>(Math.min(batchSize, uis.size()));
+        for (UI ui : uis) {
+            batch.add(ui);
+            if (batch.size() == batchSize) {
+                batches.add(submit(batch, update));
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(submit(batch, update));
+        }
+        return CompletableFuture
+                .allOf(batches.toArray(new CompletableFuture[batches.size()]));
+    }
+
+    /**
+     * Executes the given JavaScript expression in the browsers of all the
+     * given UIs. The same invocation is shared by all the UIs so that its JSON
+     * encoding can be reused. The parameters can therefore not refer to
+     * elements or components, since those are specific to a single UI.
+     *
+     * @see com.vaadin.ui.Page#executeJavaScript(String, Serializable...)
+     *
+     * @param uis
+     *            the UIs to execute the expression in, not <code>null</code>
+     * @param expression
+     *            the JavaScript expression to invoke
+     * @param parameters
+     *            parameters to pass to the expression
+     * @return a future which is completed when the invocation has been
+     *         submitted to all the UIs
+     */
+    public CompletableFuture<Void> executeJavaScript(Collection<UI> uis,
+            String expression, Serializable... parameters) {
+        for (Serializable parameter : parameters) {
+            if (parameter instanceof Component || parameter instanceof Node) {
+                throw new IllegalArgumentException(
+                        "Broadcast JavaScript parameters cannot refer to elements or components");
+            }
+            // Throws IAE for unsupported types
+            JsonCodec.encodeWithTypeInfo(parameter);
+        }
+
+        JavaScriptInvocation invocation = new JavaScriptInvocation(expression,
+                parameters);
+        return broadcast(uis,
+                ui -> ui.getInternals().addJavaScriptInvocation(invocation));
+    }
+
+    private CompletableFuture<Void> submit(List<UI> batch,
+            SerializableConsumer<UI> update) {
+        return CompletableFuture.runAsync(() -> {
+            for (UI ui : batch) {
+                try {
+                    ui.access(() -> update.accept(ui));
+                } catch (UIDetachedException e) {
+                    getLogger().log(Level.FINE,
+                            "Ignoring detached UI in broadcast", e);
+                }
+            }
+        }, executor);
+    }
+
+    private static Logger getLogger() {
+        return Logger.getLogger(UIBroadcaster.class.getName());
+    }
+}
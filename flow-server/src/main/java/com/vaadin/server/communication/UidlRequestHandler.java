@@ -16,17 +16,23 @@
 
 package com.vaadin.server.communication;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.vaadin.server.ServletHelper;
 import com.vaadin.server.ServletHelper.RequestType;
 import com.vaadin.server.SessionExpiredHandler;
-import com.vaadin.server.SynchronizedRequestHandler;
+import com.vaadin.server.UnlockedIORequestHandler;
 import com.vaadin.server.VaadinRequest;
 import com.vaadin.server.VaadinResponse;
 import com.vaadin.server.VaadinService;
@@ -48,11 +54,13 @@ import elemental.json.JsonObject;
  * @author Vaadin Ltd
  * @since 7.1
  */
-public class UidlRequestHandler extends SynchronizedRequestHandler
+public class UidlRequestHandler extends UnlockedIORequestHandler
         implements SessionExpiredHandler {
 
     public static final String UIDL_PATH = "UIDL/";
 
+    private static final int STREAMING_BUFFER_SIZE = 8192;
+
     private ServerRpcHandler rpcHandler;
 
     @Override
@@ -72,41 +80,76 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
     @Override
     public boolean synchronizedHandleRequest(VaadinSession session,
             VaadinRequest request, VaadinResponse response) throws IOException {
+        Optional<ResponseWriter> responseWriter = handleUidlRequest(session,
+                request, response, request.getReader());
+        if (responseWriter.isPresent()) {
+            responseWriter.get().writeResponse();
+        }
+        return responseWriter.isPresent();
+    }
+
+    @Override
+    public Optional<ResponseWriter> synchronizedHandleRequest(
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response, String requestBody) throws IOException {
+        return handleUidlRequest(session, request, response,
+                new StringReader(requestBody == null ? "" : requestBody));
+    }
+
+    /**
+     * Handles the RPC calls in the request and creates the UIDL response. The
+     * response is only written when the returned writer is invoked, except in
+     * streaming mode where the state tree changes are serialized while being
+     * written and the response thus has to be written while holding the
+     * session lock.
+     */
+    private Optional<ResponseWriter> handleUidlRequest(VaadinSession session,
+            VaadinRequest request, VaadinResponse response, Reader reader)
+            throws IOException {
         UI uI = session.getService().findUI(request);
         if (uI == null) {
             // This should not happen but it will if the UI has been closed. We
             // really don't want to see it in the server logs though
-            commitJsonResponse(response, VaadinService.createUINotFoundJSON());
-            return true;
+            return Optional.of(() -> commitJsonResponse(response,
+                    VaadinService.createUINotFoundJSON()));
         }
 
+        boolean streaming = session.getService().getDeploymentConfiguration()
+                .isUidlStreamingEnabled();
         StringWriter stringWriter = new StringWriter();
 
         try {
-            getRpcHandler(session).handleRpc(uI, request.getReader(), request);
+            getRpcHandler(session).handleRpc(uI, reader, request);
 
-            writeUidl(uI, stringWriter);
+            if (!streaming) {
+                writeUidl(uI, stringWriter);
+            }
         } catch (JsonException e) {
             getLogger().log(Level.SEVERE, "Error writing JSON to response", e);
             // Refresh on client side
-            writeRefresh(response);
-            return true;
+            return Optional.of(() -> writeRefresh(response));
         } catch (InvalidUIDLSecurityKeyException e) {
             getLogger().log(Level.WARNING,
                     "Invalid security key received from {0}",
                     request.getRemoteHost());
             // Refresh on client side
-            writeRefresh(response);
-            return true;
+            return Optional.of(() -> writeRefresh(response));
         } finally {
             stringWriter.close();
         }
 
-        commitJsonResponse(response, stringWriter.toString());
-        return true;
+        if (streaming) {
+            streamUidl(uI, response);
+            return Optional.of(() -> {
+                // Already written
+            });
+        }
+        String json = stringWriter.toString();
+        return Optional.of(() -> commitJsonResponse(response, json));
     }
 
-    private void writeRefresh(VaadinResponse response) throws IOException {
+    private static void writeRefresh(VaadinResponse response)
+            throws IOException {
         String json = VaadinService.createCriticalNotificationJSON(null, null,
                 null, null);
         commitJsonResponse(response, json);
@@ -120,6 +163,29 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         writer.write(responseString);
     }
 
+    /**
+     * Writes the UIDL response for the given UI directly to the response output
+     * stream through a buffer of {@value #STREAMING_BUFFER_SIZE} characters.
+     * No content length is set since the size of the response is not known
+     * beforehand.
+     */
+    private static void streamUidl(UI ui, VaadinResponse response)
+            throws IOException {
+        setJsonResponseHeaders(response);
+
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(response.getOutputStream(),
+                        StandardCharsets.UTF_8),
+                STREAMING_BUFFER_SIZE);
+
+        // some dirt to prevent cross site scripting
+        writer.write("for(;;);[");
+        new UidlWriter().writeUidl(ui, false, writer);
+        writer.write("]");
+        // NOTE GateIn requires the buffers to be flushed to work
+        writer.flush();
+    }
+
     private static final Logger getLogger() {
         return Logger.getLogger(UidlRequestHandler.class.getName());
     }
@@ -166,11 +232,7 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
      */
     public static void commitJsonResponse(VaadinResponse response, String json)
             throws IOException {
-        response.setContentType(JsonConstants.JSON_CONTENT_TYPE);
-
-        // Ensure that the browser does not cache UIDL responses.
-        // iOS 6 Safari requires this (#9732)
-        response.setHeader("Cache-Control", "no-cache");
+        setJsonResponseHeaders(response);
 
         byte[] b = json.getBytes("UTF-8");
         response.setContentLength(b.length);
@@ -180,4 +242,12 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         // NOTE GateIn requires the buffers to be flushed to work
         outputStream.flush();
     }
+
+    private static void setJsonResponseHeaders(VaadinResponse response) {
+        response.setContentType(JsonConstants.JSON_CONTENT_TYPE);
+
+        // Ensure that the browser does not cache UIDL responses.
+        // iOS 6 Safari requires this (#9732)
+        response.setHeader("Cache-Control", "no-cache");
+    }
 }
@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
@@ -47,6 +49,7 @@ import com.vaadin.flow.StateTree;
 import com.vaadin.flow.change.MapPutChange;
 import com.vaadin.flow.change.NodeAttachChange;
 import com.vaadin.flow.change.NodeChange;
+import com.vaadin.flow.dom.Node;
 import com.vaadin.flow.nodefeature.ComponentMapping;
 import com.vaadin.flow.nodefeature.TemplateMap;
 import com.vaadin.flow.router.HasChildView;
@@ -98,6 +101,144 @@ public class UidlWriter implements Serializable {
      * @return JSON object containing the UIDL response
      */
     public JsonObject createUidl(UI ui, boolean async) {
+        JsonObject response = createResponseHead(ui, async);
+
+        JsonArray stateChanges = Json.createArray();
+        JsonObject templates = Json.createObject();
+
+        encodeChanges(ui,
+                change -> stateChanges.set(stateChanges.length(), change),
+                templates);
+
+        if (stateChanges.length() != 0) {
+            response.put("changes", stateChanges);
+        }
+        populateResponseTail(ui, response, templates);
+
+        return response;
+    }
+
+    /**
+     * Writes all pending changes to the given UI as JSON directly to the given
+     * writer.
+     * <p>
+     * The produced JSON is equivalent to the one returned by
+     * {@link #createUidl(UI, boolean)}, but the state tree changes are
+     * serialized one at a time while they are collected instead of first being
+     * gathered into a single JSON array. The memory needed for writing the
+     * response is thus bounded by the buffer of the given writer rather than
+     * by the total size of the changes.
+     * <p>
+     * The writer is not flushed or closed by this method.
+     *
+     * @param ui
+     *            The {@link UI} whose changes to write
+     * @param async
+     *            True if this message is sent by the server asynchronously,
+     *            false if it is a response to a client message.
+     * @param writer
+     *            the writer to write the UIDL response to, not
+     *            <code>null</code>
+     * @throws IOException
+     *             if writing to the writer fails
+     */
+    public void writeUidl(UI ui, boolean async, Writer writer)
+            throws IOException {
+        assert writer != null;
+
+        JsonObject head = createResponseHead(ui, async);
+
+        writer.write('{');
+        String[] headKeys = head.keys();
+        for (int i = 0; i < headKeys.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeMember(writer, headKeys[i], head.get(headKeys[i]));
+        }
+
+        JsonObject templates = Json.createObject();
+        StreamingChangesWriter changesWriter = new StreamingChangesWriter(
+                writer, headKeys.length == 0);
+        try {
+            encodeChanges(ui, changesWriter, templates);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        changesWriter.finish();
+
+        JsonObject tail = Json.createObject();
+        populateResponseTail(ui, tail, templates);
+
+        boolean first = headKeys.length == 0 && !changesWriter.hasChanges();
+        for (String key : tail.keys()) {
+            if (!first) {
+                writer.write(',');
+            }
+            writeMember(writer, key, tail.get(key));
+            first = false;
+        }
+        writer.write('}');
+    }
+
+    private static void writeMember(Writer writer, String key,
+            JsonValue value) throws IOException {
+        writer.write(Json.create(key).toJson());
+        writer.write(':');
+        writer.write(value.toJson());
+    }
+
+    /**
+     * Writes encoded state tree changes as the members of a
+     * <code>"changes"</code> JSON array as they are received. The array is only
+     * opened once the first change arrives so that no empty array is written.
+     */
+    private static class StreamingChangesWriter
+            implements Consumer<JsonValue> {
+        private final Writer writer;
+        private final boolean firstMember;
+        private int count;
+
+        private StreamingChangesWriter(Writer writer, boolean firstMember) {
+            this.writer = writer;
+            this.firstMember = firstMember;
+        }
+
+        @Override
+        public void accept(JsonValue change) {
+            try {
+                if (count == 0) {
+                    if (!firstMember) {
+                        writer.write(',');
+                    }
+                    writer.write("\"changes\":[");
+                } else {
+                    writer.write(',');
+                }
+                writer.write(change.toJson());
+                count++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private boolean hasChanges() {
+            return count > 0;
+        }
+
+        private void finish() throws IOException {
+            if (hasChanges()) {
+                writer.write(']');
+            }
+        }
+    }
+
+    /**
+     * Creates the part of the response that is available before any state tree
+     * changes are collected, i.e. the sync id, the next expected client id and
+     * the meta data. Pending access tasks are run as a side effect.
+     */
+    private JsonObject createResponseHead(UI ui, boolean async) {
         JsonObject response = Json.createObject();
 
         UIInternals uiInternals = ui.getInternals();
@@ -130,22 +271,26 @@ public class UidlWriter implements Serializable {
         if (meta.keys().length > 0) {
             response.put("meta", meta);
         }
+        return response;
+    }
 
-        JsonArray stateChanges = Json.createArray();
-        JsonObject templates = Json.createObject();
-
-        encodeChanges(ui, stateChanges, templates);
+    /**
+     * Populates the part of the response that can only be determined after all
+     * state tree changes have been encoded, i.e. dependencies, constants,
+     * templates and JavaScript invocations. Increments the server sync id as a
+     * side effect.
+     */
+    private void populateResponseTail(UI ui, JsonObject response,
+            JsonObject templates) {
+        UIInternals uiInternals = ui.getInternals();
 
-        populateDependencies(response, session,
+        populateDependencies(response, ui.getSession(),
                 uiInternals.getDependencyList());
 
         if (uiInternals.getConstantPool().hasNewConstants()) {
             response.put("constants",
                     uiInternals.getConstantPool().dumpConstants());
         }
-        if (stateChanges.length() != 0) {
-            response.put("changes", stateChanges);
-        }
         if (templates.keys().length > 0) {
             response.put("templates", templates);
         }
@@ -161,7 +306,6 @@ public class UidlWriter implements Serializable {
             response.put("timings", createPerformanceData(ui));
         }
         uiInternals.incrementServerId();
-        return response;
     }
 
     private static void populateDependencies(JsonObject response,
@@ -275,15 +419,32 @@ public class UidlWriter implements Serializable {
 
     private static JsonArray encodeExecuteJavaScript(
             JavaScriptInvocation executeJavaScript) {
+        JsonArray encoded = executeJavaScript.getEncoded();
+        if (encoded != null) {
+            return encoded;
+        }
+
         Stream<JsonValue> parametersStream = executeJavaScript.getParameters()
                 .stream().map(JsonCodec::encodeWithTypeInfo);
 
         // [argument1, argument2, ..., script]
-        return Stream
+        encoded = Stream
                 .concat(parametersStream,
                         Stream.of(
                                 Json.create(executeJavaScript.getExpression())))
                 .collect(JsonUtils.asArray());
+
+        // Node references are specific to the UI, everything else can be
+        // reused if the same invocation is sent to other UIs
+        if (executeJavaScript.getParameters().stream()
+                .noneMatch(UidlWriter::isNodeReference)) {
+            executeJavaScript.setEncoded(encoded);
+        }
+        return encoded;
+    }
+
+    private static boolean isNodeReference(Object parameter) {
+        return parameter instanceof Component || parameter instanceof Node<?>;
     }
 
     /**
@@ -294,19 +455,22 @@ public class UidlWriter implements Serializable {
      *
      * @param ui
      *            the UI
-     * @param stateChanges
-     *            a JSON array to put state changes into
+     * @param changeEncoder
+     *            a consumer accepting each state change encoded as JSON
      * @param templates
      *            a JSON object to put new template nodes into
      * @see StateTree#runExecutionsBeforeClientResponse()
      */
-    private void encodeChanges(UI ui, JsonArray stateChanges,
+    private void encodeChanges(UI ui, Consumer<JsonValue> changeEncoder,
             JsonObject templates) {
         UIInternals uiInternals = ui.getInternals();
         StateTree stateTree = uiInternals.getStateTree();
 
         stateTree.runExecutionsBeforeClientResponse();
 
+        boolean compactChanges = ui.getSession().getService()
+                .getDeploymentConfiguration().isCompactChangeEncodingEnabled();
+
         Consumer<TemplateNode> templateEncoder = new Consumer<TemplateNode>() {
             @Override
             public void accept(TemplateNode templateNode) {
@@ -332,8 +496,13 @@ public class UidlWriter implements Serializable {
             }
 
             // Encode the actual change
-            stateChanges.set(stateChanges.length(),
-                    change.toJson(uiInternals.getConstantPool()));
+            if (compactChanges) {
+                changeEncoder.accept(
+                        change.toCompactJson(uiInternals.getConstantPool()));
+            } else {
+                changeEncoder
+                        .accept(change.toJson(uiInternals.getConstantPool()));
+            }
         });
 
         componentsWithDependencies
@@ -15,12 +15,15 @@
  */
 package com.vaadin.server.communication.rpc;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -32,6 +35,7 @@ import com.vaadin.ui.polymertemplate.EventHandler;
 import com.vaadin.flow.JsonCodec;
 import com.vaadin.flow.StateNode;
 import com.vaadin.flow.nodefeature.ComponentMapping;
+import com.vaadin.flow.util.ReflectionCache;
 import com.vaadin.ui.polymertemplate.PolymerTemplate;
 import com.vaadin.flow.model.ModelType;
 import com.vaadin.shared.JsonConstants;
@@ -56,6 +60,70 @@ import elemental.json.JsonValue;
 public class PublishedServerEventHandlerRpcHandler
         extends AbstractRpcInvocationHandler {
 
+    private static final ReflectionCache<Object, Map<String, MethodInvoker>> DISPATCH_TABLES = new ReflectionCache<>(
+            PublishedServerEventHandlerRpcHandler::createDispatchTable);
+
+    /**
+     * An event handler method together with the reflection data needed to
+     * decode its arguments and a method handle for invoking it.
+     */
+    private static final class MethodInvoker {
+        /**
+         * Marker for a name shared by several event handler methods declared
+         * in the same class.
+         */
+        private static final MethodInvoker AMBIGUOUS = new MethodInvoker();
+
+        private final Method method;
+        private final MethodHandle handle;
+        private final Class<?>[] parameterTypes;
+        private final Type[] genericParameterTypes;
+        private final boolean isVarArgs;
+
+        private MethodInvoker() {
+            method = null;
+            handle = null;
+            parameterTypes = null;
+            genericParameterTypes = null;
+            isVarArgs = false;
+        }
+
+        private MethodInvoker(Method method) {
+            this.method = method;
+            parameterTypes = method.getParameterTypes();
+            genericParameterTypes = method.getGenericParameterTypes();
+            isVarArgs = method.isVarArgs();
+
+            method.setAccessible(true);
+            try {
+                MethodHandle methodHandle = MethodHandles.lookup()
+                        .unreflect(method).asFixedArity();
+                methodHandle = methodHandle.asType(methodHandle.type()
+                        .generic().changeReturnType(void.class));
+                if (Modifier.isStatic(method.getModifiers())) {
+                    methodHandle = MethodHandles.dropArguments(methodHandle, 0,
+                            Object.class);
+                }
+                // (Object, Object[])void so that it can be invoked exactly
+                handle = methodHandle.asSpreader(Object[].class,
+                        parameterTypes.length);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private void invoke(Component instance, Object[] args) {
+            try {
+                handle.invokeExact((Object) instance, args);
+            } catch (Throwable e) {
+                Logger.getLogger(
+                        PublishedServerEventHandlerRpcHandler.class.getName())
+                        .log(Level.FINE, null, e);
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
     @Override
     public String getRpcType() {
         return JsonConstants.RPC_PUBLISHED_SERVER_EVENT_HANDLER;
@@ -97,51 +165,58 @@ public class PublishedServerEventHandlerRpcHandler
     static void invokeMethod(Component instance, Class<?> clazz,
             String methodName, JsonArray args) {
         assert instance != null;
-        List<Method> methods = Stream.of(clazz.getDeclaredMethods())
-                .filter(method -> methodName.equals(method.getName()))
-                .filter(method -> method.isAnnotationPresent(EventHandler.class)
-                        || method.isAnnotationPresent(ClientDelegate.class))
-                .collect(Collectors.toList());
-        if (methods.size() > 1) {
+        MethodInvoker invoker = DISPATCH_TABLES.get(clazz).get(methodName);
+        if (invoker == null) {
             String msg = String.format(
-                    "Class '%s' contains "
-                            + "several event handler method with the same name '%s'",
+                    "Neither class '%s' "
+                            + "nor its super classes declare event handler method '%s'",
                     instance.getClass().getName(), methodName);
             throw new IllegalStateException(msg);
-        } else if (methods.size() == 1) {
-            invokeMethod(instance, methods.get(0), args);
-        } else if (!Component.class.equals(clazz)) {
-            invokeMethod(instance, clazz.getSuperclass(), methodName, args);
-        } else {
+        } else if (invoker.handle == null) {
             String msg = String.format(
-                    "Neither class '%s' "
-                            + "nor its super classes declare event handler method '%s'",
+                    "Class '%s' contains "
+                            + "several event handler method with the same name '%s'",
                     instance.getClass().getName(), methodName);
             throw new IllegalStateException(msg);
         }
+        invoker.invoke(instance, decodeArgs(instance, invoker, args));
     }
 
-    private static void invokeMethod(Component instance, Method method,
-            JsonArray args) {
-        try {
-            method.setAccessible(true);
-            method.invoke(instance, decodeArgs(instance, method, args));
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            Logger.getLogger(
-                    PublishedServerEventHandlerRpcHandler.class.getName())
-                    .log(Level.FINE, null, e);
-            throw new RuntimeException(e.getCause());
+    /**
+     * Collects the event handler methods of the given class and its super
+     * classes by name. A method in a sub class hides any method with the same
+     * name in its super classes.
+     */
+    private static Map<String, MethodInvoker> createDispatchTable(
+            Class<?> clazz) {
+        Map<String, MethodInvoker> table = new HashMap<>();
+        Class<?> type = clazz;
+        while (type != null) {
+            Map<String, List<Method>> methodsByName = Stream
+                    .of(type.getDeclaredMethods())
+                    .filter(method -> method
+                            .isAnnotationPresent(EventHandler.class)
+                            || method.isAnnotationPresent(ClientDelegate.class))
+                    .collect(Collectors.groupingBy(Method::getName));
+            methodsByName.forEach((name, methods) -> table.computeIfAbsent(
+                    name, key -> methods.size() == 1
+                            ? new MethodInvoker(methods.get(0))
+                            : MethodInvoker.AMBIGUOUS));
+            if (Component.class.equals(type)) {
+                break;
+            }
+            type = type.getSuperclass();
         }
+        return table;
     }
 
-    private static Object[] decodeArgs(Component instance, Method method,
-            JsonArray argsFromClient) {
-        int methodArgs = method.getParameterCount();
+    private static Object[] decodeArgs(Component instance,
+            MethodInvoker invoker, JsonArray argsFromClient) {
+        Method method = invoker.method;
+        int methodArgs = invoker.parameterTypes.length;
         int clientValuesCount = argsFromClient.length();
         JsonArray argValues;
-        if (method.isVarArgs()) {
+        if (invoker.isVarArgs) {
             if (clientValuesCount >= methodArgs - 1) {
                 argValues = unwrapVarArgs(argsFromClient, method);
             } else {
@@ -150,8 +225,7 @@ public class PublishedServerEventHandlerRpcHandler
                                 + "to call the method '%s' declared in '%s' which "
                                 + "has vararg parameter and the number of arguments %d",
                         argsFromClient.length(), method.getName(),
-                        method.getDeclaringClass().getName(),
-                        method.getParameterCount());
+                        method.getDeclaringClass().getName(), methodArgs);
                 throw new IllegalArgumentException(msg);
             }
         } else {
@@ -162,18 +236,17 @@ public class PublishedServerEventHandlerRpcHandler
                         "The number of received values (%d) is not equal "
                                 + "to the number of arguments (%d) in the method '%s' "
                                 + "declared in '%s'",
-                        argsFromClient.length(), method.getParameterCount(),
-                        method.getName(), method.getDeclaringClass().getName());
+                        argsFromClient.length(), methodArgs, method.getName(),
+                        method.getDeclaringClass().getName());
                 throw new IllegalArgumentException(msg);
             }
         }
-        List<Object> decoded = new ArrayList<>(method.getParameterCount());
-        Class<?>[] methodParameterTypes = method.getParameterTypes();
+        Object[] decoded = new Object[methodArgs];
         for (int i = 0; i < argValues.length(); i++) {
-            Class<?> type = methodParameterTypes[i];
-            decoded.add(decodeArg(instance, method, type, i, argValues.get(i)));
+            decoded[i] = decodeArg(instance, invoker, invoker.parameterTypes[i],
+                    i, argValues.get(i));
         }
-        return decoded.toArray(new Object[method.getParameterCount()]);
+        return decoded;
     }
 
     private static JsonArray unwrapVarArgs(JsonArray argsFromClient,
@@ -201,8 +274,10 @@ public class PublishedServerEventHandlerRpcHandler
         return result;
     }
 
-    private static Object decodeArg(Component instance, Method method,
-            Class<?> type, int index, JsonValue argValue) {
+    private static Object decodeArg(Component instance,
+            MethodInvoker invoker, Class<?> type, int index,
+            JsonValue argValue) {
+        Method method = invoker.method;
         // come up with method to know that it's an id and should be gotten from
         // the model
         assert argValue != null;
@@ -216,14 +291,14 @@ public class PublishedServerEventHandlerRpcHandler
                     method.getDeclaringClass().getName());
             throw new IllegalArgumentException(msg);
         } else if (type.isArray()) {
-            return decodeArray(method, type, index, argValue);
+            return decodeArray(invoker, type, index, argValue);
         } else {
             Class<?> convertedType = ReflectTools.convertPrimitiveType(type);
 
             if (isTemplateModelValue(instance, argValue, convertedType)) {
                 return getTemplateItem((PolymerTemplate<?>) instance,
                         (JsonObject) argValue,
-                        method.getGenericParameterTypes()[index]);
+                        invoker.genericParameterTypes[index]);
             }
 
             if (!JsonCodec.canEncodeWithoutTypeInfo(convertedType)) {
@@ -257,8 +332,9 @@ public class PublishedServerEventHandlerRpcHandler
         return propertyType.modelToApplication(node);
     }
 
-    private static Object decodeArray(Method method, Class<?> type, int index,
-            JsonValue argValue) {
+    private static Object decodeArray(MethodInvoker invoker, Class<?> type,
+            int index, JsonValue argValue) {
+        Method method = invoker.method;
         if (argValue.getType() != JsonType.ARRAY) {
             String msg = String.format(
                     "Class '%s' has the method '%s' "
@@ -272,8 +348,8 @@ public class PublishedServerEventHandlerRpcHandler
         JsonArray array = (JsonArray) argValue;
         Object result = Array.newInstance(componentType, array.length());
         for (int i = 0; i < array.length(); i++) {
-            Array.set(result, i, decodeArg(null, method, componentType, index,
-                    array.get(i)));
+            Array.set(result, i, decodeArg(null, invoker, componentType,
+                    index, array.get(i)));
         }
         return result;
     }
@@ -16,6 +16,7 @@
 package com.vaadin.server.startup;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import com.vaadin.server.InvalidCustomElementNameException;
@@ -47,6 +48,29 @@ public abstract class AbstractCustomElementRegistryInitializer {
         return customElements.computeTagToElementRelation();
     }
 
+    /**
+     * Filter custom element classes from the {@code classes} stream and combine
+     * them with the custom elements listed in the given startup index. The
+     * classes in the index have been validated when the index was generated.
+     *
+     * @param index
+     *            the startup index of the application, not <code>null</code>
+     * @param classes
+     *            potential component classes found in addition to the index
+     * @return a resulting map of the custom component classes
+     */
+    protected Map<String, Class<? extends Component>> filterCustomElements(
+            StartupIndex index, Stream<Class<?>> classes) {
+        Set<Class<? extends Component>> indexed = index.getCustomElements();
+        CustomElements customElements = new CustomElements();
+        indexed.forEach(clazz -> customElements
+                .addElement(clazz.getAnnotation(Tag.class).value(), clazz));
+        classes.filter(clazz -> !indexed.contains(clazz))
+                .filter(this::isApplicableClass)
+                .forEach(clazz -> processComponentClass(clazz, customElements));
+        return customElements.computeTagToElementRelation();
+    }
+
     private boolean isApplicableClass(Class<?> clazz) {
         return clazz.isAnnotationPresent(Tag.class)
                 && Component.class.isAssignableFrom(clazz)
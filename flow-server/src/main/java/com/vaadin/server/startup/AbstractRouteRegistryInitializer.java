@@ -15,6 +15,7 @@
  */
 package com.vaadin.server.startup;
 
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -50,6 +51,27 @@ public abstract class AbstractRouteRegistryInitializer {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Get the navigation targets listed in the given startup index together
+     * with the validated potential route classes that are not in the index.
+     * The classes in the index have been validated when the index was
+     * generated.
+     *
+     * @param index
+     *            the startup index of the application, not <code>null</code>
+     * @param routeClasses
+     *            potential route classes found in addition to the index
+     * @return a resulting set of the route component classes
+     */
+    protected Set<Class<? extends Component>> validateRouteClasses(
+            StartupIndex index, Stream<Class<?>> routeClasses) {
+        Set<Class<? extends Component>> indexed = index.getRoutes();
+        Set<Class<? extends Component>> routes = new HashSet<>(indexed);
+        routes.addAll(validateRouteClasses(
+                routeClasses.filter(clazz -> !indexed.contains(clazz))));
+        return routes;
+    }
+
     private boolean isApplicableClass(Class<?> clazz) {
         return clazz.isAnnotationPresent(Route.class)
                 && Component.class.isAssignableFrom(clazz);
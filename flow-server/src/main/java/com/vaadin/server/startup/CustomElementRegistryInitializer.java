@@ -15,9 +15,10 @@
  */
 package com.vaadin.server.startup;
 
-import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.servlet.ServletContainerInitializer;
 import javax.servlet.ServletContext;
@@ -42,11 +43,12 @@ public class CustomElementRegistryInitializer
         CustomElementRegistry elementRegistry = CustomElementRegistry
                 .getInstance();
 
-        Map<String, Class<? extends Component>> customElements = Collections
-                .emptyMap();
-        if (classSet != null) {
-            customElements = filterCustomElements(classSet.stream());
-        }
+        Optional<StartupIndex> index = StartupIndex.load(servletContext);
+        Stream<Class<?>> classes = classSet == null ? Stream.empty()
+                : classSet.stream();
+        Map<String, Class<? extends Component>> customElements = index
+                .isPresent() ? filterCustomElements(index.get(), classes)
+                        : filterCustomElements(classes);
 
         if (!elementRegistry.isInitialized()) {
             elementRegistry.setCustomElements(customElements);
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server.startup;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.vaadin.ui.Component;
+
+/**
+ * The result of finding a navigation target for a path using
+ * {@link RouteRegistry#findRoute(List)}.
+ *
+ * @author Vaadin Ltd
+ */
+public final class RouteMatch implements Serializable {
+    private final String route;
+    private final Class<? extends Component> target;
+    private final List<String> parameters;
+
+    RouteMatch(String route, Class<? extends Component> target,
+            List<String> parameters) {
+        this.route = route;
+        this.target = target;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Gets the registered route that matched the path.
+     *
+     * @return the matched route, not <code>null</code>
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * Gets the navigation target for the path.
+     *
+     * @return the navigation target, not <code>null</code>
+     */
+    public Class<? extends Component> getTarget() {
+        return target;
+    }
+
+    /**
+     * Gets the path segments following the matched route, to be used as URL
+     * parameters of the navigation target. Trailing empty segments, caused by
+     * trailing slashes in the path, are not included.
+     *
+     * @return an unmodifiable list of parameter segments, not
+     *         <code>null</code>
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+}
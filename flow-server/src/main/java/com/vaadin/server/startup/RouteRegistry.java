@@ -54,7 +54,8 @@ import com.vaadin.util.ReflectTools;
 public class RouteRegistry implements Serializable {
 
     private final AtomicReference<Map<String, RouteTarget>> routes = new AtomicReference<>();
-    private final AtomicReference<Map<Class<? extends Component>, String>> targetRoutes = new AtomicReference<>();
+    private final AtomicReference<RouteTrie> routeTrie = new AtomicReference<>();
+    private final AtomicReference<Map<Class<? extends Component>, String>> targetUrls = new AtomicReference<>();
     private final AtomicReference<Map<Class<?>, Class<? extends Component>>> exceptionTargets = new AtomicReference<>();
 
     /**
@@ -285,6 +286,34 @@ public class RouteRegistry implements Serializable {
         return Optional.empty();
     }
 
+    /**
+     * Finds the navigation target for the given path segments, along with the
+     * segments to pass to the target as URL parameters.
+     * <p>
+     * The longest registered route matching the beginning of the path is
+     * used, as long as it has a navigation target accepting the number of
+     * remaining segments. The registered routes are kept in a tree of path
+     * segments, so the lookup walks the given segments only once regardless
+     * of how many routes are registered.
+     *
+     * @see Location#getSegments()
+     *
+     * @param pathSegments
+     *            the path segments to find a navigation target for, not
+     *            {@code null}
+     * @return optional route match, or an empty optional if no registered
+     *         route matches the path
+     */
+    public Optional<RouteMatch> findRoute(List<String> pathSegments) {
+        Objects.requireNonNull(pathSegments, "pathSegments must not be null.");
+
+        RouteTrie trie = routeTrie.get();
+        if (trie == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(trie.find(pathSegments));
+    }
+
     /**
      * Checks if the registry contains a route to the given path.
      *
@@ -310,19 +339,24 @@ public class RouteRegistry implements Serializable {
     public Optional<String> getTargetUrl(
             Class<? extends Component> navigationTarget) {
         Objects.requireNonNull(navigationTarget, "Target must not be null.");
-        return Optional.ofNullable(collectRequiredParameters(navigationTarget));
+        Map<Class<? extends Component>, String> urls = targetUrls.get();
+        if (urls == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(urls.get(navigationTarget));
     }
 
     /**
      * Append any required parameters as /{param_class} to the route.
      *
+     * @param route
+     *            the route of the navigation target
      * @param navigationTarget
      *            navigation target to generate url for
      * @return route with required parameters
      */
-    private String collectRequiredParameters(
+    private static String collectRequiredParameters(String route,
             Class<? extends Component> navigationTarget) {
-        String route = targetRoutes.get().get(navigationTarget);
         if (HasUrlParameter.class.isAssignableFrom(navigationTarget)) {
             Class<?> genericInterfaceType = ReflectTools
                     .getGenericInterfaceType(navigationTarget,
@@ -426,10 +460,11 @@ public class RouteRegistry implements Serializable {
         Logger logger = Logger.getLogger(RouteRegistry.class.getName());
 
         Map<String, RouteTarget> routesMap = new HashMap<>();
-        Map<Class<? extends Component>, String> targetRoutesMap = new HashMap<>();
+        Map<Class<? extends Component>, String> targetUrlsMap = new HashMap<>();
         for (Class<? extends Component> navigationTarget : navigationTargets) {
             String route = getNavigationRoute(navigationTarget);
-            targetRoutesMap.put(navigationTarget, route);
+            targetUrlsMap.put(navigationTarget,
+                    collectRequiredParameters(route, navigationTarget));
             if (routesMap.containsKey(route)) {
                 routesMap.get(route).addRoute(navigationTarget);
             } else {
@@ -441,13 +476,19 @@ public class RouteRegistry implements Serializable {
                 routesMap.put(route, new RouteTarget(navigationTarget));
             }
         }
+        RouteTrie trie = new RouteTrie();
+        routesMap.forEach(trie::add);
+        if (!routeTrie.compareAndSet(null, trie)) {
+            throw new IllegalStateException(
+                    "Route registry has been already initialized");
+        }
         if (!routes.compareAndSet(null,
                 Collections.unmodifiableMap(routesMap))) {
             throw new IllegalStateException(
                     "Route registry has been already initialized");
         }
-        if (!targetRoutes.compareAndSet(null,
-                Collections.unmodifiableMap(targetRoutesMap))) {
+        if (!targetUrls.compareAndSet(null,
+                Collections.unmodifiableMap(targetUrlsMap))) {
             throw new IllegalStateException(
                     "Route registry has been already initialized");
         }
@@ -19,8 +19,9 @@ import javax.servlet.ServletContainerInitializer;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.HandlesTypes;
-import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import com.vaadin.router.Route;
 import com.vaadin.server.InvalidRouteConfigurationException;
@@ -38,13 +39,12 @@ public class RouteRegistryInitializer extends AbstractRouteRegistryInitializer
     public void onStartup(Set<Class<?>> classSet, ServletContext servletContext)
             throws ServletException {
         try {
-            if (classSet == null) {
-                RouteRegistry.getInstance(servletContext)
-                        .setNavigationTargets(Collections.emptySet());
-                return;
-            }
-            Set<Class<? extends Component>> routes = validateRouteClasses(
-                    classSet.stream());
+            Optional<StartupIndex> index = StartupIndex.load(servletContext);
+            Stream<Class<?>> classes = classSet == null ? Stream.empty()
+                    : classSet.stream();
+            Set<Class<? extends Component>> routes = index.isPresent()
+                    ? validateRouteClasses(index.get(), classes)
+                    : validateRouteClasses(classes);
 
             RouteRegistry.getInstance(servletContext)
                     .setNavigationTargets(routes);
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server.startup;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import com.vaadin.ui.Component;
+
+/**
+ * Registered routes arranged as a tree of path segments, so that the navigation
+ * target for a path can be found by walking the segments of the path once.
+ * <p>
+ * Instances are built once when the routes are registered and not modified
+ * after that, so they can be shared between threads.
+ *
+ * @author Vaadin Ltd
+ */
+final class RouteTrie implements Serializable {
+
+    private static final class Node implements Serializable {
+        // null if there are no child segments
+        private HashMap<String, Node> children;
+        private String route;
+        private RouteTarget routeTarget;
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * Adds a route to this trie.
+     *
+     * @param route
+     *            the route, segments separated by <code>/</code>, not
+     *            <code>null</code>
+     * @param routeTarget
+     *            the targets registered for the route, not <code>null</code>
+     */
+    void add(String route, RouteTarget routeTarget) {
+        Node node = root;
+        if (!route.isEmpty()) {
+            for (String segment : route.split("/", -1)) {
+                if (node.children == null) {
+                    node.children = new HashMap<>();
+                }
+                node = node.children.computeIfAbsent(segment,
+                        key -> new Node());
+            }
+        }
+        node.route = route;
+        node.routeTarget = routeTarget;
+    }
+
+    /**
+     * Finds the longest route matching the beginning of the given path
+     * segments that has a navigation target accepting the remaining segments
+     * as parameters.
+     *
+     * @param segments
+     *            the path segments, not <code>null</code>
+     * @return the match, or <code>null</code> if no route matches
+     */
+    RouteMatch find(List<String> segments) {
+        int size = segments.size();
+        if (size == 0) {
+            return null;
+        }
+
+        // Trailing empty segments, i.e. a trailing slash, aren't parameters
+        int parametersEnd = size;
+        while (parametersEnd > 0
+                && segments.get(parametersEnd - 1).isEmpty()) {
+            parametersEnd--;
+        }
+
+        Node match = null;
+        Class<? extends Component> matchTarget = null;
+        int matchEnd = 0;
+
+        // The root route also covers an empty first segment
+        int rootEnd = segments.get(0).isEmpty() ? 1 : 0;
+        if (root.routeTarget != null) {
+            matchTarget = root.routeTarget
+                    .getTarget(getParameterCount(rootEnd, parametersEnd));
+            if (matchTarget != null) {
+                match = root;
+                matchEnd = rootEnd;
+            }
+        }
+
+        // Deeper matches take precedence
+        Node node = root;
+        for (int i = 0; i < size && node.children != null; i++) {
+            node = node.children.get(segments.get(i));
+            if (node == null) {
+                break;
+            }
+            if (node.routeTarget != null) {
+                Class<? extends Component> target = node.routeTarget
+                        .getTarget(getParameterCount(i + 1, parametersEnd));
+                if (target != null) {
+                    match = node;
+                    matchTarget = target;
+                    matchEnd = i + 1;
+                }
+            }
+        }
+
+        if (match == null) {
+            return null;
+        }
+
+        // Copy, since a sub list view isn't serializable
+        List<String> parameters = new ArrayList<>(segments.subList(matchEnd,
+                matchEnd + getParameterCount(matchEnd, parametersEnd)));
+        return new RouteMatch(match.route, matchTarget,
+                Collections.unmodifiableList(parameters));
+    }
+
+    private static int getParameterCount(int routeEnd, int parametersEnd) {
+        return Math.max(0, parametersEnd - routeEnd);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server.startup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.servlet.ServletContext;
+
+import com.vaadin.router.Route;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.Tag;
+
+/**
+ * Navigation targets and custom elements listed in an index generated by
+ * {@link StartupIndexProcessor} when compiling the application.
+ * <p>
+ * The classes in the index have already been validated when the index was
+ * generated, so they can be registered without inspecting them using
+ * reflection. The index also makes it possible to disable the classpath
+ * scanning of the servlet container for the application, in which case the
+ * initializers only get the classes from the index.
+ * <p>
+ * Which JAR files the servlet container scans for the classes handled by the
+ * initializers is configured per container. For example, Tomcat limits the
+ * scan with the <code>pluggabilitySkip</code> and
+ * <code>pluggabilityScan</code> attributes of the
+ * <code>&lt;JarScanFilter&gt;</code> element in <code>context.xml</code>, and
+ * Jetty with the
+ * <code>org.eclipse.jetty.server.webapp.WebInfIncludeJarPattern</code> context
+ * attribute. With Spring Boot, setting the <code>vaadin.startupIndexOnly</code>
+ * property to <code>true</code> skips the Spring classpath scanning for the
+ * indexed classes.
+ *
+ * @author Vaadin Ltd
+ */
+public final class StartupIndex implements Serializable {
+
+    /**
+     * The resource listing the binary names of {@link Route} classes, one per
+     * line.
+     */
+    public static final String ROUTES_RESOURCE = "META-INF/vaadin/startup-index/routes";
+
+    /**
+     * The resource listing the binary names of {@link Tag} annotated
+     * templates registered as custom elements, one per line.
+     */
+    public static final String CUSTOM_ELEMENTS_RESOURCE = "META-INF/vaadin/startup-index/custom-elements";
+
+    private final Set<Class<? extends Component>> routes;
+    private final Set<Class<? extends Component>> customElements;
+
+    private StartupIndex(Set<Class<? extends Component>> routes,
+            Set<Class<? extends Component>> customElements) {
+        this.routes = routes;
+        this.customElements = customElements;
+    }
+
+    /**
+     * Loads the index using the class loader of the given servlet context, or
+     * the class loader of this class if the servlet context has no class
+     * loader.
+     *
+     * @param servletContext
+     *            the servlet context to load the index for, or
+     *            <code>null</code> to use the class loader of this class
+     * @return the index, or an empty optional if there are no index resources
+     * @throws UncheckedIOException
+     *             if reading an index resource fails
+     */
+    public static Optional<StartupIndex> load(ServletContext servletContext) {
+        ClassLoader classLoader = null;
+        if (servletContext != null) {
+            classLoader = servletContext.getClassLoader();
+        }
+        if (classLoader == null) {
+            classLoader = StartupIndex.class.getClassLoader();
+        }
+        return load(classLoader);
+    }
+
+    /**
+     * Loads the index from all the index resources available through the
+     * given class loader.
+     *
+     * @param classLoader
+     *            the class loader to find the index resources and the indexed
+     *            classes with, not <code>null</code>
+     * @return the index, or an empty optional if there are no index resources
+     * @throws UncheckedIOException
+     *             if reading an index resource fails
+     */
+    public static Optional<StartupIndex> load(ClassLoader classLoader) {
+        Set<String> routeNames = readClassNames(classLoader, ROUTES_RESOURCE);
+        Set<String> customElementNames = readClassNames(classLoader,
+                CUSTOM_ELEMENTS_RESOURCE);
+        if (routeNames == null && customElementNames == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new StartupIndex(loadClasses(classLoader, routeNames),
+                loadClasses(classLoader, customElementNames)));
+    }
+
+    /**
+     * Gets the indexed navigation targets.
+     *
+     * @return an unmodifiable set of navigation target classes, not
+     *         <code>null</code>
+     */
+    public Set<Class<? extends Component>> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * Gets the indexed custom element classes.
+     *
+     * @return an unmodifiable set of custom element classes, not
+     *         <code>null</code>
+     */
+    public Set<Class<? extends Component>> getCustomElements() {
+        return customElements;
+    }
+
+    private static Set<String> readClassNames(ClassLoader classLoader,
+            String resourceName) {
+        try {
+            Enumeration<URL> resources = classLoader
+                    .getResources(resourceName);
+            if (!resources.hasMoreElements()) {
+                return null;
+            }
+            Set<String> names = new LinkedHashSet<>();
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(resource.openStream(),
+                                StandardCharsets.UTF_8))) {
+                    reader.lines().map(String::trim)
+                            .filter(line -> !line.isEmpty()
+                                    && !line.startsWith("#"))
+                            .forEach(names::add);
+                }
+            }
+            return names;
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to read startup index " + resourceName, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Class<? extends Component>> loadClasses(
+            ClassLoader classLoader, Set<String> names) {
+        if (names == null) {
+            return Collections.emptySet();
+        }
+        Set<Class<? extends Component>> classes = new LinkedHashSet<>();
+        for (String name : names) {
+            try {
+                classes.add((Class<? extends Component>) Class.forName(name,
+                        false, classLoader));
+            } catch (ClassNotFoundException e) {
+                getLogger().warning(() -> String.format(
+                        "Ignoring class '%s' listed in the startup index but not found. "
+                                + "The index may be out of date, rebuild the application to update it.",
+                        name));
+            }
+        }
+        return Collections.unmodifiableSet(classes);
+    }
+
+    private static Logger getLogger() {
+        return Logger.getLogger(StartupIndex.class.getName());
+    }
+}
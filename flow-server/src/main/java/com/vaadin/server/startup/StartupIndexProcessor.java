@@ -0,0 +1,225 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server.startup;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.vaadin.router.HasDynamicTitle;
+import com.vaadin.router.PageTitle;
+import com.vaadin.router.ParentLayout;
+import com.vaadin.router.Route;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.Tag;
+import com.vaadin.ui.polymertemplate.PolymerTemplate;
+import com.vaadin.util.CustomElementNameValidator;
+
+/**
+ * Annotation processor generating a {@link StartupIndex} of the navigation
+ * targets and custom elements of the compiled classes.
+ * <p>
+ * The classes are validated in the same way as when registering them at
+ * runtime, and problems are reported as compilation errors.
+ * <p>
+ * The processor is not registered as a service, so it needs to be enabled
+ * explicitly, e.g. by listing
+ * <code>com.vaadin.server.startup.StartupIndexProcessor</code> in the
+ * <code>annotationProcessors</code> configuration of
+ * <code>maven-compiler-plugin</code>. When compiling only some of the classes,
+ * entries for the other classes are kept from the previously generated index.
+ *
+ * @author Vaadin Ltd
+ */
+public class StartupIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> routes = new TreeSet<>();
+    private final Set<String> customElements = new TreeSet<>();
+    private final Set<String> compiledTypes = new HashSet<>();
+
+    /*
+     * All types are needed to notice that a previously indexed class is no
+     * longer annotated.
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations,
+            RoundEnvironment roundEnv) {
+        roundEnv.getRootElements().stream()
+                .filter(element -> element instanceof TypeElement)
+                .forEach(element -> compiledTypes.add(
+                        getBinaryName((TypeElement) element)));
+
+        if (roundEnv.processingOver()) {
+            writeIndex(StartupIndex.ROUTES_RESOURCE, routes);
+            writeIndex(StartupIndex.CUSTOM_ELEMENTS_RESOURCE, customElements);
+            return false;
+        }
+
+        TypeMirror component = getType(Component.class);
+        for (Element element : roundEnv.getElementsAnnotatedWith(Route.class)) {
+            if (isClass(element) && isSubtype(element, component)) {
+                validateRoute((TypeElement) element);
+                routes.add(getBinaryName((TypeElement) element));
+            }
+        }
+
+        TypeMirror polymerTemplate = getType(PolymerTemplate.class);
+        for (Element element : roundEnv.getElementsAnnotatedWith(Tag.class)) {
+            if (isClass(element) && isSubtype(element, polymerTemplate)) {
+                validateCustomElement((TypeElement) element);
+                customElements.add(getBinaryName((TypeElement) element));
+            }
+        }
+        return false;
+    }
+
+    private void validateRoute(TypeElement route) {
+        if (route.getAnnotation(ParentLayout.class) != null) {
+            error(route, route.getQualifiedName()
+                    + " contains both @Route and @ParentLayout annotation. Only use @Route with Route.layout.");
+        }
+        if (route.getAnnotation(PageTitle.class) != null
+                && isSubtype(route, getType(HasDynamicTitle.class))) {
+            error(route, String.format(
+                    "'%s' has a PageTitle annotation, but also implements HasDynamicTitle.",
+                    route.getQualifiedName()));
+        }
+    }
+
+    private void validateCustomElement(TypeElement element) {
+        String tagName = element.getAnnotation(Tag.class).value();
+        if (!CustomElementNameValidator.isCustomElementName(tagName)) {
+            error(element, String.format(
+                    "Tag name '%s' for '%s' is not a valid custom element name.",
+                    tagName, element.getQualifiedName()));
+        }
+    }
+
+    private void writeIndex(String resourceName, Set<String> classNames) {
+        Set<String> entries = new TreeSet<>(classNames);
+        entries.addAll(readPreviousEntries(resourceName));
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT, "", resourceName);
+            try (Writer writer = new OutputStreamWriter(
+                    resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR,
+                    "Unable to write startup index " + resourceName + ": "
+                            + e);
+        }
+    }
+
+    /*
+     * Entries for classes that are not compiled now and still exist. Entries
+     * for compiled classes are added again if still applicable.
+     */
+    private Set<String> readPreviousEntries(String resourceName) {
+        Set<String> entries = new TreeSet<>();
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(
+                    StandardLocation.CLASS_OUTPUT, "", resourceName);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.openInputStream(),
+                            StandardCharsets.UTF_8))) {
+                reader.lines().map(String::trim)
+                        .filter(line -> !line.isEmpty()
+                                && !isCompiled(line) && exists(line))
+                        .forEach(entries::add);
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            // No previous index
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.WARNING,
+                    "Unable to read previous startup index " + resourceName
+                            + ", generating a new one: " + e);
+        }
+        return entries;
+    }
+
+    private boolean isCompiled(String binaryName) {
+        int nestedStart = binaryName.indexOf('$');
+        return compiledTypes.contains(nestedStart == -1 ? binaryName
+                : binaryName.substring(0, nestedStart));
+    }
+
+    private boolean exists(String binaryName) {
+        return processingEnv.getElementUtils()
+                .getTypeElement(binaryName.replace('$', '.')) != null;
+    }
+
+    private static boolean isClass(Element element) {
+        return element.getKind() == ElementKind.CLASS;
+    }
+
+    private boolean isSubtype(Element element, TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        return type != null && types.isSubtype(
+                types.erasure(element.asType()), types.erasure(type));
+    }
+
+    private TypeMirror getType(Class<?> type) {
+        TypeElement element = processingEnv.getElementUtils()
+                .getTypeElement(type.getCanonicalName());
+        return element == null ? null : element.asType();
+    }
+
+    private String getBinaryName(TypeElement element) {
+        Elements elements = processingEnv.getElementUtils();
+        return elements.getBinaryName(element).toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+    }
+}
@@ -52,7 +52,7 @@ import elemental.json.Json;
 public class WebJarServer implements Serializable {
     private final transient WebJarAssetLocator locator = new WebJarAssetLocator();
     private final transient Map<String, WebJarBowerDependency> bowerModuleToDependencyName = new HashMap<>();
-    private final ResponseWriter responseWriter = new ResponseWriter();
+    private final ResponseWriter responseWriter;
 
     private final String prefix;
 
@@ -67,6 +67,8 @@ public class WebJarServer implements Serializable {
     public WebJarServer(DeploymentConfiguration deploymentConfiguration) {
         assert deploymentConfiguration != null;
 
+        responseWriter = new ResponseWriter(deploymentConfiguration);
+
         String frontendPrefix = deploymentConfiguration
                 .getDevelopmentFrontendPrefix();
         if (!frontendPrefix.endsWith("/")) {
@@ -117,6 +117,62 @@ public class JsonConstants implements Serializable {
      */
     public static final String CHANGE_PUT_NODE_VALUE = "nodeValue";
 
+    /**
+     * Compact change type for attaching nodes. A compact change is a JSON
+     * array with the change type at index 0 and the node id at index 1,
+     * followed by change type specific values.
+     */
+    public static final int COMPACT_CHANGE_TYPE_ATTACH = 0;
+
+    /**
+     * Compact change type for detaching nodes.
+     */
+    public static final int COMPACT_CHANGE_TYPE_DETACH = 1;
+
+    /**
+     * Compact change type for empty changes, followed by the feature id and a
+     * boolean telling whether the feature is a list.
+     */
+    public static final int COMPACT_CHANGE_TYPE_NOOP = 2;
+
+    /**
+     * Compact change type for map put changes, followed by the feature id, the
+     * map key and the value. In all compact changes, the map key is either a
+     * string or a number referring to a string in the constant pool.
+     */
+    public static final int COMPACT_CHANGE_TYPE_PUT = 3;
+
+    /**
+     * Compact change type for map put changes with a node value, followed by
+     * the feature id, the map key and the id of the value node.
+     */
+    public static final int COMPACT_CHANGE_TYPE_PUT_NODE = 4;
+
+    /**
+     * Compact change type for map remove changes, followed by the feature id
+     * and the map key.
+     */
+    public static final int COMPACT_CHANGE_TYPE_REMOVE = 5;
+
+    /**
+     * Compact change type for list splice changes that only remove items,
+     * followed by the feature id, the splice index and the number of removed
+     * items.
+     */
+    public static final int COMPACT_CHANGE_TYPE_SPLICE_REMOVE = 6;
+
+    /**
+     * Compact change type for list splice changes adding values, followed by
+     * the feature id, the splice index and an array of added values.
+     */
+    public static final int COMPACT_CHANGE_TYPE_SPLICE_ADD = 7;
+
+    /**
+     * Compact change type for list splice changes adding nodes, followed by the
+     * feature id, the splice index and an array of added node ids.
+     */
+    public static final int COMPACT_CHANGE_TYPE_SPLICE_ADD_NODES = 8;
+
     /**
      * Key holding the type in of messages sent from the client.
      */
@@ -265,4 +321,22 @@ public class JsonConstants implements Serializable {
      * Key used for storing child template nodes.
      */
     public static final String CHILD_TEMPLATE_KEY = "children";
+
+    /**
+     * Identifier of the debounce phase that sends the first event of a burst
+     * immediately.
+     */
+    public static final String EVENT_DEBOUNCE_LEADING = "leading";
+
+    /**
+     * Identifier of the debounce phase that periodically sends the latest
+     * event while a burst is ongoing.
+     */
+    public static final String EVENT_DEBOUNCE_INTERMEDIATE = "intermediate";
+
+    /**
+     * Identifier of the debounce phase that sends the latest event when a
+     * burst has ended.
+     */
+    public static final String EVENT_DEBOUNCE_TRAILING = "trailing";
 }
@@ -161,6 +161,47 @@ public interface PushConfiguration extends Serializable {
      */
     String getPushUrl();
 
+    /**
+     * Sets the minimum interval between two asynchronous pushes to the client.
+     * <p>
+     * When set to a positive value, a push that happens sooner than the given
+     * number of milliseconds after the previous one is postponed. Changes
+     * made during the interval are collected and sent together in one trailing
+     * push when the interval has passed. This makes it possible to update a UI
+     * from a high frequency source of data, such as a stream of measurements,
+     * without sending a separate message for every update, at the cost of
+     * delaying the updates by at most the given interval.
+     * <p>
+     * Responses to requests made by the client are never postponed. Zero (the
+     * default) disables the limitation.
+     * <p>
+     * The default implementation does not postpone pushes and ignores the
+     * value, so that {@link #getMinPushInterval()} keeps returning zero.
+     *
+     * @param minPushInterval
+     *            the minimum interval between pushes in milliseconds, not
+     *            negative
+     */
+    default void setMinPushInterval(int minPushInterval) {
+        if (minPushInterval < 0) {
+            throw new IllegalArgumentException(
+                    "Minimum push interval cannot be negative");
+        }
+    }
+
+    /**
+     * Returns the minimum interval between two asynchronous pushes to the
+     * client.
+     *
+     * @see #setMinPushInterval(int)
+     *
+     * @return the minimum interval between pushes in milliseconds, or zero if
+     *         the push frequency is not limited
+     */
+    default int getMinPushInterval() {
+        return 0;
+    }
+
 }
 
 /**
@@ -270,4 +311,14 @@ class PushConfigurationImpl implements PushConfiguration {
         return getPushConfigurationMap().getParameterNames();
     }
 
+    @Override
+    public void setMinPushInterval(int minPushInterval) {
+        getPushConfigurationMap().setMinPushInterval(minPushInterval);
+    }
+
+    @Override
+    public int getMinPushInterval() {
+        return getPushConfigurationMap().getMinPushInterval();
+    }
+
 }
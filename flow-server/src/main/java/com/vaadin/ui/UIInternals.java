@@ -39,6 +39,7 @@ import com.vaadin.flow.router.HasChildView;
 import com.vaadin.flow.router.View;
 import com.vaadin.flow.template.angular.TemplateNode;
 import com.vaadin.router.Location;
+import com.vaadin.router.RouteTargetCache;
 import com.vaadin.router.RouterLayout;
 import com.vaadin.server.VaadinService;
 import com.vaadin.server.VaadinSession;
@@ -52,6 +53,8 @@ import com.vaadin.ui.common.HtmlImport;
 import com.vaadin.ui.common.JavaScript;
 import com.vaadin.ui.common.StyleSheet;
 
+import elemental.json.JsonArray;
+
 /**
  * Holds UI-specific methods and data which are intended for internal use by the
  * framework.
@@ -67,6 +70,7 @@ public class UIInternals implements Serializable {
     public static class JavaScriptInvocation implements Serializable {
         private final String expression;
         private final List<Serializable> parameters = new ArrayList<>();
+        private transient volatile JsonArray encoded;
 
         /**
          * Creates a new invocation.
@@ -102,6 +106,31 @@ public class UIInternals implements Serializable {
             return Collections.unmodifiableList(parameters);
         }
 
+        /**
+         * Gets the JSON encoding of this invocation, if it has been stored
+         * using {@link #setEncoded(JsonArray)}. An invocation which doesn't
+         * refer to any element is encoded the same way for every UI, so the
+         * encoding can be reused when the same invocation is sent to several
+         * UIs.
+         *
+         * @return the stored JSON encoding, or <code>null</code> if not
+         *         available
+         */
+        public JsonArray getEncoded() {
+            return encoded;
+        }
+
+        /**
+         * Stores the JSON encoding of this invocation for reuse. The encoding
+         * must not be modified after it has been stored.
+         *
+         * @param encoded
+         *            the JSON encoding of this invocation
+         */
+        public void setEncoded(JsonArray encoded) {
+            this.encoded = encoded;
+        }
+
     }
 
     /**
@@ -137,6 +166,7 @@ public class UIInternals implements Serializable {
     private Location viewLocation = new Location("");
     private ArrayList<View> viewChain = new ArrayList<>();
     private ArrayList<HasElement> routerTargetChain = new ArrayList<>();
+    private final RouteTargetCache routeTargetCache = new RouteTargetCache();
 
     private final Set<Integer> sentTemplateIds = new HashSet<>();
 
@@ -645,6 +675,16 @@ public class UIInternals implements Serializable {
         return Collections.unmodifiableList(routerTargetChain);
     }
 
+    /**
+     * Gets the cache of route targets and router layouts that have been
+     * detached from the UI but are kept for reuse.
+     *
+     * @return the route target cache, not <code>null</code>
+     */
+    public RouteTargetCache getRouteTargetCache() {
+        return routeTargetCache;
+    }
+
     /**
      * Gets the location of the currently shown view. The location is relative
      * the the servlet mapping used for serving the related UI.
@@ -19,13 +19,16 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 
 import com.vaadin.flow.JsonCodec;
+import com.vaadin.flow.dom.DebouncePhase;
 import com.vaadin.flow.dom.DomEvent;
 import com.vaadin.flow.dom.DomEventListener;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.shared.Registration;
 import com.vaadin.ui.Component;
@@ -175,13 +178,21 @@ public class ComponentEventBus implements Serializable {
 
         // This needs to be an anonymous class and not a lambda because of
         // https://github.com/vaadin/flow/issues/575
-        Registration remover = element.addEventListener(domEventType,
-                new DomEventListener() {
+        DomListenerRegistration remover = element.addEventListener(
+                domEventType, new DomEventListener() {
             @Override
             public void handleEvent(DomEvent e) {
                 handleDomEvent(eventType, e);
             }
         }, eventData);
+
+        DebounceSettings debounce = eventType
+                .getAnnotation(com.vaadin.ui.event.DomEvent.class).debounce();
+        DebouncePhase[] phases = debounce.phases();
+        if (debounce.timeout() > 0 && phases.length > 0) {
+            remover.debounce(debounce.timeout(), phases[0],
+                    Arrays.copyOfRange(phases, 1, phases.length));
+        }
         componentEventData.computeIfAbsent(eventType,
                 t -> new ComponentEventData()).domEventRemover = remover;
     }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.ui.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.vaadin.flow.dom.DebouncePhase;
+import com.vaadin.flow.dom.DomListenerRegistration;
+
+/**
+ * Debounce settings for a DOM event mapped to a component event using
+ * {@link DomEvent#debounce()}.
+ *
+ * @see DomListenerRegistration#debounce(int, DebouncePhase, DebouncePhase...)
+ * @author Vaadin Ltd
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({})
+@Documented
+public @interface DebounceSettings {
+    /**
+     * The debounce timeout in milliseconds, or 0 to send every event to the
+     * server immediately.
+     *
+     * @return the debounce timeout
+     */
+    int timeout();
+
+    /**
+     * The phases in which the event should be sent to the server.
+     *
+     * @return the debounce phases
+     */
+    DebouncePhase[] phases() default DebouncePhase.TRAILING;
+}
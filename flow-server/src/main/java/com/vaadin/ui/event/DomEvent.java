@@ -60,4 +60,12 @@ public @interface DomEvent {
      * @return the name of the DOM event
      */
     String value();
+
+    /**
+     * The debounce settings for the DOM event. By default, every event is sent
+     * to the server immediately.
+     *
+     * @return the debounce settings
+     */
+    DebounceSettings debounce() default @DebounceSettings(timeout = 0);
 }
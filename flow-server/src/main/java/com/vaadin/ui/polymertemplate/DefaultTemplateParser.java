@@ -15,12 +15,18 @@
  */
 package com.vaadin.ui.polymertemplate;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,6 +41,7 @@ import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 
 import com.vaadin.flow.util.ReflectionCache;
+import com.vaadin.function.DeploymentConfiguration;
 import com.vaadin.server.DependencyFilter;
 import com.vaadin.server.DependencyFilter.FilterContext;
 import com.vaadin.server.VaadinRequest;
@@ -53,6 +60,15 @@ import com.vaadin.util.AnnotationReader;
  * The implementation scans all HTML imports annotations for the given template
  * class and tries to find the one that contains template definition using the
  * tag name.
+ * <p>
+ * Parsed templates are cached per template class, tag name and the resolved
+ * paths of the HTML imports remaining after applying the
+ * {@link DependencyFilter}s, so that browsers getting different builds of the
+ * templates don't share cache entries. In
+ * production mode a cached template is reused as is. In development mode a
+ * cached template is only reused if none of the template files read while
+ * looking it up have been modified since, so that changes to template files
+ * are picked up without a restart.
  *
  * @see TemplateParser
  *
@@ -63,6 +79,35 @@ public class DefaultTemplateParser implements TemplateParser {
     private static final ReflectionCache<PolymerTemplate<?>, AtomicBoolean> LOG_CACHE = new ReflectionCache<>(
             clazz -> new AtomicBoolean());
 
+    private static final ReflectionCache<PolymerTemplate<?>, Map<List<String>, CachedTemplate>> TEMPLATE_CACHE = new ReflectionCache<>(
+            clazz -> new ConcurrentHashMap<>());
+
+    /**
+     * A parsed template together with the template files that were read to
+     * find it.
+     */
+    private static class CachedTemplate {
+        private final Element domModule;
+        private final List<String> paths;
+        private final long[] lastModified;
+
+        private CachedTemplate(Element domModule, List<String> paths,
+                long[] lastModified) {
+            this.domModule = domModule;
+            this.paths = paths;
+            this.lastModified = lastModified;
+        }
+
+        private boolean isUpToDate(ServletContext context) {
+            for (int i = 0; i < paths.size(); i++) {
+                if (getLastModified(context, paths.get(i)) != lastModified[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @Override
     public Element getTemplateContent(Class<? extends PolymerTemplate<?>> clazz,
             String tag) {
@@ -89,13 +134,31 @@ public class DefaultTemplateParser implements TemplateParser {
                     filterContext);
         }
 
+        // The key uses the resolved paths since they depend on the browser
+        List<String> urls = new ArrayList<>();
+        List<String> cacheKey = new ArrayList<>();
+        cacheKey.add(tag);
         for (Dependency dependency : dependencies) {
-            if (dependency.getType() != Type.HTML_IMPORT) {
-                continue;
+            if (dependency.getType() == Type.HTML_IMPORT) {
+                urls.add(dependency.getUrl());
+                cacheKey.add(resolvePath(request, dependency.getUrl()));
             }
+        }
 
-            String url = dependency.getUrl();
-            String path = resolvePath(request, url);
+        boolean productionMode = isProductionMode();
+        Map<List<String>, CachedTemplate> classCache = TEMPLATE_CACHE
+                .get(clazz);
+        CachedTemplate cached = classCache.get(cacheKey);
+        if (cached != null
+                && (productionMode || cached.isUpToDate(context))) {
+            return cached.domModule.clone();
+        }
+
+        List<String> readPaths = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String url = urls.get(i);
+            String path = cacheKey.get(i + 1);
+            readPaths.add(path);
 
             log(logEnabled, Level.CONFIG, String.format(
                     "Html import path '%s' is resolved to '%s'", url, path));
@@ -111,8 +174,9 @@ public class DefaultTemplateParser implements TemplateParser {
                             "Found a template file containing template "
                                     + "definition for the tag '%s' by the path '%s'",
                             tag, url));
+                    cacheTemplate(classCache, cacheKey, templateElement,
+                            readPaths, productionMode, context);
                     return templateElement;
-
                 }
             } catch (IOException exception) {
                 // ignore exception on close()
@@ -130,6 +194,54 @@ public class DefaultTemplateParser implements TemplateParser {
                 HtmlImport.class.getSimpleName()));
     }
 
+    private static void cacheTemplate(
+            Map<List<String>, CachedTemplate> classCache,
+            List<String> cacheKey, Element templateElement,
+            List<String> readPaths, boolean productionMode,
+            ServletContext context) {
+        long[] lastModified = new long[readPaths.size()];
+        if (!productionMode) {
+            for (int i = 0; i < lastModified.length; i++) {
+                lastModified[i] = getLastModified(context, readPaths.get(i));
+                if (lastModified[i] == 0) {
+                    // Changes can't be detected, so don't cache at all
+                    return;
+                }
+            }
+        }
+        // Store a copy so that modifications by the caller don't leak
+        classCache.put(cacheKey, new CachedTemplate(templateElement.clone(),
+                readPaths, lastModified));
+    }
+
+    private static long getLastModified(ServletContext context, String path) {
+        try {
+            URL resource = context.getResource(path);
+            if (resource == null) {
+                return 0;
+            }
+            if ("file".equals(resource.getProtocol())) {
+                return new File(resource.toURI()).lastModified();
+            }
+            URLConnection connection = resource.openConnection();
+            try {
+                return connection.getLastModified();
+            } finally {
+                // Reading the headers connects, which opens the resource
+                connection.getInputStream().close();
+            }
+        } catch (IOException | URISyntaxException
+                | IllegalArgumentException exception) {
+            return 0;
+        }
+    }
+
+    private static boolean isProductionMode() {
+        DeploymentConfiguration configuration = VaadinService.getCurrent()
+                .getDeploymentConfiguration();
+        return configuration != null && configuration.isProductionMode();
+    }
+
     private static String resolvePath(VaadinRequest request, String path) {
         VaadinUriResolverFactory uriResolverFactory = VaadinSession.getCurrent()
                 .getAttribute(VaadinUriResolverFactory.class);
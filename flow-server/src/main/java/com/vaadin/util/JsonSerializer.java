@@ -16,8 +16,12 @@
 package com.vaadin.util;
 
 import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -31,6 +35,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import com.vaadin.flow.util.ReflectionCache;
 import com.vaadin.ui.common.JsonSerializable;
 
 import elemental.json.Json;
@@ -43,9 +48,77 @@ import elemental.json.JsonValue;
 /**
  * General-purpose serializer of Java objects to {@link JsonValue} and
  * deserializer of JsonValue to Java objects.
+ * <p>
+ * The bean properties of each class are introspected only once. The property
+ * accessors are cached as method handles, so serializing many instances of
+ * the same class, e.g. the items of a grid, doesn't use reflection for every
+ * property of every instance.
  */
 public final class JsonSerializer {
 
+    private static final ReflectionCache<Object, BeanProperties> beanProperties = new ReflectionCache<>(
+            BeanProperties::new);
+
+    @FunctionalInterface
+    private interface PropertyReader {
+        Object read(Object bean) throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface PropertyWriter {
+        void write(Object bean, Object value) throws Throwable;
+    }
+
+    private static final class WritableProperty {
+        private final Class<?> type;
+        private final Type genericType;
+        private final PropertyWriter writer;
+
+        private WritableProperty(Method setter) {
+            type = setter.getParameterTypes()[0];
+            genericType = setter.getGenericParameterTypes()[0];
+            writer = createWriter(setter);
+        }
+    }
+
+    /*
+     * The readable and writable properties of a bean class, introspected once
+     * per class.
+     */
+    private static final class BeanProperties {
+        private final String[] names;
+        private final PropertyReader[] readers;
+        private final Map<String, WritableProperty> writableProperties = new HashMap<>();
+
+        private BeanProperties(Class<?> type) {
+            BeanInfo info;
+            try {
+                info = Introspector.getBeanInfo(type);
+            } catch (IntrospectionException e) {
+                throw new IllegalArgumentException(
+                        "Could not introspect the properties of " + type, e);
+            }
+
+            List<String> readableNames = new ArrayList<>();
+            List<PropertyReader> propertyReaders = new ArrayList<>();
+            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
+                Method reader = pd.getReadMethod();
+                if (reader != null && !"class".equals(pd.getName())) {
+                    readableNames.add(pd.getName());
+                    propertyReaders.add(createReader(reader));
+                }
+                Method writer = pd.getWriteMethod();
+                if (writer != null) {
+                    writableProperties.put(pd.getName(),
+                            new WritableProperty(writer));
+                }
+            }
+            names = readableNames.toArray(new String[readableNames.size()]);
+            readers = propertyReaders
+                    .toArray(new PropertyReader[propertyReaders.size()]);
+        }
+    }
+
     private JsonSerializer() {
     }
 
@@ -63,36 +136,37 @@ public final class JsonSerializer {
         if (bean == null) {
             return Json.createNull();
         }
+
+        // An enum or a number may define its own JSON format
+        if (bean instanceof JsonSerializable) {
+            return ((JsonSerializable) bean).toJson();
+        }
+
+        // Check simple types next since they are the most common values
+        JsonValue simpleType = convertSimpleType(bean);
+        if (simpleType != null) {
+            return simpleType;
+        }
+
         if (bean instanceof Collection) {
             return toJson((Collection<?>) bean);
         }
         if (bean.getClass().isArray()) {
             return toJsonArray(bean);
         }
-        if (bean instanceof JsonSerializable) {
-            return ((JsonSerializable) bean).toJson();
-        }
-
-        Optional<JsonValue> simpleType = tryToConvertToSimpleType(bean);
-        if (simpleType.isPresent()) {
-            return simpleType.get();
-        }
 
         try {
+            BeanProperties properties = beanProperties.get(bean.getClass());
             JsonObject json = Json.createObject();
-            BeanInfo info = Introspector.getBeanInfo(bean.getClass());
-            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
-                if ("class".equals(pd.getName())) {
-                    continue;
-                }
-                Method reader = pd.getReadMethod();
-                if (reader != null) {
-                    json.put(pd.getName(), toJson(reader.invoke(bean)));
-                }
+            for (int i = 0; i < properties.names.length; i++) {
+                json.put(properties.names[i],
+                        toJson(properties.readers[i].read(bean)));
             }
 
             return json;
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new IllegalArgumentException(
                     "Could not serialize object of type " + bean.getClass()
                             + " to JsonValue",
@@ -130,26 +204,26 @@ public final class JsonSerializer {
         return array;
     }
 
-    private static Optional<JsonValue> tryToConvertToSimpleType(Object bean) {
+    private static JsonValue convertSimpleType(Object bean) {
         if (bean instanceof String) {
-            return Optional.of(Json.create((String) bean));
+            return Json.create((String) bean);
         }
         if (bean instanceof Number) {
-            return Optional.of(Json.create(((Number) bean).doubleValue()));
+            return Json.create(((Number) bean).doubleValue());
         }
         if (bean instanceof Boolean) {
-            return Optional.of(Json.create((Boolean) bean));
+            return Json.create((Boolean) bean);
         }
         if (bean instanceof Character) {
-            return Optional.of(Json.create(Character.toString((char) bean)));
+            return Json.create(Character.toString((char) bean));
         }
         if (bean instanceof Enum) {
-            return Optional.of(Json.create(((Enum<?>) bean).name()));
+            return Json.create(((Enum<?>) bean).name());
         }
         if (bean instanceof JsonValue) {
-            return Optional.of((JsonValue) bean);
+            return (JsonValue) bean;
         }
-        return Optional.empty();
+        return null;
     }
 
     /**
@@ -207,31 +281,21 @@ public final class JsonSerializer {
                 return instance;
             }
 
-            BeanInfo info = Introspector.getBeanInfo(type);
-            Map<String, Method> writers = new HashMap<>();
-
-            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
-                Method writer = pd.getWriteMethod();
-                if (writer != null) {
-                    writers.put(pd.getName(), writer);
-                }
-            }
+            Map<String, WritableProperty> writableProperties = beanProperties
+                    .get(type).writableProperties;
             for (String key : keys) {
-                JsonValue jsonValue = jsonObject.get(key);
-
-                Method method = writers.get(key);
-                if (method != null) {
-                    Class<?> parameterType = method.getParameterTypes()[0];
-                    Type genericParameterType = method
-                            .getGenericParameterTypes()[0];
-                    Object value = toObject(parameterType, genericParameterType,
-                            jsonValue);
-                    method.invoke(instance, value);
+                WritableProperty property = writableProperties.get(key);
+                if (property != null) {
+                    Object value = toObject(property.type,
+                            property.genericType, jsonObject.get(key));
+                    property.writer.write(instance, value);
                 }
             }
 
             return instance;
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new IllegalArgumentException(
                     "Could not deserialize object of type " + type
                             + " from JsonValue",
@@ -355,4 +419,27 @@ public final class JsonSerializer {
         }
     }
 
+    private static PropertyReader createReader(Method getter) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup()
+                    .unreflect(getter)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            return bean -> (Object) handle.invokeExact(bean);
+        } catch (IllegalAccessException e) {
+            // Not accessible as a method handle, e.g. a non-public class
+            return getter::invoke;
+        }
+    }
+
+    private static PropertyWriter createWriter(Method setter) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup()
+                    .unreflect(setter).asType(MethodType
+                            .methodType(void.class, Object.class, Object.class));
+            return (bean, value) -> handle.invokeExact(bean, value);
+        } catch (IllegalAccessException e) {
+            // Not accessible as a method handle, e.g. a non-public class
+            return setter::invoke;
+        }
+    }
 }
@@ -21,16 +21,24 @@ import java.io.InputStream;
 import java.io.Serializable;
 import java.net.URL;
 import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.servlet.ServletContext;
 import javax.servlet.ServletOutputStream;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import com.vaadin.function.DeploymentConfiguration;
+
 /**
  * The class that handles writing the response data into the response.
  *
@@ -39,7 +47,45 @@ import javax.servlet.http.HttpServletResponse;
 public class ResponseWriter implements Serializable {
     private static final int DEFAULT_BUFFER_SIZE = 32 * 1024;
 
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+
+    /**
+     * Metadata about a resource which doesn't change while the application is
+     * running: the URLs of its precompressed variants and a strong ETag based
+     * on its contents.
+     */
+    private static final class ResourceInfo {
+        private final URL brotliUrl;
+        private final URL gzipUrl;
+        private final String contentHash;
+
+        private ResourceInfo(URL brotliUrl, URL gzipUrl, String contentHash) {
+            this.brotliUrl = brotliUrl;
+            this.gzipUrl = gzipUrl;
+            this.contentHash = contentHash;
+        }
+
+        private boolean hasCompressedVariants() {
+            return brotliUrl != null || gzipUrl != null;
+        }
+
+        private String getETag(String contentEncoding) {
+            if (contentHash == null) {
+                return null;
+            }
+            // Each representation needs its own strong ETag
+            if (contentEncoding == null) {
+                return '"' + contentHash + '"';
+            }
+            return '"' + contentHash + '-' + contentEncoding + '"';
+        }
+    }
+
     private final int bufferSize;
+    private final boolean cacheResourceInfo;
+
+    private transient Map<String, ResourceInfo> resourceInfoCache;
 
     /**
      * Create a response writer with buffer size equal to
@@ -56,12 +102,37 @@ public class ResponseWriter implements Serializable {
      *            custom buffer size
      */
     public ResponseWriter(int bufferSize) {
+        this(bufferSize, false);
+    }
+
+    /**
+     * Creates a response writer with buffer size equal to
+     * {@link ResponseWriter#DEFAULT_BUFFER_SIZE} for the given deployment. In
+     * production mode, the precompressed variants of each resource are looked
+     * up only once and a strong ETag is computed from the contents of the
+     * resource, since resources are not expected to change.
+     *
+     * @param deploymentConfiguration
+     *            the deployment configuration, not <code>null</code>
+     */
+    public ResponseWriter(DeploymentConfiguration deploymentConfiguration) {
+        this(DEFAULT_BUFFER_SIZE, deploymentConfiguration.isProductionMode());
+    }
+
+    private ResponseWriter(int bufferSize, boolean cacheResourceInfo) {
         this.bufferSize = bufferSize;
+        this.cacheResourceInfo = cacheResourceInfo;
     }
 
     /**
      * Writes the contents and content type (if available) of the given
      * resourceUrl to the response.
+     * <p>
+     * A precompressed variant of the resource, stored next to it with a
+     * <code>.br</code> or <code>.gz</code> suffix, is written instead if the
+     * browser accepts that encoding. If the writer caches resource metadata and
+     * the browser already has the resource with a matching ETag, only the
+     * status code {@link HttpServletResponse#SC_NOT_MODIFIED} is written.
      *
      * @param filenameWithPath
      *            the name of the file being sent
@@ -80,33 +151,76 @@ public class ResponseWriter implements Serializable {
             throws IOException {
         writeContentType(filenameWithPath, request, response);
 
+        ResourceInfo info = null;
+        if (cacheResourceInfo) {
+            info = getResourceInfoCache().computeIfAbsent(filenameWithPath,
+                    path -> createResourceInfo(path, resourceUrl,
+                            request.getServletContext()));
+        }
+
+        String contentEncoding = null;
+        URL dataUrl = null;
+        if (info != null) {
+            if (info.hasCompressedVariants()) {
+                response.setHeader("Vary", "Accept-Encoding");
+            }
+            if (info.brotliUrl != null && acceptsBrotliResource(request)) {
+                contentEncoding = BROTLI;
+                dataUrl = info.brotliUrl;
+            } else if (info.gzipUrl != null
+                    && acceptsGzippedResource(request)) {
+                contentEncoding = GZIP;
+                dataUrl = info.gzipUrl;
+            }
+
+            String eTag = info.getETag(contentEncoding);
+            if (eTag != null
+                    && eTagMatches(request.getHeader("If-None-Match"), eTag)) {
+                response.setHeader("ETag", eTag);
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        } else {
+            // try to serve a precompressed version if available
+            if (acceptsBrotliResource(request)) {
+                dataUrl = findResource(request.getServletContext(),
+                        filenameWithPath + ".br");
+                contentEncoding = BROTLI;
+            }
+            if (dataUrl == null && acceptsGzippedResource(request)) {
+                dataUrl = findResource(request.getServletContext(),
+                        filenameWithPath + ".gz");
+                contentEncoding = GZIP;
+            }
+        }
+
         URLConnection connection = null;
         InputStream dataStream = null;
 
-        if (acceptsGzippedResource(request)) {
-            // try to serve a gzipped version if available
-            String gzippedFilenameWithPath = filenameWithPath + ".gz";
+        if (dataUrl != null) {
             try {
-                URL url = request.getServletContext()
-                        .getResource(gzippedFilenameWithPath);
-                if (url != null) {
-                    connection = url.openConnection();
-                    dataStream = connection.getInputStream();
-                    response.setHeader("Content-Encoding", "gzip");
-                }
+                connection = dataUrl.openConnection();
+                dataStream = connection.getInputStream();
+                response.setHeader("Content-Encoding", contentEncoding);
+                response.setHeader("Vary", "Accept-Encoding");
             } catch (Exception e) {
                 getLogger().log(Level.FINE,
-                        "Unexpected exception looking for gzipped resource "
-                                + gzippedFilenameWithPath,
+                        "Unexpected exception opening precompressed resource "
+                                + dataUrl,
                         e);
             }
         }
         if (dataStream == null) {
-            // gzipped resource not available, get non compressed
+            // precompressed resource not available, get non compressed
+            contentEncoding = null;
             connection = resourceUrl.openConnection();
             dataStream = connection.getInputStream();
         }
 
+        if (info != null && info.contentHash != null) {
+            response.setHeader("ETag", info.getETag(contentEncoding));
+        }
+
         try {
             long length = connection.getContentLengthLong();
             if (length >= 0L) {
@@ -130,6 +244,68 @@ public class ResponseWriter implements Serializable {
         }
     }
 
+    private Map<String, ResourceInfo> getResourceInfoCache() {
+        if (resourceInfoCache == null) {
+            resourceInfoCache = new ConcurrentHashMap<>();
+        }
+        return resourceInfoCache;
+    }
+
+    private ResourceInfo createResourceInfo(String filenameWithPath,
+            URL resourceUrl, ServletContext context) {
+        return new ResourceInfo(
+                findResource(context, filenameWithPath + ".br"),
+                findResource(context, filenameWithPath + ".gz"),
+                computeContentHash(resourceUrl));
+    }
+
+    private URL findResource(ServletContext context, String path) {
+        try {
+            return context.getResource(path);
+        } catch (Exception e) {
+            getLogger().log(Level.FINE,
+                    "Unexpected exception looking for resource " + path, e);
+            return null;
+        }
+    }
+
+    private String computeContentHash(URL resourceUrl) {
+        try (InputStream stream = resourceUrl.openStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[bufferSize];
+            int bytes;
+            while ((bytes = stream.read(buffer)) >= 0) {
+                digest.update(buffer, 0, bytes);
+            }
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            getLogger().log(Level.FINE,
+                    "Unable to compute ETag for resource " + resourceUrl, e);
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the given If-None-Match header value matches the given
+     * ETag. Uses the weak comparison mandated for If-None-Match by RFC 7232.
+     */
+    private static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if ("*".equals(candidate) || eTag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void writeStream(ServletOutputStream outputStream,
             InputStream inputStream) throws IOException {
         final byte[] buffer = new byte[bufferSize];
@@ -154,22 +330,44 @@ public class ResponseWriter implements Serializable {
      *         version of the resource, false otherwise
      */
     protected boolean acceptsGzippedResource(HttpServletRequest request) {
+        return acceptsEncoding(request, GZIP);
+    }
+
+    /**
+     * Returns whether it is ok to serve a brotli compressed version of the
+     * given resource.
+     * <p>
+     * If this method returns true, the browser is ok with receiving a brotli
+     * compressed version of the resource. In other cases, a gzipped or
+     * uncompressed file must be sent.
+     *
+     * @param request
+     *            the request for the resource
+     * @return true if the servlet should attempt to serve a precompressed
+     *         brotli version of the resource, false otherwise
+     */
+    protected boolean acceptsBrotliResource(HttpServletRequest request) {
+        return acceptsEncoding(request, BROTLI);
+    }
+
+    private static boolean acceptsEncoding(HttpServletRequest request,
+            String encoding) {
         String accept = request.getHeader("Accept-Encoding");
         if (accept == null) {
             return false;
         }
 
         accept = accept.replace(" ", "");
-        // Browser denies gzip compression if it reports
+        // Browser denies the encoding if it reports e.g.
         // gzip;q=0
         //
-        // Browser accepts gzip compression if it reports
+        // Browser accepts the encoding if it reports e.g.
         // "gzip"
         // "gzip;q=[notzero]"
         // "*"
         // "*;q=[not zero]"
-        if (accept.contains("gzip")) {
-            return !isQZero(accept, "gzip");
+        if (accept.contains(encoding)) {
+            return !isQZero(accept, encoding);
         }
         return accept.contains("*") && !isQZero(accept, "*");
     }
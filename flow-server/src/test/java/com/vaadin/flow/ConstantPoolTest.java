@@ -71,4 +71,29 @@ public class ConstantPoolTest {
         Assert.assertNotEquals(constantId, otherId);
         Assert.assertTrue(constantPool.hasNewConstants());
     }
+
+    @Test
+    public void stringIsRegistered() {
+        int id = constantPool.getStringId("foo");
+
+        Assert.assertTrue(constantPool.hasNewConstants());
+
+        JsonObject dump = constantPool.dumpConstants();
+
+        Assert.assertEquals(1, dump.keys().length);
+        Assert.assertEquals("foo", dump.getString(Integer.toString(id)));
+    }
+
+    @Test
+    public void sameString_sameId_notResent() {
+        int id = constantPool.getStringId("foo");
+        constantPool.dumpConstants();
+
+        Assert.assertEquals(id, constantPool.getStringId("foo"));
+        Assert.assertFalse(constantPool.hasNewConstants());
+
+        int otherId = constantPool.getStringId("bar");
+        Assert.assertNotEquals(id, otherId);
+        Assert.assertTrue(constantPool.hasNewConstants());
+    }
 }
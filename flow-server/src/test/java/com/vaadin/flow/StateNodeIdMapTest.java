@@ -0,0 +1,86 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StateNodeIdMapTest {
+    private StateNodeIdMap map = new StateNodeIdMap();
+
+    @Test
+    public void emptyMap_noNodes() {
+        Assert.assertEquals(0, map.size());
+        Assert.assertNull(map.get(1));
+        Assert.assertNull(map.get(0));
+        Assert.assertNull(map.get(-1));
+        Assert.assertNull(map.remove(1));
+    }
+
+    @Test
+    public void putGetRemove() {
+        StateNode node = new StateNode();
+
+        map.put(5, node);
+
+        Assert.assertEquals(1, map.size());
+        Assert.assertSame(node, map.get(5));
+        Assert.assertTrue(map.containsKey(5));
+        Assert.assertFalse(map.containsKey(6));
+
+        Assert.assertSame(node, map.remove(5));
+        Assert.assertEquals(0, map.size());
+        Assert.assertNull(map.get(5));
+    }
+
+    @Test
+    public void putSameId_replacesNode() {
+        StateNode first = new StateNode();
+        StateNode second = new StateNode();
+
+        map.put(3, first);
+        map.put(3, second);
+
+        Assert.assertEquals(1, map.size());
+        Assert.assertSame(second, map.get(3));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Map<Integer, StateNode> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100000; i++) {
+            int id = 1 + random.nextInt(2000);
+            if (random.nextInt(3) == 0) {
+                Assert.assertSame(expected.remove(id), map.remove(id));
+            } else {
+                StateNode node = new StateNode();
+                expected.put(id, node);
+                map.put(id, node);
+            }
+        }
+
+        Assert.assertEquals(expected.size(), map.size());
+        for (int id = 1; id <= 2000; id++) {
+            Assert.assertSame(expected.get(id), map.get(id));
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -482,4 +483,27 @@ public class StateNodeTest {
         Assert.assertFalse(
                 stateNode.isReportedFeature(ElementAttributeMap.class));
     }
+
+    @Test
+    public void serialize_featuresRestored() {
+        StateNode stateNode = new StateNode(
+                Arrays.asList(ElementClassList.class, ElementPropertyMap.class),
+                ElementAttributeMap.class);
+        stateNode.getFeature(ElementAttributeMap.class).set("foo", "bar");
+
+        StateNode copy = SerializationUtils
+                .deserialize(SerializationUtils.serialize(stateNode));
+
+        Assert.assertTrue(copy.hasFeature(ElementClassList.class));
+        Assert.assertTrue(copy.hasFeature(ElementPropertyMap.class));
+        Assert.assertTrue(copy.isReportedFeature(ElementClassList.class));
+        Assert.assertFalse(copy.isReportedFeature(ElementAttributeMap.class));
+        Assert.assertFalse(copy.hasFeature(ElementData.class));
+        Assert.assertFalse(copy.hasFeature(ElementChildrenList.class));
+
+        ElementAttributeMap attributes = copy
+                .getFeature(ElementAttributeMap.class);
+        Assert.assertEquals("bar", attributes.get("foo"));
+        Assert.assertSame(copy, attributes.getNode());
+    }
 }
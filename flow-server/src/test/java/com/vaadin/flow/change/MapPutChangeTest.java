@@ -28,6 +28,7 @@ import com.vaadin.flow.nodefeature.NodeMap;
 import com.vaadin.shared.JsonConstants;
 
 import elemental.json.Json;
+import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 import elemental.json.JsonType;
 import elemental.json.JsonValue;
@@ -54,6 +55,34 @@ public class MapPutChangeTest {
                 json.getString(JsonConstants.CHANGE_PUT_VALUE));
     }
 
+    @Test
+    public void testCompactJson() {
+        MapPutChange change = new MapPutChange(feature, "some", "string");
+
+        JsonArray json = (JsonArray) change.toCompactJson(null);
+
+        Assert.assertEquals(5, json.length());
+        Assert.assertEquals(JsonConstants.COMPACT_CHANGE_TYPE_PUT,
+                (int) json.getNumber(0));
+        Assert.assertEquals(change.getNode().getId(), (int) json.getNumber(1));
+        Assert.assertEquals(NodeFeatureRegistry.getId(feature.getClass()),
+                (int) json.getNumber(2));
+        Assert.assertEquals("some", json.getString(3));
+        Assert.assertEquals("string", json.getString(4));
+    }
+
+    @Test
+    public void testCompactNodeValue() {
+        StateNode value = StateNodeTest.createEmptyNode("value");
+        MapPutChange change = new MapPutChange(feature, "myKey", value);
+
+        JsonArray json = (JsonArray) change.toCompactJson(null);
+
+        Assert.assertEquals(JsonConstants.COMPACT_CHANGE_TYPE_PUT_NODE,
+                (int) json.getNumber(0));
+        Assert.assertEquals(value.getId(), (int) json.getNumber(4));
+    }
+
     @Test
     public void testJsonValueTypes() {
         JsonValue stringValue = getValue("string");
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.change;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.ConstantPool;
+import com.vaadin.flow.StateNode;
+
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
+import elemental.json.JsonValue;
+
+public class NodeChangeTest {
+
+    private static class CustomChange extends NodeChange {
+        public CustomChange(StateNode node) {
+            super(node);
+        }
+
+        @Override
+        protected void populateJson(JsonObject json,
+                ConstantPool constantPool) {
+            json.put("custom", true);
+        }
+    }
+
+    @Test
+    public void toCompactJson_noCompactType_regularJsonUsed() {
+        NodeChange change = new CustomChange(new StateNode());
+
+        JsonValue json = change.toCompactJson(null);
+
+        Assert.assertEquals(JsonType.OBJECT, json.getType());
+        Assert.assertTrue(((JsonObject) json).getBoolean("custom"));
+    }
+}
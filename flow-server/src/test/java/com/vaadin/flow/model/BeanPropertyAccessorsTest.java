@@ -0,0 +1,76 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.model;
+
+import java.lang.reflect.Method;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.model.BeanPropertyAccessors.Getter;
+
+public class BeanPropertyAccessorsTest {
+
+    private static class PrivateBean {
+        public String getValue() {
+            return "private";
+        }
+    }
+
+    public static class ThrowingBean {
+        public String getValue() {
+            throw new IllegalStateException("Not available");
+        }
+    }
+
+    @Test
+    public void publicBean_valuesReadAndBoxed() throws Exception {
+        Bean bean = new Bean(3);
+
+        Assert.assertEquals(Integer.valueOf(3),
+                getter(Bean.class, "getIntValue").get(bean));
+        Assert.assertEquals(Boolean.TRUE,
+                getter(Bean.class, "isBooleanValue").get(bean));
+        Assert.assertEquals("3", getter(Bean.class, "getString").get(bean));
+    }
+
+    @Test
+    public void nonPublicBean_valueRead() throws Exception {
+        Method method = PrivateBean.class.getMethod("getValue");
+        method.setAccessible(true);
+
+        Assert.assertEquals("private", BeanPropertyAccessors
+                .createGetter(method).get(new PrivateBean()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void throwingGetter_exceptionPropagated() throws Exception {
+        getter(ThrowingBean.class, "getValue").get(new ThrowingBean());
+    }
+
+    @Test
+    public void getGetters_sameInstanceForSameClass() {
+        Assert.assertSame(BeanPropertyAccessors.getGetters(Bean.class),
+                BeanPropertyAccessors.getGetters(Bean.class));
+        Assert.assertEquals(7,
+                BeanPropertyAccessors.getGetters(Bean.class).size());
+    }
+
+    private static Getter getter(Class<?> type, String name)
+            throws NoSuchMethodException {
+        return BeanPropertyAccessors.createGetter(type.getMethod(name));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.nodefeature;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompactMapTest {
+    private CompactMap<String> map = new CompactMap<>();
+
+    @Test
+    public void putGetRemove_smallMap() {
+        Assert.assertNull(map.put("foo", "bar"));
+        Assert.assertEquals("bar", map.put("foo", "baz"));
+        map.put("null", null);
+
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals("baz", map.get("foo"));
+        Assert.assertTrue(map.containsKey("null"));
+        Assert.assertNull(map.get("null"));
+        Assert.assertFalse(map.containsKey("other"));
+
+        Assert.assertEquals("baz", map.remove("foo"));
+        Assert.assertFalse(map.containsKey("foo"));
+        Assert.assertEquals(1, map.size());
+    }
+
+    @Test
+    public void keysAreInterned() {
+        String key = new String("key");
+
+        map.put(key, "value");
+
+        Assert.assertSame("key", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void removeFromMiddle_preservesOrder() {
+        map.put("a", "1");
+        map.put("b", "2");
+        map.put("c", "3");
+
+        map.remove("b");
+
+        Assert.assertEquals(Arrays.asList("a", "c"),
+                new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    public void growBeyondArraySize_promotedWithAllEntries() {
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (int i = 0; i < CompactMap.MAX_ARRAY_SIZE * 2; i++) {
+            expected.put("key" + i, "value" + i);
+            map.put("key" + i, "value" + i);
+        }
+
+        Assert.assertEquals(expected.size(), map.size());
+        Assert.assertEquals(expected.keySet(), map.keySet());
+
+        List<String> visited = new ArrayList<>();
+        map.forEach((key, value) -> {
+            Assert.assertEquals(expected.get(key), value);
+            visited.add(key);
+        });
+        Assert.assertEquals(expected.size(), visited.size());
+
+        Assert.assertEquals("value3", map.remove("key3"));
+        Assert.assertFalse(map.containsKey("key3"));
+    }
+
+    @Test
+    public void serialize_smallMap_entriesAndOrderRestored() {
+        map.put("b", "1");
+        map.put("a", "2");
+
+        CompactMap<String> copy = SerializationUtils
+                .deserialize(SerializationUtils.serialize(map));
+
+        Assert.assertEquals(Arrays.asList("b", "a"),
+                new ArrayList<>(copy.keySet()));
+        Assert.assertEquals("2", copy.get("a"));
+        Assert.assertSame("b", copy.keySet().iterator().next());
+    }
+
+    @Test
+    public void serialize_promotedMap_entriesRestored() {
+        for (int i = 0; i < CompactMap.MAX_ARRAY_SIZE * 2; i++) {
+            map.put("key" + i, "value" + i);
+        }
+
+        CompactMap<String> copy = SerializationUtils
+                .deserialize(SerializationUtils.serialize(map));
+
+        Assert.assertEquals(map.keySet(), copy.keySet());
+        map.forEach((key, value) -> Assert.assertEquals(value, copy.get(key)));
+    }
+}
@@ -22,12 +22,15 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.vaadin.flow.ConstantPoolKey;
 import com.vaadin.flow.dom.DomEvent;
 import com.vaadin.flow.dom.DomEventListener;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.shared.Registration;
 
 import elemental.json.Json;
+import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 
 public class ElementListenersTest
@@ -132,6 +135,65 @@ public class ElementListenersTest
         Assert.assertEquals("true", capturedJson.get("baz").toJson());
     }
 
+    @Test
+    public void debounce_settingsSentWithExpressions() {
+        ns.add("input", noOp, new String[] { "element.value" }).debounce(300);
+
+        JsonArray clientValue = getClientValue("input");
+        Assert.assertEquals(2, clientValue.length());
+        Assert.assertEquals("element.value", clientValue.getString(0));
+        JsonArray settings = clientValue.getArray(1);
+        Assert.assertEquals(2, settings.length());
+        Assert.assertEquals(300, settings.getNumber(0), 0);
+        Assert.assertEquals("trailing", settings.getString(1));
+
+        // Expressions used on the server are not affected
+        Assert.assertEquals(1, getExpressions("input").size());
+    }
+
+    @Test
+    public void throttle_leadingAndIntermediatePhases() {
+        ns.add("mousemove", noOp, new String[0]).throttle(100);
+
+        JsonArray clientValue = getClientValue("mousemove");
+        Assert.assertEquals(1, clientValue.length());
+        JsonArray settings = clientValue.getArray(0);
+        Assert.assertEquals(3, settings.length());
+        Assert.assertEquals(100, settings.getNumber(0), 0);
+        Assert.assertEquals("leading", settings.getString(1));
+        Assert.assertEquals("intermediate", settings.getString(2));
+    }
+
+    @Test
+    public void debounceZero_settingsRemoved() {
+        DomListenerRegistration registration = ns.add("input", noOp,
+                new String[0]);
+        registration.debounce(300);
+        registration.debounce(0);
+
+        Assert.assertEquals(0, getClientValue("input").length());
+    }
+
+    @Test
+    public void debounce_listenerRemovedAndAdded_settingsRemoved() {
+        ns.add("input", noOp, new String[0]).debounce(300).remove();
+        ns.add("input", noOp, new String[0]);
+
+        Assert.assertEquals(0, getClientValue("input").length());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void debounce_negativeTimeout_throws() {
+        ns.add("input", noOp, new String[0]).debounce(-1);
+    }
+
+    private JsonArray getClientValue(String eventType) {
+        ConstantPoolKey key = (ConstantPoolKey) ns.get(eventType);
+        JsonObject export = Json.createObject();
+        key.export(export);
+        return export.getArray(key.getId());
+    }
+
     private Set<String> getExpressions(String name) {
         return ns.getExpressions(name);
     }
@@ -98,6 +98,33 @@ public class DefaultRouteResolverTest extends RoutingTestBase {
         Assert.assertEquals(null, resolveNavigationState("greeting"));
     }
 
+    @Test
+    public void longer_route_without_matching_target_falls_back_to_shorter_route()
+            throws InvalidRouteConfigurationException {
+        router.getRegistry()
+                .setNavigationTargets(Stream
+                        .of(GreetingNavigationTarget.class,
+                                OtherGreetingNavigationTarget.class)
+                        .collect(Collectors.toSet()));
+
+        NavigationState state = resolveNavigationState("greeting/other");
+        Assert.assertEquals(GreetingNavigationTarget.class,
+                state.getNavigationTarget());
+        Assert.assertEquals(Collections.singletonList("other"),
+                state.getUrlParameters().get());
+    }
+
+    @Test
+    public void trailing_slash_not_included_in_parameters()
+            throws InvalidRouteConfigurationException {
+        router.getRegistry().setNavigationTargets(
+                Collections.singleton(GreetingNavigationTarget.class));
+
+        Assert.assertEquals(Collections.singletonList("World"),
+                resolveNavigationState("greeting/World/").getUrlParameters()
+                        .get());
+    }
+
     private Class<? extends Component> resolveNavigationTarget(String path) {
         return resolveNavigationState(path).getNavigationTarget();
     }
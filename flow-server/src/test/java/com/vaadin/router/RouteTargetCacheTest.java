@@ -0,0 +1,100 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.router;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.ui.Component;
+import com.vaadin.ui.Tag;
+
+public class RouteTargetCacheTest {
+
+    @Tag(Tag.DIV)
+    @KeepAlive
+    private static class SingleInstance extends Component {
+    }
+
+    @Tag(Tag.DIV)
+    @KeepAlive(maxInstances = 2)
+    private static class TwoInstances extends Component {
+    }
+
+    @Tag(Tag.DIV)
+    private static class NotKept extends Component {
+    }
+
+    private final RouteTargetCache cache = new RouteTargetCache();
+
+    @Test
+    public void put_notAnnotated_notKept() {
+        cache.put(new NotKept(), "foo");
+
+        Assert.assertFalse(cache.get(NotKept.class, "foo").isPresent());
+    }
+
+    @Test
+    public void put_get_sameInstance() {
+        SingleInstance instance = new SingleInstance();
+        cache.put(instance, "foo");
+
+        Assert.assertSame(instance,
+                cache.get(SingleInstance.class, "foo").get());
+        Assert.assertSame(instance,
+                cache.get(SingleInstance.class, "bar").get());
+        Assert.assertFalse(cache.get(TwoInstances.class, "foo").isPresent());
+    }
+
+    @Test
+    public void put_moreThanMaxInstances_leastRecentEvicted() {
+        TwoInstances first = new TwoInstances();
+        TwoInstances second = new TwoInstances();
+        TwoInstances third = new TwoInstances();
+        SingleInstance other = new SingleInstance();
+
+        cache.put(first, "first");
+        cache.put(other, null);
+        cache.put(second, "second");
+        cache.put(third, "third");
+
+        Assert.assertSame(third, cache.get(TwoInstances.class, "first").get());
+        Assert.assertSame(second,
+                cache.get(TwoInstances.class, "second").get());
+        Assert.assertSame(other, cache.get(SingleInstance.class, null).get());
+    }
+
+    @Test
+    public void get_instanceForPathPreferred() {
+        TwoInstances first = new TwoInstances();
+        TwoInstances second = new TwoInstances();
+
+        cache.put(first, "first");
+        cache.put(second, "second");
+
+        Assert.assertSame(first, cache.get(TwoInstances.class, "first").get());
+        Assert.assertSame(second,
+                cache.get(TwoInstances.class, "other").get());
+    }
+
+    @Test
+    public void remove_instanceNoLongerKept() {
+        SingleInstance instance = new SingleInstance();
+        cache.put(instance, "foo");
+        cache.remove(instance);
+
+        Assert.assertFalse(cache.get(SingleInstance.class, "foo").isPresent());
+    }
+}
@@ -716,6 +716,12 @@ public class RouterTest extends RoutingTestBase {
         }
     }
 
+    @Route("kept")
+    @KeepAlive
+    @Tag(Tag.DIV)
+    public static class KeptNavigationTarget extends Component {
+    }
+
     @Override
     @Before
     public void init() throws NoSuchFieldException, SecurityException,
@@ -1762,6 +1768,33 @@ public class RouterTest extends RoutingTestBase {
         Assert.assertEquals("ChildListener notified", eventCollector.get(4));
     }
 
+    @Test
+    public void keep_alive_target_reused_after_navigating_back()
+            throws InvalidRouteConfigurationException {
+        router.getRegistry().setNavigationTargets(
+                Stream.of(KeptNavigationTarget.class, FooNavigationTarget.class)
+                        .collect(Collectors.toSet()));
+
+        router.navigate(ui, new Location("kept"),
+                NavigationTrigger.PROGRAMMATIC);
+        Component kept = ui.getElement().getChild(0).getComponent().get();
+
+        router.navigate(ui, new Location("foo"),
+                NavigationTrigger.PROGRAMMATIC);
+        Component foo = ui.getElement().getChild(0).getComponent().get();
+        Assert.assertFalse(kept.getParent().isPresent());
+
+        router.navigate(ui, new Location("kept"),
+                NavigationTrigger.PROGRAMMATIC);
+        Assert.assertSame(kept,
+                ui.getElement().getChild(0).getComponent().get());
+
+        router.navigate(ui, new Location("foo"),
+                NavigationTrigger.PROGRAMMATIC);
+        Assert.assertNotSame("Target without KeepAlive should not be reused",
+                foo, ui.getElement().getChild(0).getComponent().get());
+    }
+
     private Class<? extends Component> getUIComponent() {
         return ComponentUtil.findParentComponent(ui.getElement().getChild(0))
                 .get().getClass();
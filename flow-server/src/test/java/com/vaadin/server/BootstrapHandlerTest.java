@@ -5,8 +5,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.vaadin.flow.template.angular.InlineTemplate;
@@ -24,6 +26,7 @@ import com.vaadin.ui.common.HtmlImport;
 import com.vaadin.ui.common.JavaScript;
 import com.vaadin.ui.common.StyleSheet;
 import org.apache.commons.io.IOUtils;
+import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -189,6 +192,76 @@ public class BootstrapHandlerTest {
         Assert.assertEquals(bootstrapContext.getUriResolver(), resolver.get());
     }
 
+    @Test
+    public void cachedBootstrapPage_cacheCompatibleListenerInvokedOnce()
+            throws ServiceException {
+        AtomicInteger invocations = new AtomicInteger();
+        BootstrapListener listener = new BootstrapListener() {
+            @Override
+            public void modifyBootstrapPage(BootstrapPageResponse response) {
+                invocations.incrementAndGet();
+                response.getDocument().body().appendElement("div")
+                        .attr("id", "from-listener");
+            }
+
+            @Override
+            public boolean isCacheCompatible() {
+                return true;
+            }
+        };
+        Mockito.when(service.createInstantiator())
+                .thenReturn(new MockInstantiator(
+                        event -> event.addBootstrapListener(listener)));
+
+        initUI(testUI);
+        Assert.assertTrue(service.isBootstrapPageCacheable());
+
+        TestUI anotherUI = new TestUI();
+        anotherUI.getInternals().setSession(session);
+        VaadinRequest anotherRequest = createVaadinRequest();
+        anotherUI.doInit(anotherRequest, 1);
+
+        testUI.getPage().setTitle("first");
+        anotherUI.getPage().setTitle("second");
+
+        BootstrapHandler handler = new BootstrapHandler();
+        Document first = Jsoup.parse(handler.getCachedBootstrapPage(context));
+        Document second = Jsoup.parse(handler.getCachedBootstrapPage(
+                new BootstrapContext(anotherRequest, null, session,
+                        anotherUI)));
+
+        Assert.assertEquals(1, invocations.get());
+        Assert.assertEquals("first",
+                first.head().getElementsByTag("title").text());
+        Assert.assertEquals("second",
+                second.head().getElementsByTag("title").text());
+        for (Document page : Arrays.asList(first, second)) {
+            Assert.assertNotNull(page.getElementById("from-listener"));
+            Assert.assertEquals(1,
+                    page.head().getElementsByTag("base").size());
+            Assert.assertTrue(page.head().getElementsByTag("script").stream()
+                    .anyMatch(script -> script.attr("src")
+                            .equals("./frontend/eager.js")));
+            Assert.assertTrue(page.head().getElementsByTag("script").stream()
+                    .anyMatch(script -> script.data().contains("var uidl =")
+                            && !script.data().contains("{{")));
+            Assert.assertEquals("noscript",
+                    page.body().children().last().tagName());
+        }
+    }
+
+    @Test
+    public void bootstrapListenerNotCacheCompatible_pageNotCacheable()
+            throws ServiceException {
+        Mockito.when(service.createInstantiator())
+                .thenReturn(new MockInstantiator(event -> event
+                        .addBootstrapListener(evt -> evt.getDocument())));
+
+        initUI(testUI);
+
+        Assert.assertFalse(service.isBootstrapPageCacheable());
+    }
+
     @Test
     public void useDependencyFilters_removeDependenciesAndAddNewOnes()
             throws ServiceException {
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.dom.Element;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.Tag;
+import com.vaadin.ui.Text;
+import com.vaadin.ui.UI;
+
+public class SessionSizeReportTest {
+
+    @Tag("div")
+    private static class TestComponent extends Component {
+        public TestComponent() {
+            getElement().appendChild(new Element("span"));
+        }
+    }
+
+    private static class TestSession extends VaadinSession {
+        private final UI ui;
+
+        public TestSession(UI ui) {
+            super(null);
+            this.ui = ui;
+        }
+
+        @Override
+        public boolean hasLock() {
+            return true;
+        }
+
+        @Override
+        public Collection<UI> getUIs() {
+            return Collections.singletonList(ui);
+        }
+    }
+
+    @Test
+    public void create_sizesReportedByComponentType() throws IOException {
+        UI ui = new UI();
+        ui.add(new Text("text"), new TestComponent());
+
+        SessionSizeReport report = SessionSizeReport
+                .create(new TestSession(ui));
+
+        Assert.assertTrue(report.getSessionSize() > 0);
+
+        Map<Class<?>, Long> sizes = report.getSizeByType();
+        Assert.assertTrue(sizes.get(UI.class) > 0);
+        Assert.assertTrue(sizes.get(Text.class) > 0);
+        Assert.assertTrue(sizes.get(TestComponent.class) > 0);
+
+        Map<Class<?>, Integer> nodeCounts = report.getNodeCountByType();
+        Assert.assertEquals(Integer.valueOf(1), nodeCounts.get(Text.class));
+        // The span element is counted for its parent component
+        Assert.assertEquals(Integer.valueOf(2),
+                nodeCounts.get(TestComponent.class));
+    }
+
+    @Test
+    public void create_classDescriptorsNotCountedForEachNode()
+            throws IOException {
+        UI ui = new UI();
+        ui.add(new Text("text"), new TestComponent(), new TestComponent());
+
+        SessionSizeReport report = SessionSizeReport
+                .create(new TestSession(ui));
+
+        long nodeSizes = report.getSizeByType().values().stream()
+                .mapToLong(Long::longValue).sum();
+        Assert.assertTrue(
+                "Node sizes should not add up to more than the session size",
+                nodeSizes < report.getSessionSize());
+    }
+
+    @Test
+    public void create_sizesSortedLargestFirst() throws IOException {
+        UI ui = new UI();
+        ui.add(new Text("text"), new TestComponent());
+
+        SessionSizeReport report = SessionSizeReport
+                .create(new TestSession(ui));
+
+        long previous = Long.MAX_VALUE;
+        for (long size : report.getSizeByType().values()) {
+            Assert.assertTrue(size <= previous);
+            previous = size;
+        }
+    }
+}
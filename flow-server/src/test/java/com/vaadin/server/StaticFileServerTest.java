@@ -138,7 +138,6 @@ public class StaticFileServerTest implements Serializable {
     @Before
     public void setUp() throws IOException {
         servletContext = Mockito.mock(ServletContext.class);
-        fileServer = new OverrideableStaticFileServer(service);
         request = Mockito.mock(HttpServletRequest.class);
         response = Mockito.mock(HttpServletResponse.class);
         Mockito.when(request.getServletContext()).thenReturn(servletContext);
@@ -180,6 +179,7 @@ public class StaticFileServerTest implements Serializable {
         Mockito.when(configuration.isProductionMode()).thenReturn(true);
         Mockito.when(service.getDeploymentConfiguration())
                 .thenReturn(configuration);
+        fileServer = new OverrideableStaticFileServer(service);
     }
 
     @After
@@ -448,6 +448,24 @@ public class StaticFileServerTest implements Serializable {
         Assert.assertArrayEquals(fileData, out.getOutput());
     }
 
+    @Test
+    public void serveStaticResource_productionMode_resourceResolvedOnce()
+            throws IOException {
+        setupRequestURI("", "/some", "/file.js");
+        byte[] fileData = "function() {eval('foo');};"
+                .getBytes(StandardCharsets.UTF_8);
+        Mockito.when(servletContext.getResource("/some/file.js")).thenReturn(
+                createFileURLWithDataAndLength("/some/file.js", fileData));
+        Mockito.when(response.getOutputStream())
+                .thenReturn(new CapturingServletOutputStream());
+
+        Assert.assertTrue(fileServer.isStaticResourceRequest(request));
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+
+        Mockito.verify(servletContext, Mockito.times(1))
+                .getResource("/some/file.js");
+    }
+
     @Test
     public void serveStaticResourceBrowserHasLatest() throws IOException {
         long browserLatest = 123L;
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class UnlockedIORequestHandlerTest {
+
+    private VaadinSession session = Mockito.mock(VaadinSession.class);
+    private VaadinRequest request = Mockito.mock(VaadinRequest.class);
+    private VaadinResponse response = Mockito.mock(VaadinResponse.class);
+
+    private AtomicBoolean locked = new AtomicBoolean();
+
+    {
+        Mockito.doAnswer(invocation -> {
+            locked.set(true);
+            return null;
+        }).when(session).lock();
+        Mockito.doAnswer(invocation -> {
+            locked.set(false);
+            return null;
+        }).when(session).unlock();
+    }
+
+    @Test
+    public void bodyReadAndResponseWrittenWithoutLock() throws IOException {
+        Mockito.when(request.getReader()).then(invocation -> {
+            Assert.assertFalse("Body should be read without the lock",
+                    locked.get());
+            return new BufferedReader(new StringReader("body"));
+        });
+
+        AtomicBoolean written = new AtomicBoolean();
+        UnlockedIORequestHandler handler = new UnlockedIORequestHandler() {
+            @Override
+            public Optional<ResponseWriter> synchronizedHandleRequest(
+                    VaadinSession session, VaadinRequest request,
+                    VaadinResponse response, String requestBody) {
+                Assert.assertTrue(locked.get());
+                Assert.assertEquals("body", requestBody);
+                return Optional.of(() -> {
+                    Assert.assertFalse(
+                            "Response should be written without the lock",
+                            locked.get());
+                    written.set(true);
+                });
+            }
+
+            @Override
+            public boolean synchronizedHandleRequest(VaadinSession session,
+                    VaadinRequest request, VaadinResponse response) {
+                throw new AssertionError("Should not be called");
+            }
+        };
+
+        Assert.assertTrue(handler.handleRequest(session, request, response));
+        Assert.assertTrue(written.get());
+        Assert.assertFalse(locked.get());
+    }
+
+    @Test
+    public void emptyResult_notHandled() throws IOException {
+        UnlockedIORequestHandler handler = new UnlockedIORequestHandler() {
+            @Override
+            public Optional<ResponseWriter> synchronizedHandleRequest(
+                    VaadinSession session, VaadinRequest request,
+                    VaadinResponse response, String requestBody) {
+                Assert.assertNull(requestBody);
+                return Optional.empty();
+            }
+
+            @Override
+            public boolean synchronizedHandleRequest(VaadinSession session,
+                    VaadinRequest request, VaadinResponse response) {
+                throw new AssertionError("Should not be called");
+            }
+        };
+
+        Assert.assertFalse(handler.handleRequest(session, request, response));
+        Assert.assertFalse(locked.get());
+    }
+}
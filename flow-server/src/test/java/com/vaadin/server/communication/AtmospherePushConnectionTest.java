@@ -19,13 +19,23 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.atmosphere.cpr.AtmosphereResource;
+import org.atmosphere.cpr.Broadcaster;
+import org.easymock.Capture;
 import org.easymock.EasyMock;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.vaadin.server.Command;
+import com.vaadin.server.VaadinService;
+import com.vaadin.server.VaadinSession;
 import com.vaadin.server.communication.AtmospherePushConnection.State;
+import com.vaadin.shared.communication.PushMode;
+import com.vaadin.ui.PushConfiguration;
 import com.vaadin.ui.UI;
 
 /**
@@ -53,4 +63,116 @@ public class AtmospherePushConnectionTest {
 
         Assert.assertEquals(State.DISCONNECTED, connection.getState());
     }
+
+    @Test
+    public void pushWithinMinInterval_trailingPushScheduledOnce() {
+        UI ui = createUI(PushMode.AUTOMATIC);
+        ScheduledExecutorService scheduler = expectPushScheduler(ui);
+
+        Broadcaster broadcaster = EasyMock.createMock(Broadcaster.class);
+        EasyMock.expect(broadcaster.broadcast(EasyMock.anyObject(),
+                EasyMock.anyObject(AtmosphereResource.class)))
+                .andReturn(null).once();
+        AtmosphereResource resource = EasyMock
+                .createNiceMock(AtmosphereResource.class);
+        EasyMock.expect(resource.getBroadcaster()).andReturn(broadcaster)
+                .anyTimes();
+
+        EasyMock.expect(scheduler.schedule(EasyMock.anyObject(Runnable.class),
+                EasyMock.anyLong(), EasyMock.eq(TimeUnit.MILLISECONDS)))
+                .andReturn(null).once();
+
+        EasyMock.replay(ui, scheduler, broadcaster, resource);
+
+        AtmospherePushConnection connection = new AtmospherePushConnection(ui);
+        connection.connect(resource);
+
+        connection.sendMessage("message");
+        connection.push(true);
+        connection.push(true);
+
+        EasyMock.verify(scheduler, broadcaster);
+    }
+
+    @Test
+    public void trailingPush_automaticMode_pushedOnlyWhenSessionIsUnlocked() {
+        Assert.assertFalse(runTrailingPush(PushMode.AUTOMATIC));
+    }
+
+    @Test
+    public void trailingPush_manualMode_pushedExplicitly() {
+        Assert.assertTrue(runTrailingPush(PushMode.MANUAL));
+    }
+
+    /**
+     * Runs the trailing push scheduled for a postponed push and returns
+     * whether it explicitly pushed the UI.
+     */
+    private static boolean runTrailingPush(PushMode pushMode) {
+        UI ui = createUI(pushMode);
+        ScheduledExecutorService scheduler = expectPushScheduler(ui);
+
+        Capture<Runnable> trailingPush = EasyMock.newCapture();
+        EasyMock.expect(scheduler.schedule(EasyMock.capture(trailingPush),
+                EasyMock.anyLong(), EasyMock.eq(TimeUnit.MILLISECONDS)))
+                .andReturn(null);
+
+        // Run access commands right away
+        Capture<Command> command = EasyMock.newCapture();
+        EasyMock.expect(ui.access(EasyMock.capture(command))).andAnswer(() -> {
+            command.getValue().execute();
+            return null;
+        });
+
+        AtomicBoolean pushed = new AtomicBoolean();
+        ui.push();
+        EasyMock.expectLastCall().andAnswer(() -> {
+            pushed.set(true);
+            return null;
+        }).anyTimes();
+
+        AtmosphereResource resource = EasyMock
+                .createNiceMock(AtmosphereResource.class);
+        EasyMock.expect(resource.getBroadcaster())
+                .andReturn(EasyMock.createNiceMock(Broadcaster.class))
+                .anyTimes();
+
+        EasyMock.replay(ui, scheduler, resource);
+
+        AtmospherePushConnection connection = new AtmospherePushConnection(ui);
+        connection.connect(resource);
+        connection.sendMessage("message");
+        connection.push(true);
+
+        trailingPush.getValue().run();
+        return pushed.get();
+    }
+
+    private static UI createUI(PushMode pushMode) {
+        PushConfiguration pushConfiguration = EasyMock
+                .createNiceMock(PushConfiguration.class);
+        EasyMock.expect(pushConfiguration.getMinPushInterval()).andReturn(1000)
+                .anyTimes();
+        EasyMock.expect(pushConfiguration.getPushMode()).andReturn(pushMode)
+                .anyTimes();
+        EasyMock.replay(pushConfiguration);
+
+        UI ui = EasyMock.createNiceMock(UI.class);
+        EasyMock.expect(ui.getPushConfiguration()).andReturn(pushConfiguration)
+                .anyTimes();
+        return ui;
+    }
+
+    private static ScheduledExecutorService expectPushScheduler(UI ui) {
+        ScheduledExecutorService scheduler = EasyMock
+                .createMock(ScheduledExecutorService.class);
+        VaadinService service = EasyMock.createNiceMock(VaadinService.class);
+        EasyMock.expect(service.getPushScheduler()).andReturn(scheduler)
+                .anyTimes();
+        VaadinSession session = EasyMock.createNiceMock(VaadinSession.class);
+        EasyMock.expect(session.getService()).andReturn(service).anyTimes();
+        EasyMock.expect(ui.getSession()).andReturn(session).anyTimes();
+        EasyMock.replay(service, session);
+        return scheduler;
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server.communication;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import javax.servlet.ServletContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.vaadin.server.RangeStreamResourceWriter;
+import com.vaadin.server.StreamResource;
+import com.vaadin.server.StreamResourceRegistry;
+import com.vaadin.server.VaadinResponse;
+import com.vaadin.server.VaadinServletRequest;
+import com.vaadin.server.VaadinSession;
+
+public class StreamResourceRequestHandlerTest {
+
+    private static final String CONTENT = "0123456789";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private StreamResourceRequestHandler handler = new StreamResourceRequestHandler();
+
+    private VaadinSession session;
+    private VaadinServletRequest request;
+    private VaadinResponse response;
+    private ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private StreamResource resource;
+
+    @Before
+    public void setUp() throws IOException {
+        File file = temporaryFolder.newFile("data.txt");
+        Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.UTF_8));
+        resource = new StreamResource("data.txt", file);
+
+        StreamResourceRegistry registry = Mockito
+                .mock(StreamResourceRegistry.class);
+        URI uri = StreamResourceRegistry.getURI(resource);
+        Mockito.when(registry.getResource(uri))
+                .thenReturn(Optional.of(resource));
+
+        session = Mockito.mock(VaadinSession.class);
+        Mockito.when(session.getResourceRegistry()).thenReturn(registry);
+
+        request = Mockito.mock(VaadinServletRequest.class);
+        Mockito.when(request.getPathInfo()).thenReturn("/" + uri.toString());
+        Mockito.when(request.getServletContext())
+                .thenReturn(Mockito.mock(ServletContext.class));
+
+        response = Mockito.mock(VaadinResponse.class);
+        Mockito.when(response.getOutputStream())
+                .thenReturn(new ServletOutputStream() {
+                    @Override
+                    public void write(int b) {
+                        output.write(b);
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                    }
+                });
+    }
+
+    @Test
+    public void fileResource_noRange_writesEverything() throws IOException {
+        Assert.assertTrue(handler.handleRequest(session, request, response));
+
+        Assert.assertEquals(CONTENT,
+                new String(output.toByteArray(), StandardCharsets.UTF_8));
+        Mockito.verify(response).setHeader("Content-Length", "10");
+        Mockito.verify(response).setHeader("Accept-Ranges", "bytes");
+        Mockito.verify(response).setHeader("ETag",
+                ((RangeStreamResourceWriter) resource.getWriter()).getETag());
+        Mockito.verify(response, Mockito.never()).setStatus(Mockito.anyInt());
+    }
+
+    @Test
+    public void fileResource_range_writesPartialContent() throws IOException {
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-5");
+
+        handler.handleRequest(session, request, response);
+
+        Assert.assertEquals("2345",
+                new String(output.toByteArray(), StandardCharsets.UTF_8));
+        Mockito.verify(response)
+                .setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        Mockito.verify(response).setHeader("Content-Range", "bytes 2-5/10");
+        Mockito.verify(response).setHeader("Content-Length", "4");
+    }
+
+    @Test
+    public void fileResource_ifRangeDoesNotMatch_writesEverything()
+            throws IOException {
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-5");
+        Mockito.when(request.getHeader("If-Range")).thenReturn("\"old\"");
+
+        handler.handleRequest(session, request, response);
+
+        Assert.assertEquals(CONTENT,
+                new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void fileResource_unsatisfiableRange_sendsError()
+            throws IOException {
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=20-");
+
+        handler.handleRequest(session, request, response);
+
+        Assert.assertEquals(0, output.size());
+        Mockito.verify(response).setHeader("Content-Range", "bytes */10");
+        Mockito.verify(response).sendError(
+                Mockito.eq(
+                        HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE),
+                Mockito.anyString());
+    }
+
+    @Test
+    public void fileResource_eTagMatches_notModified() throws IOException {
+        handler.handleRequest(session, request, response);
+        ArgumentCaptor<String> eTag = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(response).setHeader(Mockito.eq("ETag"),
+                eTag.capture());
+        output.reset();
+
+        Mockito.when(request.getHeader("If-None-Match"))
+                .thenReturn("\"other\", " + eTag.getValue());
+        handler.handleRequest(session, request, response);
+
+        Assert.assertEquals(0, output.size());
+        Mockito.verify(response)
+                .setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    }
+
+    @Test
+    public void parseRange() {
+        assertRange(0, 9, "bytes=0-");
+        assertRange(3, 9, "bytes=3-100");
+        assertRange(7, 9, "bytes=-3");
+        assertRange(0, 9, "bytes=-30");
+
+        Assert.assertSame(StreamResourceRequestHandler.UNSATISFIABLE_RANGE,
+                StreamResourceRequestHandler.parseRange("bytes=10-", 10));
+        Assert.assertSame(StreamResourceRequestHandler.UNSATISFIABLE_RANGE,
+                StreamResourceRequestHandler.parseRange("bytes=-0", 10));
+
+        Assert.assertNull(
+                StreamResourceRequestHandler.parseRange("bytes=5-2", 10));
+        Assert.assertNull(
+                StreamResourceRequestHandler.parseRange("bytes=0-1,3-4", 10));
+        Assert.assertNull(
+                StreamResourceRequestHandler.parseRange("items=0-1", 10));
+        Assert.assertNull(
+                StreamResourceRequestHandler.parseRange("bytes=a-b", 10));
+    }
+
+    private static void assertRange(long first, long last, String range) {
+        Assert.assertArrayEquals(new long[] { first, last },
+                StreamResourceRequestHandler.parseRange(range, 10));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server.communication;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.server.Command;
+import com.vaadin.ui.Text;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+import com.vaadin.ui.UIInternals.JavaScriptInvocation;
+
+public class UIBroadcasterTest {
+
+    private final UIBroadcaster broadcaster = new UIBroadcaster(Runnable::run,
+            10);
+
+    @Test
+    public void broadcast_allUIsUpdated() {
+        List<UI> uis = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            uis.add(createUI());
+        }
+        AtomicInteger updates = new AtomicInteger();
+
+        CompletableFuture<Void> future = broadcaster.broadcast(uis,
+                ui -> updates.incrementAndGet());
+
+        Assert.assertTrue(future.isDone());
+        Assert.assertEquals(25, updates.get());
+    }
+
+    @Test
+    public void broadcast_detachedUI_otherUIsUpdated() {
+        UI detached = Mockito.mock(UI.class);
+        Mockito.when(detached.access(Mockito.any(Command.class)))
+                .thenThrow(new UIDetachedException());
+        AtomicInteger updates = new AtomicInteger();
+
+        broadcaster.broadcast(Arrays.asList(createUI(), detached, createUI()),
+                ui -> updates.incrementAndGet());
+
+        Assert.assertEquals(2, updates.get());
+    }
+
+    @Test
+    public void executeJavaScript_invocationSharedByUIs() {
+        UI first = createUI();
+        UI second = createUI();
+
+        broadcaster.executeJavaScript(Arrays.asList(first, second),
+                "console.log($0)", "message");
+
+        List<JavaScriptInvocation> firstInvocations = first.getInternals()
+                .dumpPendingJavaScriptInvocations();
+        List<JavaScriptInvocation> secondInvocations = second.getInternals()
+                .dumpPendingJavaScriptInvocations();
+        Assert.assertEquals(1, firstInvocations.size());
+        Assert.assertSame(firstInvocations.get(0), secondInvocations.get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void executeJavaScript_componentParameter_throws() {
+        broadcaster.executeJavaScript(Arrays.asList(createUI()), "$0.focus()",
+                new Text("text"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroBatchSize_throws() {
+        new UIBroadcaster(Runnable::run, 0);
+    }
+
+    private static UI createUI() {
+        UI ui = Mockito.spy(new UI());
+        Mockito.doAnswer(invocation -> {
+            ((Command) invocation.getArguments()[0]).execute();
+            return null;
+        }).when(ui).access(Mockito.any(Command.class));
+        return ui;
+    }
+}
@@ -21,6 +21,8 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
@@ -30,6 +32,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -220,6 +224,36 @@ public class UidlWriterTest {
         assertTrue(JsonUtils.jsonEquals(expectedJson, json));
     }
 
+    @Test
+    public void encodeExecuteJavaScript_sharedInvocation_encodingReused() {
+        JavaScriptInvocation invocation = new JavaScriptInvocation(
+                "console.log($0)", "shared");
+        List<JavaScriptInvocation> executeJavaScriptList = Collections
+                .singletonList(invocation);
+
+        JsonArray first = UidlWriter
+                .encodeExecuteJavaScriptList(executeJavaScriptList);
+        JsonArray second = UidlWriter
+                .encodeExecuteJavaScriptList(executeJavaScriptList);
+
+        assertSame(first.get(0), second.get(0));
+    }
+
+    @Test
+    public void encodeExecuteJavaScript_elementParameter_encodingNotReused() {
+        JavaScriptInvocation invocation = new JavaScriptInvocation(
+                "$0.focus()", ElementFactory.createDiv());
+        List<JavaScriptInvocation> executeJavaScriptList = Collections
+                .singletonList(invocation);
+
+        JsonArray first = UidlWriter
+                .encodeExecuteJavaScriptList(executeJavaScriptList);
+        JsonArray second = UidlWriter
+                .encodeExecuteJavaScriptList(executeJavaScriptList);
+
+        assertNotSame(first.get(0), second.get(0));
+    }
+
     @Test
     public void testComponentDependencies() {
         UI ui = initializeUIForDependenciesTest(new TestUI());
@@ -412,6 +446,36 @@ public class UidlWriterTest {
         }
     }
 
+    @Test
+    public void writeUidl_producesSameContentAsCreateUidl()
+            throws IOException {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        UidlWriter uidlWriter = new UidlWriter();
+        addInitialComponentDependencies(ui, uidlWriter);
+
+        ui.add(new ChildComponent());
+
+        StringWriter writer = new StringWriter();
+        uidlWriter.writeUidl(ui, false, writer);
+        JsonObject response = Json.parse(writer.toString());
+
+        assertTrue("Expected to have changes in uidl",
+                response.hasKey("changes"));
+        assertTrue(response.getArray("changes").length() > 0);
+        assertEquals(12, getDependenciesMap(response).size());
+        assertTrue(response.hasKey(ApplicationConstants.SERVER_SYNC_ID));
+        assertTrue(response.hasKey(ApplicationConstants.CLIENT_TO_SERVER_ID));
+
+        // nothing has changed since the previous response
+        writer = new StringWriter();
+        uidlWriter.writeUidl(ui, false, writer);
+        response = Json.parse(writer.toString());
+
+        assertFalse("Did not expect to have changes in uidl",
+                response.hasKey("changes"));
+        assertFalse(response.hasKey(LoadMode.EAGER.name()));
+    }
+
     private void assertInlineDependencies(List<JsonObject> inlineDependencies,
             String expectedPrefix) {
         assertThat("Should have 3 inline dependencies", inlineDependencies,
@@ -132,6 +132,27 @@ public class PublishedServerEventHandlerRpcHandlerTest {
         }
     }
 
+    public static class ComponentWithOverriddenHandler
+            extends ComponentWithMethod {
+
+        private int subClassInvocations;
+
+        @EventHandler
+        private void method() {
+            subClassInvocations++;
+        }
+    }
+
+    public static class ComponentWithStaticMethod extends ComponentWithMethod {
+
+        private static String staticArg;
+
+        @EventHandler
+        private static void staticMethod(String arg) {
+            staticArg = arg;
+        }
+    }
+
     @Before
     public void setUp() {
         Assert.assertNull(System.getSecurityManager());
@@ -146,6 +167,29 @@ public class PublishedServerEventHandlerRpcHandlerTest {
         Assert.assertTrue(component.isInvoked);
     }
 
+    @Test
+    public void methodInSubClassHidesSuperClassMethod_invokedRepeatedly() {
+        ComponentWithOverriddenHandler component = new ComponentWithOverriddenHandler();
+        PublishedServerEventHandlerRpcHandler.invokeMethod(component,
+                component.getClass(), "method", Json.createArray());
+        PublishedServerEventHandlerRpcHandler.invokeMethod(component,
+                component.getClass(), "method", Json.createArray());
+
+        Assert.assertEquals(2, component.subClassInvocations);
+        Assert.assertFalse(((ComponentWithMethod) component).isInvoked);
+    }
+
+    @Test
+    public void staticMethodIsInvoked() {
+        JsonArray args = Json.createArray();
+        args.set(0, "foo");
+        ComponentWithStaticMethod component = new ComponentWithStaticMethod();
+        PublishedServerEventHandlerRpcHandler.invokeMethod(component,
+                component.getClass(), "staticMethod", args);
+
+        Assert.assertEquals("foo", ComponentWithStaticMethod.staticArg);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void methodWithoutArgs_argsProvided() {
         JsonArray args = Json.createArray();
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server.startup;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StartupIndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private JavaCompiler compiler;
+    private File sources;
+    private File output;
+    private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+    @Before
+    public void init() throws IOException {
+        compiler = ToolProvider.getSystemJavaCompiler();
+        Assume.assumeNotNull(compiler);
+        sources = temporaryFolder.newFolder();
+        output = temporaryFolder.newFolder();
+    }
+
+    @Test
+    public void routesIndexed() throws IOException {
+        File main = writeSource("MainView",
+                "@com.vaadin.router.Route(\"\") @com.vaadin.ui.Tag(\"div\")",
+                "extends com.vaadin.ui.Component");
+        File notComponent = writeSource("NotComponent",
+                "@com.vaadin.router.Route(\"foo\")", "");
+
+        Assert.assertTrue(errors.toString(), compile(main, notComponent));
+
+        Assert.assertEquals(Collections.singletonList("test.MainView"),
+                readIndex(StartupIndex.ROUTES_RESOURCE));
+        Assert.assertEquals(Collections.emptyList(),
+                readIndex(StartupIndex.CUSTOM_ELEMENTS_RESOURCE));
+    }
+
+    @Test
+    public void incrementalCompile_previousEntriesKept() throws IOException {
+        File main = writeSource("MainView",
+                "@com.vaadin.router.Route(\"\") @com.vaadin.ui.Tag(\"div\")",
+                "extends com.vaadin.ui.Component");
+        File other = writeSource("OtherView",
+                "@com.vaadin.router.Route(\"other\") @com.vaadin.ui.Tag(\"div\")",
+                "extends com.vaadin.ui.Component");
+        Assert.assertTrue(errors.toString(), compile(main, other));
+
+        // OtherView no longer a route
+        other = writeSource("OtherView", "", "extends com.vaadin.ui.Component");
+        Assert.assertTrue(errors.toString(), compile(other));
+
+        Assert.assertEquals(Collections.singletonList("test.MainView"),
+                readIndex(StartupIndex.ROUTES_RESOURCE));
+    }
+
+    @Test
+    public void routeWithParentLayout_compilationFails() throws IOException {
+        File faulty = writeSource("Faulty",
+                "@com.vaadin.router.Route(\"\") @com.vaadin.ui.Tag(\"div\") "
+                        + "@com.vaadin.router.ParentLayout(test.Faulty.class)",
+                "extends com.vaadin.ui.Component implements com.vaadin.router.RouterLayout");
+
+        Assert.assertFalse(compile(faulty));
+        Assert.assertTrue(errors.toString(),
+                errors.toString().contains("@ParentLayout"));
+    }
+
+    private File writeSource(String className, String annotations,
+            String declaration) throws IOException {
+        File file = new File(sources, "test/" + className + ".java");
+        file.getParentFile().mkdirs();
+        String source = "package test;\n" + annotations + "\npublic class "
+                + className + " " + declaration + " {}\n";
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private boolean compile(File... files) {
+        String[] options = { "-processor",
+                StartupIndexProcessor.class.getName(), "-classpath",
+                System.getProperty("java.class.path") + File.pathSeparator
+                        + output.getPath(),
+                "-d", output.getPath() };
+        String[] arguments = new String[options.length + files.length];
+        System.arraycopy(options, 0, arguments, 0, options.length);
+        for (int i = 0; i < files.length; i++) {
+            arguments[options.length + i] = files[i].getPath();
+        }
+        return compiler.run(null, null, errors, arguments) == 0;
+    }
+
+    private List<String> readIndex(String resourceName) throws IOException {
+        return Files.readAllLines(new File(output, resourceName).toPath(),
+                StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.server.startup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.vaadin.router.Route;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.Tag;
+
+public class StartupIndexTest {
+
+    @Route("indexed")
+    @Tag(Tag.DIV)
+    public static class IndexedRoute extends Component {
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void load_noIndex_empty() {
+        Assert.assertFalse(StartupIndex
+                .load(new URLClassLoader(new URL[0], null)).isPresent());
+    }
+
+    @Test
+    public void load_indexedClassesLoaded() throws IOException {
+        ClassLoader classLoader = createIndex(StartupIndex.ROUTES_RESOURCE,
+                "# Generated", IndexedRoute.class.getName());
+
+        Optional<StartupIndex> index = StartupIndex.load(classLoader);
+
+        Assert.assertTrue(index.isPresent());
+        Assert.assertEquals(Collections.singleton(IndexedRoute.class),
+                index.get().getRoutes());
+        Assert.assertTrue(index.get().getCustomElements().isEmpty());
+    }
+
+    @Test
+    public void load_missingClass_ignored() throws IOException {
+        ClassLoader classLoader = createIndex(StartupIndex.ROUTES_RESOURCE,
+                "com.example.RemovedRoute", IndexedRoute.class.getName());
+
+        Assert.assertEquals(Collections.singleton(IndexedRoute.class),
+                StartupIndex.load(classLoader).get().getRoutes());
+    }
+
+    private ClassLoader createIndex(String resourceName, String... lines)
+            throws IOException {
+        File root = temporaryFolder.newFolder();
+        File resource = new File(root, resourceName);
+        Assert.assertTrue(resource.getParentFile().mkdirs());
+        Files.write(resource.toPath(), Arrays.asList(lines),
+                StandardCharsets.UTF_8);
+        return new URLClassLoader(new URL[] { root.toURI().toURL() },
+                getClass().getClassLoader());
+    }
+}
@@ -20,7 +20,10 @@ import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertThat;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -36,9 +39,12 @@ import org.jsoup.nodes.Node;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
+import com.vaadin.function.DeploymentConfiguration;
 import com.vaadin.server.DependencyFilter;
 import com.vaadin.server.VaadinRequest;
 import com.vaadin.server.VaadinService;
@@ -79,6 +85,37 @@ public class DefaultTemplateParserTest {
 
     }
 
+    @Tag("foo")
+    @HtmlImport("/cached.html")
+    private static class ProductionCachedTemplate
+            extends PolymerTemplate<ModelClass> {
+
+    }
+
+    @Tag("foo")
+    @HtmlImport("/cached.html")
+    private static class DevelopmentCachedTemplate
+            extends PolymerTemplate<ModelClass> {
+
+    }
+
+    @Tag("foo")
+    @HtmlImport("/cached.html")
+    private static class DevelopmentNotCachedTemplate
+            extends PolymerTemplate<ModelClass> {
+
+    }
+
+    @Tag("foo")
+    @HtmlImport("/cached.html")
+    private static class BrowserSpecificCachedTemplate
+            extends PolymerTemplate<ModelClass> {
+
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private ServletContext context;
 
     private VaadinUriResolver resolver;
@@ -107,6 +144,8 @@ public class DefaultTemplateParserTest {
                 .thenReturn("bar1.html");
         Mockito.when(resolver.resolveVaadinUri("/bundle.html"))
                 .thenReturn("bundle.html");
+        Mockito.when(resolver.resolveVaadinUri("/cached.html"))
+                .thenReturn("cached.html");
 
         VaadinUriResolverFactory factory = rqst -> resolver;
         Mockito.when(session.getAttribute(VaadinUriResolverFactory.class))
@@ -348,4 +387,104 @@ public class DefaultTemplateParserTest {
         parser.getTemplateContent(ImportsInspectTemplate.class, "foo");
     }
 
+    @Test
+    public void defaultParser_productionMode_templateIsParsedOnce() {
+        setProductionMode(true);
+        Mockito.when(context.getResourceAsStream("/cached.html"))
+                .thenReturn(getCachedTemplateContent());
+
+        DefaultTemplateParser parser = new DefaultTemplateParser();
+        Element first = parser
+                .getTemplateContent(ProductionCachedTemplate.class, "foo");
+        Element second = new DefaultTemplateParser()
+                .getTemplateContent(ProductionCachedTemplate.class, "foo");
+
+        Assert.assertNotNull(first.getElementById("foo"));
+        Assert.assertNotNull(second.getElementById("foo"));
+        Assert.assertNotSame("Each caller should get its own copy", first,
+                second);
+        Mockito.verify(context, Mockito.times(1))
+                .getResourceAsStream("/cached.html");
+    }
+
+    @Test
+    public void defaultParser_productionMode_templateIsCachedPerResolvedPath() {
+        setProductionMode(true);
+        Mockito.when(resolver.resolveVaadinUri("/cached.html")).thenReturn(
+                "es6/cached.html", "es5/cached.html", "es6/cached.html");
+        Mockito.when(context.getResourceAsStream("/es6/cached.html"))
+                .thenReturn(getCachedTemplateContent());
+        Mockito.when(context.getResourceAsStream("/es5/cached.html"))
+                .thenReturn(getCachedTemplateContent());
+
+        DefaultTemplateParser parser = new DefaultTemplateParser();
+        parser.getTemplateContent(BrowserSpecificCachedTemplate.class, "foo");
+        parser.getTemplateContent(BrowserSpecificCachedTemplate.class, "foo");
+        parser.getTemplateContent(BrowserSpecificCachedTemplate.class, "foo");
+
+        Mockito.verify(context, Mockito.times(1))
+                .getResourceAsStream("/es6/cached.html");
+        Mockito.verify(context, Mockito.times(1))
+                .getResourceAsStream("/es5/cached.html");
+    }
+
+    @Test
+    public void defaultParser_developmentMode_templateIsReparsedWhenModified()
+            throws IOException {
+        setProductionMode(false);
+        File file = temporaryFolder.newFile("cached.html");
+        Files.write(file.toPath(),
+                "<dom-module id='foo'></dom-module>"
+                        .getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(file.setLastModified(1000000L));
+
+        Mockito.when(context.getResource("/cached.html"))
+                .thenReturn(file.toURI().toURL());
+        Mockito.when(context.getResourceAsStream("/cached.html")).thenReturn(
+                getCachedTemplateContent(), getCachedTemplateContent());
+
+        DefaultTemplateParser parser = new DefaultTemplateParser();
+        parser.getTemplateContent(DevelopmentCachedTemplate.class, "foo");
+        parser.getTemplateContent(DevelopmentCachedTemplate.class, "foo");
+
+        Mockito.verify(context, Mockito.times(1))
+                .getResourceAsStream("/cached.html");
+
+        Assert.assertTrue(file.setLastModified(2000000L));
+        Element element = parser
+                .getTemplateContent(DevelopmentCachedTemplate.class, "foo");
+
+        Assert.assertNotNull(element.getElementById("foo"));
+        Mockito.verify(context, Mockito.times(2))
+                .getResourceAsStream("/cached.html");
+    }
+
+    @Test
+    public void defaultParser_developmentModeWithoutModificationInfo_templateIsNotCached() {
+        setProductionMode(false);
+        Mockito.when(context.getResourceAsStream("/cached.html")).thenReturn(
+                getCachedTemplateContent(), getCachedTemplateContent());
+
+        DefaultTemplateParser parser = new DefaultTemplateParser();
+        parser.getTemplateContent(DevelopmentNotCachedTemplate.class, "foo");
+        parser.getTemplateContent(DevelopmentNotCachedTemplate.class, "foo");
+
+        Mockito.verify(context, Mockito.times(2))
+                .getResourceAsStream("/cached.html");
+    }
+
+    private void setProductionMode(boolean productionMode) {
+        DeploymentConfiguration configuration = Mockito
+                .mock(DeploymentConfiguration.class);
+        Mockito.when(configuration.isProductionMode())
+                .thenReturn(productionMode);
+        Mockito.when(service.getDeploymentConfiguration())
+                .thenReturn(configuration);
+    }
+
+    private static ByteArrayInputStream getCachedTemplateContent() {
+        return new ByteArrayInputStream("<dom-module id='foo'></dom-module>"
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
 }
@@ -26,6 +26,9 @@ import java.util.Set;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.vaadin.ui.common.JsonSerializable;
+
+import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonBoolean;
 import elemental.json.JsonNull;
@@ -725,6 +728,65 @@ public class JsonSerializerTest {
         return null;
     }
 
+    public static class ObjectWithFailingGetter {
+        public String getValue() {
+            throw new IllegalStateException("Cannot read value");
+        }
+    }
+
+    @Test
+    public void serializeObjectWithFailingGetter_throwsWithCause() {
+        try {
+            JsonSerializer.toJson(new ObjectWithFailingGetter());
+            Assert.fail("Serialization should fail");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(
+                    e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void serializeSameTypeRepeatedly_eachInstanceSerialized() {
+        for (int i = 0; i < 3; i++) {
+            ObjectWithSimpleTypes bean = new ObjectWithSimpleTypes();
+            bean.setStringProperty("value" + i);
+            bean.setIntProperty(i);
+
+            JsonObject json = (JsonObject) JsonSerializer.toJson(bean);
+            Assert.assertEquals("value" + i, json.getString("stringProperty"));
+            Assert.assertEquals(i, json.getNumber("intProperty"), PRECISION);
+
+            ObjectWithSimpleTypes copy = JsonSerializer
+                    .toObject(ObjectWithSimpleTypes.class, json);
+            Assert.assertEquals("value" + i, copy.getStringProperty());
+            Assert.assertEquals(i, copy.getIntProperty());
+        }
+    }
+
+    public static enum JsonSerializableEnum implements JsonSerializable {
+        VALUE;
+
+        @Override
+        public JsonObject toJson() {
+            JsonObject json = Json.createObject();
+            json.put("custom", name());
+            return json;
+        }
+
+        @Override
+        public JsonSerializable readJson(JsonObject value) {
+            return this;
+        }
+    }
+
+    @Test
+    public void serializeJsonSerializableEnum_usesOwnJsonFormat() {
+        JsonValue json = JsonSerializer.toJson(JsonSerializableEnum.VALUE);
+
+        Assert.assertTrue(json instanceof JsonObject);
+        Assert.assertEquals("VALUE", ((JsonObject) json).getString("custom"));
+    }
+
     private void assertObjectHasNullValueForKey(JsonObject object, String key) {
         Assert.assertTrue(key + " should be present in the JsonObject",
                 object.hasKey(key));
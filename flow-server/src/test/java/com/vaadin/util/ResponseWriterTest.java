@@ -24,6 +24,8 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.GZIPOutputStream;
@@ -41,6 +43,7 @@ import org.junit.Test;
 import org.mockito.Matchers;
 import org.mockito.Mockito;
 
+import com.vaadin.function.DeploymentConfiguration;
 import com.vaadin.server.VaadinService;
 
 /**
@@ -245,6 +248,106 @@ public class ResponseWriterTest {
                 responseContentLength.get());
     }
 
+    @Test
+    public void acceptsBrotliResource() {
+        Assert.assertTrue(acceptsBrotliResource("gzip, deflate, br"));
+        Assert.assertTrue(acceptsBrotliResource("br;q=0.5"));
+        Assert.assertTrue(acceptsBrotliResource("*"));
+        Assert.assertFalse(acceptsBrotliResource("gzip, br;q=0"));
+        Assert.assertFalse(acceptsBrotliResource("gzip"));
+        Assert.assertFalse(acceptsBrotliResource(null));
+    }
+
+    private boolean acceptsBrotliResource(String acceptEncodingHeader) {
+        Mockito.when(request.getHeader("Accept-Encoding"))
+                .thenReturn(acceptEncodingHeader);
+        return responseWriter.acceptsBrotliResource(request);
+    }
+
+    @Test
+    public void productionMode_writeDataBrotliPreferred() throws IOException {
+        Map<String, String> headers = captureHeaders();
+        ResponseWriter writer = createProductionModeWriter();
+        Mockito.when(request.getHeader("Accept-Encoding"))
+                .thenReturn("gzip, deflate, br");
+        byte[] brotliContents = "brotli".getBytes(StandardCharsets.UTF_8);
+        URL fileJsURL = setupPrecompressedFile(brotliContents);
+
+        CapturingServletOutputStream out = new CapturingServletOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(out);
+        writer.writeResponseContents("/static/file.js", fileJsURL, request,
+                response);
+
+        Assert.assertArrayEquals(brotliContents, out.getOutput());
+        Assert.assertEquals("br", headers.get("Content-Encoding"));
+        Assert.assertEquals("Accept-Encoding", headers.get("Vary"));
+        Assert.assertTrue(headers.get("ETag").endsWith("-br\""));
+    }
+
+    @Test
+    public void productionMode_matchingETag_notModified() throws IOException {
+        Map<String, String> headers = captureHeaders();
+        ResponseWriter writer = createProductionModeWriter();
+        URL fileJsURL = setupPrecompressedFile(
+                "brotli".getBytes(StandardCharsets.UTF_8));
+
+        Mockito.when(response.getOutputStream())
+                .thenReturn(new CapturingServletOutputStream());
+        writer.writeResponseContents("/static/file.js", fileJsURL, request,
+                response);
+        String eTag = headers.get("ETag");
+        Assert.assertNotNull(eTag);
+        Assert.assertNull(headers.get("Content-Encoding"));
+
+        Mockito.when(request.getHeader("If-None-Match"))
+                .thenReturn("\"other\", " + eTag);
+        CapturingServletOutputStream out = new CapturingServletOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(out);
+        writer.writeResponseContents("/static/file.js", fileJsURL, request,
+                response);
+
+        Assert.assertEquals(0, out.getOutput().length);
+        Mockito.verify(response)
+                .setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        // Precompressed variants are looked up only once
+        Mockito.verify(servletContext, Mockito.times(1))
+                .getResource("/static/file.js.br");
+    }
+
+    private ResponseWriter createProductionModeWriter() {
+        DeploymentConfiguration configuration = Mockito
+                .mock(DeploymentConfiguration.class);
+        Mockito.when(configuration.isProductionMode()).thenReturn(true);
+        return new ResponseWriter(configuration);
+    }
+
+    private URL setupPrecompressedFile(byte[] brotliContents)
+            throws IOException {
+        String fileJsContents = "File.js contents";
+        URL fileJsURL = createFileURLWithDataAndLength("/static/file.js",
+                fileJsContents.getBytes(StandardCharsets.UTF_8));
+        Mockito.when(servletContext.getResource("/static/file.js"))
+                .thenReturn(fileJsURL);
+        Mockito.when(servletContext.getResource("/static/file.js.br"))
+                .thenReturn(createFileURLWithDataAndLength(
+                        "/static/file.js.br", brotliContents));
+        Mockito.when(servletContext.getResource("/static/file.js.gz"))
+                .thenReturn(createFileURLWithDataAndLength(
+                        "/static/file.js.gz", gzip(fileJsContents)));
+        return fileJsURL;
+    }
+
+    private Map<String, String> captureHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        Mockito.doAnswer(invocation -> {
+            headers.put((String) invocation.getArguments()[0],
+                    (String) invocation.getArguments()[1]);
+            return null;
+        }).when(response).setHeader(Matchers.anyString(),
+                Matchers.anyString());
+        return headers;
+    }
+
     private byte[] gzip(String input) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         try (GZIPOutputStream stream = new GZIPOutputStream(baos)) {
@@ -19,7 +19,9 @@ import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,6 +47,7 @@ import com.vaadin.server.startup.AbstractCustomElementRegistryInitializer;
 import com.vaadin.server.startup.AbstractRouteRegistryInitializer;
 import com.vaadin.server.startup.CustomElementRegistry;
 import com.vaadin.server.startup.RouteRegistry;
+import com.vaadin.server.startup.StartupIndex;
 import com.vaadin.ui.Component;
 import com.vaadin.ui.Tag;
 
@@ -66,6 +69,17 @@ import com.vaadin.ui.Tag;
 public class VaadinServletContextInitializer
         implements ServletContextInitializer {
 
+    /**
+     * The name of the Spring environment property that makes the routes and
+     * custom elements be registered only from the {@link StartupIndex}, if
+     * the application has one, without scanning the application packages for
+     * them. Set it to <code>true</code> when the index is always generated
+     * for all the application classes, e.g. by the build, to skip the
+     * classpath scanning on startup. Error navigation targets are not indexed
+     * and are always scanned.
+     */
+    public static final String STARTUP_INDEX_ONLY_PROPERTY = "vaadin.startupIndexOnly";
+
     private ApplicationContext appContext;
 
     private class RouteServletContextListener extends
@@ -80,8 +94,14 @@ public class VaadinServletContextInitializer
             }
 
             try {
-                Set<Class<? extends Component>> navigationTargets = validateRouteClasses(
-                        findByAnnotation(getRoutePackages(), Route.class));
+                Optional<StartupIndex> index = StartupIndex
+                        .load(event.getServletContext());
+                Stream<Class<?>> classes = isIndexOnly(index) ? Stream.empty()
+                        : findByAnnotation(getRoutePackages(), Route.class);
+                Set<Class<? extends Component>> navigationTargets = index
+                        .isPresent()
+                                ? validateRouteClasses(index.get(), classes)
+                                : validateRouteClasses(classes);
 
                 registry.setNavigationTargets(navigationTargets);
             } catch (InvalidRouteConfigurationException e) {
@@ -108,8 +128,13 @@ public class VaadinServletContextInitializer
                 return;
             }
 
-            registry.setCustomElements(filterCustomElements(
-                    findByAnnotation(getCustomElementPackages(), Tag.class)));
+            Optional<StartupIndex> index = StartupIndex
+                    .load(event.getServletContext());
+            Stream<Class<?>> classes = isIndexOnly(index) ? Stream.empty()
+                    : findByAnnotation(getCustomElementPackages(), Tag.class);
+            registry.setCustomElements(index.isPresent()
+                    ? filterCustomElements(index.get(), classes)
+                    : filterCustomElements(classes));
         }
 
         @Override
@@ -194,6 +219,19 @@ public class VaadinServletContextInitializer
 
     }
 
+    private boolean isIndexOnly(Optional<StartupIndex> index) {
+        boolean indexOnly = appContext.getEnvironment().getProperty(
+                STARTUP_INDEX_ONLY_PROPERTY, Boolean.class, Boolean.FALSE);
+        if (indexOnly && !index.isPresent()) {
+            getLogger().warning(() -> String.format(
+                    "'%s' is set but the application has no startup index, "
+                            + "scanning the application packages instead",
+                    STARTUP_INDEX_ONLY_PROPERTY));
+            return false;
+        }
+        return indexOnly;
+    }
+
     private Stream<Class<?>> findByAnnotation(Collection<String> packages,
             Class<? extends Annotation> annotation) {
         ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(
@@ -255,4 +293,9 @@ public class VaadinServletContextInitializer
         return Collections.emptyList();
     }
 
+    private static Logger getLogger() {
+        return Logger
+                .getLogger(VaadinServletContextInitializer.class.getName());
+    }
+
 }